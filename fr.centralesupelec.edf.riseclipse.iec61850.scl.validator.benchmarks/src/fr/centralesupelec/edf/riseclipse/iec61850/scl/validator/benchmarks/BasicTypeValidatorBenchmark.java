@@ -0,0 +1,92 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.DA;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.SclFactory;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.Val;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd.BasicTypeValidator;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd.NsdValidationContext;
+
+/*
+ * Check of one value by a basic type validator, these validators do not depend on NSD files.
+ * The value is given to the validator as the Val of a DA, as for a DA of an SCL file.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class BasicTypeValidatorBenchmark {
+
+    // type:value, the value is valid
+    @Param( {
+        "BOOLEAN:true",
+        "INT32:-123456",
+        "INT32U:4000000000",
+        "FLOAT32:3.14159",
+        "VisString255:RiseClipse",
+        "Timestamp:2024-06-12T10:00:00.000Z",
+        "Quality:0000000000000"
+    } )
+    public String typeAndValue;
+
+    private BasicTypeValidator validator;
+    private DA da;
+    private NsdValidationContext context = NsdValidationContext.of( null );
+
+    @Setup( Level.Trial )
+    public void setup() {
+        BenchmarkInputs.quietConsole();
+        int colon = typeAndValue.indexOf( ':' );
+        String type = typeAndValue.substring( 0, colon );
+        validator = BasicTypeValidator.get( type );
+        da = SclFactory.eINSTANCE.createDA();
+        da.setName( "bench" );
+        da.setBType( type );
+        Val val = SclFactory.eINSTANCE.createVal();
+        val.setValue( typeAndValue.substring( colon + 1 ));
+        da.getVal().add( val );
+    }
+
+    @Benchmark
+    public boolean validateValue() {
+        return validator.validateAbstractDataAttribute( da, context, new BasicDiagnostic() );
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.SCL;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.utilities.SclModelLoader;
+import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
+import fr.centralesupelec.edf.riseclipse.util.TextRiseClipseConsole;
+
+/*
+ * Files used by benchmarks are given with system properties, so that each one can use its own standard NSD and OCL files
+ * and its own SCD files:
+ *   riseclipse.benchmark.nsd          directory searched recursively for NSD files
+ *   riseclipse.benchmark.ocl          directory searched recursively for OCL files
+ *   riseclipse.benchmark.scl.<size>   SCL file, <size> is small, medium or large
+ * When no SCL file is given for a size, one is generated by SclWorkloadGenerator.
+ */
+public class BenchmarkInputs {
+
+    public static final String NSD_PROPERTY = "riseclipse.benchmark.nsd";
+    public static final String OCL_PROPERTY = "riseclipse.benchmark.ocl";
+    public static final String SCL_PROPERTY_PREFIX = "riseclipse.benchmark.scl.";
+
+    private static final List< String > NSD_FILE_EXTENSIONS = List.of( ".nsd", ".snsd", ".appns", ".nsdoc" );
+    private static final List< String > OCL_FILE_EXTENSIONS = List.of( ".ocl" );
+
+    private BenchmarkInputs() {}
+
+    public static @NonNull List< String > nsdFiles() {
+        return files( NSD_PROPERTY, NSD_FILE_EXTENSIONS );
+    }
+
+    public static @NonNull List< String > oclFiles() {
+        return files( OCL_PROPERTY, OCL_FILE_EXTENSIONS );
+    }
+
+    public static @NonNull String sclFile( @NonNull String size ) {
+        String file = System.getProperty( SCL_PROPERTY_PREFIX + size );
+        if( file == null ) {
+            return generatedSclFile( size );
+        }
+        if( ! Files.isReadable( Paths.get( file ))) {
+            throw new IllegalStateException( "Cannot read SCL file " + file );
+        }
+        return file;
+    }
+
+    private static @NonNull String generatedSclFile( @NonNull String size ) {
+        try {
+            Path file = Files.createTempFile( "RiseClipseBenchmark-" + size + "-", ".scd" );
+            file.toFile().deleteOnExit();
+            new SclWorkloadGenerator( SclWorkloadGenerator.Parameters.of( size )).generate( file );
+            return file.toString();
+        }
+        catch( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    /*
+     * Messages are not wanted while measuring
+     */
+    public static @NonNull IRiseClipseConsole quietConsole() {
+        IRiseClipseConsole console = new TextRiseClipseConsole( false );
+        console.setLevel( Severity.EMERGENCY );
+        AbstractRiseClipseConsole.changeConsole( console );
+        return console;
+    }
+
+    public static @NonNull SCL loadScl( @NonNull String sclFile, @NonNull IRiseClipseConsole console ) {
+        SclModelLoader sclLoader = new SclModelLoader();
+        Resource resource = sclLoader.loadWithoutValidation( sclFile );
+        sclLoader.finalizeLoad( console );
+        if(( resource == null ) || resource.getContents().isEmpty() || ! ( resource.getContents().get( 0 ) instanceof SCL )) {
+            throw new IllegalStateException( "Cannot load SCL file " + sclFile );
+        }
+        return ( SCL ) resource.getContents().get( 0 );
+    }
+
+    private static @NonNull String property( @NonNull String name ) {
+        String value = System.getProperty( name );
+        if( value == null ) {
+            throw new IllegalStateException( "System property " + name + " must be set" );
+        }
+        return value;
+    }
+
+    private static @NonNull List< String > files( @NonNull String property, @NonNull List< String > extensions ) {
+        try( Stream< Path > paths = Files.walk( Paths.get( property( property )))) {
+            return paths
+                    .filter( Files::isRegularFile )
+                    .map( Path::toString )
+                    .filter( name -> extensions.stream().anyMatch( ext -> name.toLowerCase().endsWith( ext )))
+                    .sorted()
+                    .toList();
+        }
+        catch( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.centralesupelec.edf.riseclipse.iec61850.nsd.util.NsIdentification;
+import fr.centralesupelec.edf.riseclipse.iec61850.nsd.util.NsdResourceSetImpl;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.AnyLN;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.DO;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.LNodeType;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.SCL;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.SclPackage;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd.DONameValidator;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd.NsdValidator;
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+
+/*
+ * NSD validation of the LN of one SCL file, through the EValidator API of NsdValidator as done by the Diagnostician.
+ * An LN is validated with its LNodeType and the DOType, DAType and EnumType it refers to.
+ * The Diagnostician context map keeps the NsdValidationContext: with a new map, each LNodeType is validated
+ * once as for a new file; with the map filled during setup, only the reuse of the results is measured.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class NsdValidatorsBenchmark {
+
+    @Param( { "medium" } )
+    public String size;
+
+    private NsdValidator nsdValidator;
+    private DONameValidator doNameValidator;
+    private List< String > doNames = new ArrayList<>();
+    private List< AnyLN > anyLNs = new ArrayList<>();
+    private Map< Object, Object > validatedContext = new HashMap<>();
+
+    @Setup( Level.Trial )
+    public void setup() {
+        IRiseClipseConsole console = BenchmarkInputs.quietConsole();
+
+        nsdValidator = new NsdValidator( SclPackage.eINSTANCE );
+        for( String nsdFile : BenchmarkInputs.nsdFiles() ) {
+            nsdValidator.addNsdDocument( nsdFile, console );
+        }
+        nsdValidator.prepare( console, false );
+
+        // Same abbreviations as those used by the NSD validators
+        doNameValidator = new DONameValidator();
+        NsdResourceSetImpl nsdResourceSet = nsdValidator.getNsdLoader().getResourceSet();
+        for( NsIdentification nsIdentification : nsdResourceSet.getNsIdentificationOrderedList( console )) {
+            doNameValidator.addFrom( nsdResourceSet.getAbbreviationStream( nsIdentification, false ));
+        }
+
+        SCL scl = BenchmarkInputs.loadScl( BenchmarkInputs.sclFile( size ), console );
+        if( scl.getDataTypeTemplates() != null ) {
+            for( LNodeType lNodeType : scl.getDataTypeTemplates().getLNodeType() ) {
+                for( DO do_ : lNodeType.getDO() ) {
+                    doNames.add( do_.getName() );
+                }
+            }
+        }
+        for( TreeIterator< EObject > t = scl.eAllContents(); t.hasNext(); ) {
+            EObject object = t.next();
+            if( object instanceof AnyLN ) {
+                anyLNs.add( ( AnyLN ) object );
+            }
+        }
+        if( anyLNs.isEmpty() ) {
+            throw new IllegalStateException( "No LN in SCL file" );
+        }
+
+        validateAnyLNs( validatedContext );
+    }
+
+    private boolean validateAnyLNs( Map< Object, Object > context ) {
+        BasicDiagnostic diagnostics = new BasicDiagnostic();
+        boolean res = true;
+        for( AnyLN anyLN : anyLNs ) {
+            res = nsdValidator.validate( anyLN.eClass(), anyLN, diagnostics, context ) && res;
+        }
+        return res;
+    }
+
+    @Benchmark
+    public boolean validateDoName() {
+        boolean res = true;
+        for( String name : doNames ) {
+            res = doNameValidator.validateDoName( name ) && res;
+        }
+        return res;
+    }
+
+    @Benchmark
+    public boolean validateAnyLN() {
+        return validateAnyLNs( new HashMap<>() );
+    }
+
+    @Benchmark
+    public boolean validateAnyLNAlreadyValidated() {
+        return validateAnyLNs( validatedContext );
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValidatorSCL;
+
+/*
+ * Loading of the standard NSD and OCL files, done once by each run of the tool.
+ * Validators prepared with unchanged files are used again, so the only measured call is the first one
+ * of a new JVM, as for the command line tool.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.SingleShotTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 0 )
+@Measurement( iterations = 1 )
+@Fork( 5 )
+public class PrepareBenchmark {
+
+    @Param( { "nsd", "ocl", "nsd+ocl" } )
+    public String inputs;
+
+    private List< String > nsdFiles;
+    private List< String > oclFiles;
+
+    @Setup( Level.Trial )
+    public void setup() {
+        BenchmarkInputs.quietConsole();
+        nsdFiles = inputs.contains( "nsd" ) ? BenchmarkInputs.nsdFiles() : List.of();
+        oclFiles = inputs.contains( "ocl" ) ? BenchmarkInputs.oclFiles() : List.of();
+    }
+
+    @Benchmark
+    public void prepare() {
+        RiseClipseValidatorSCL.prepare( oclFiles, nsdFiles, false );
+    }
+
+}
@@ -0,0 +1,534 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValidatorSCL;
+import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
+
+/*
+ * Generates reproducible SCL files for scaling tests:
+ *   - IEDs with one LDevice each, the LDevice namespace (ldNs) is chosen among the requested number of namespaces;
+ *     only the first one is a standard namespace, the others exercise the partial validation of unknown namespaces,
+ *   - LN of classes GGIO, MMXU and STMP, each LNodeType variant has a different number of numbered or optional DO
+ *     so that presence conditions and DO names are checked differently,
+ *   - DOType of CDC SPS, INS, ENS, ENC, MV, LPL and DPL, duplicated to get about the requested number of DOType,
+ *     MV uses the constructed attributes AnalogueValue and Unit,
+ *   - a DAI with a value for each attribute which is not a quality or a timestamp, the given rate of them being invalid,
+ *     LN are added to each IED until it has its share of the requested number of DAI.
+ * The same parameters and seed give the same file.
+ */
+public class SclWorkloadGenerator {
+
+    private static final String GENERATOR_CATEGORY = RiseClipseValidatorSCL.VALIDATOR_SCL_CATEGORY + "/Generator";
+
+    private static final String HELP_OPTION         = "--help";
+    private static final String OUTPUT_OPTION       = "--output";
+    private static final String SIZE_OPTION         = "--size";
+    private static final String IEDS_OPTION         = "--ieds";
+    private static final String DAIS_OPTION         = "--dais";
+    private static final String LNODETYPES_OPTION   = "--lnodetypes";
+    private static final String DOTYPES_OPTION      = "--dotypes";
+    private static final String NAMESPACES_OPTION   = "--namespaces";
+    private static final String INVALID_RATE_OPTION = "--invalid-rate";
+    private static final String SEED_OPTION         = "--seed";
+    private static final String FILES_OPTION        = "--files";
+
+    private static final String STANDARD_NAMESPACE = "IEC 61850-7-4:2007B";
+    private static final String OTHER_NAMESPACE    = "RiseClipse-Benchmark-%d:2026A";
+
+    public static class Parameters {
+        public int ieds = 1;
+        public int dais = 10_000;
+        public int lNodeTypes = 10;
+        public int doTypes = 10;
+        public int namespaces = 1;
+        public double invalidRate = 0.0;
+        public long seed = 0;
+
+        /*
+         * Parameters used by benchmarks when no SCL file is given
+         */
+        public static @NonNull Parameters of( @NonNull String size ) {
+            Parameters parameters = new Parameters();
+            switch( size ) {
+            case "small":
+                break;
+            case "medium":
+                parameters.ieds = 20;
+                parameters.dais = 100_000;
+                parameters.lNodeTypes = 50;
+                parameters.doTypes = 40;
+                parameters.namespaces = 2;
+                parameters.invalidRate = 0.01;
+                break;
+            case "large":
+                parameters.ieds = 500;
+                parameters.dais = 1_000_000;
+                parameters.lNodeTypes = 200;
+                parameters.doTypes = 100;
+                parameters.namespaces = 3;
+                parameters.invalidRate = 0.01;
+                break;
+            default:
+                throw new IllegalArgumentException( "Unknown size " + size + ", expecting small, medium or large" );
+            }
+            return parameters;
+        }
+    }
+
+    // Kinds of values, used to generate valid and invalid ones
+    private enum ValueKind { BOOLEAN, INT32, FLOAT32, STRING, ENUM, NAMESPACE, NONE }
+
+    private static class Attribute {
+        private final String name;
+        private final String fc;
+        private final String bType;
+        private final String type;
+        private final ValueKind kind;
+
+        Attribute( String name, String fc, String bType, String type, ValueKind kind ) {
+            this.name = name;
+            this.fc = fc;
+            this.bType = bType;
+            this.type = type;
+            this.kind = kind;
+        }
+    }
+
+    private static class DataObject {
+        private final String name;
+        private final String doType;
+
+        DataObject( String name, String doType ) {
+            this.name = name;
+            this.doType = doType;
+        }
+    }
+
+    private static class NodeType {
+        private final String id;
+        private final String lnClass;
+        private final List< DataObject > dataObjects = new ArrayList<>();
+        private int dais;
+
+        NodeType( String id, String lnClass ) {
+            this.id = id;
+            this.lnClass = lnClass;
+        }
+    }
+
+    private static final Map< String, String[] > ENUM_TYPES = new LinkedHashMap<>();
+    static {
+        ENUM_TYPES.put( "BehaviourModeKind", new String[] { "1", "on", "2", "on-blocked", "3", "test", "4", "test/blocked", "5", "off" } );
+        ENUM_TYPES.put( "HealthKind", new String[] { "1", "Ok", "2", "Warning", "3", "Alarm" } );
+        ENUM_TYPES.put( "CtlModelKind", new String[] {
+                "0", "status-only", "1", "direct-with-normal-security", "2", "sbo-with-normal-security",
+                "3", "direct-with-enhanced-security", "4", "sbo-with-enhanced-security" } );
+        ENUM_TYPES.put( "SIUnit", new String[] { "5", "A", "29", "V", "33", "Hz", "62", "W" } );
+    }
+
+    private static final Map< String, List< Attribute >> DA_TYPES = new LinkedHashMap<>();
+    static {
+        DA_TYPES.put( "AnalogueValue_1", List.of(
+                new Attribute( "f", null, "FLOAT32", null, ValueKind.FLOAT32 )));
+        DA_TYPES.put( "Unit_1", List.of(
+                new Attribute( "SIUnit", null, "Enum", "SIUnit", ValueKind.ENUM )));
+    }
+
+    // Key is the prefix of DOType ids
+    private static final Map< String, String > CDCS = new LinkedHashMap<>();
+    private static final Map< String, List< Attribute >> CDC_ATTRIBUTES = new LinkedHashMap<>();
+    static {
+        Attribute q = new Attribute( "q", "ST", "Quality", null, ValueKind.NONE );
+        Attribute t = new Attribute( "t", "ST", "Timestamp", null, ValueKind.NONE );
+        Attribute mxQ = new Attribute( "q", "MX", "Quality", null, ValueKind.NONE );
+        Attribute mxT = new Attribute( "t", "MX", "Timestamp", null, ValueKind.NONE );
+
+        CDCS.put( "SPS", "SPS" );
+        CDC_ATTRIBUTES.put( "SPS", List.of( new Attribute( "stVal", "ST", "BOOLEAN", null, ValueKind.BOOLEAN ), q, t ));
+        CDCS.put( "INS", "INS" );
+        CDC_ATTRIBUTES.put( "INS", List.of( new Attribute( "stVal", "ST", "INT32", null, ValueKind.INT32 ), q, t ));
+        CDCS.put( "ENS_Beh", "ENS" );
+        CDC_ATTRIBUTES.put( "ENS_Beh", List.of( new Attribute( "stVal", "ST", "Enum", "BehaviourModeKind", ValueKind.ENUM ), q, t ));
+        CDCS.put( "ENS_Health", "ENS" );
+        CDC_ATTRIBUTES.put( "ENS_Health", List.of( new Attribute( "stVal", "ST", "Enum", "HealthKind", ValueKind.ENUM ), q, t ));
+        CDCS.put( "ENC_Mod", "ENC" );
+        CDC_ATTRIBUTES.put( "ENC_Mod", List.of(
+                new Attribute( "stVal", "ST", "Enum", "BehaviourModeKind", ValueKind.ENUM ), q, t,
+                new Attribute( "ctlModel", "CF", "Enum", "CtlModelKind", ValueKind.ENUM )));
+        CDCS.put( "MV", "MV" );
+        CDC_ATTRIBUTES.put( "MV", List.of(
+                new Attribute( "mag", "MX", "Struct", "AnalogueValue_1", ValueKind.NONE ), mxQ, mxT,
+                new Attribute( "units", "CF", "Struct", "Unit_1", ValueKind.NONE )));
+        CDCS.put( "LPL", "LPL" );
+        CDC_ATTRIBUTES.put( "LPL", List.of(
+                new Attribute( "vendor", "DC", "VisString255", null, ValueKind.STRING ),
+                new Attribute( "swRev", "DC", "VisString255", null, ValueKind.STRING ),
+                new Attribute( "d", "DC", "VisString255", null, ValueKind.STRING ),
+                new Attribute( "configRev", "DC", "VisString255", null, ValueKind.STRING ),
+                new Attribute( "ldNs", "EX", "VisString255", null, ValueKind.NAMESPACE )));
+        CDCS.put( "DPL", "DPL" );
+        CDC_ATTRIBUTES.put( "DPL", List.of(
+                new Attribute( "vendor", "DC", "VisString255", null, ValueKind.STRING ),
+                new Attribute( "hwRev", "DC", "VisString255", null, ValueKind.STRING ),
+                new Attribute( "serNum", "DC", "VisString255", null, ValueKind.STRING )));
+    }
+
+    private static final String[] LN_CLASSES = { "GGIO", "MMXU", "STMP" };
+
+    private final @NonNull Parameters parameters;
+    private final int doTypeCopies;
+    private final List< NodeType > nodeTypes = new ArrayList<>();
+    private final NodeType lln0Type;
+    private final NodeType lphdType;
+    private Random random;
+    private BufferedWriter out;
+
+    public SclWorkloadGenerator( @NonNull Parameters parameters ) {
+        if(( parameters.ieds < 1 ) || ( parameters.dais < 1 ) || ( parameters.lNodeTypes < 1 ) || ( parameters.doTypes < 1 )
+                || ( parameters.namespaces < 1 ) || ( parameters.invalidRate < 0.0 ) || ( parameters.invalidRate > 1.0 )) {
+            throw new IllegalArgumentException( "Invalid generator parameters" );
+        }
+        this.parameters = parameters;
+        doTypeCopies = Math.max( 1, ( parameters.doTypes + CDCS.size() - 1 ) / CDCS.size() );
+
+        lln0Type = new NodeType( "LLN0_1", "LLN0" );
+        addDataObject( lln0Type, "Mod", "ENC_Mod", 0 );
+        addDataObject( lln0Type, "Beh", "ENS_Beh", 0 );
+        addDataObject( lln0Type, "Health", "ENS_Health", 0 );
+        addDataObject( lln0Type, "NamPlt", "LPL", 0 );
+
+        lphdType = new NodeType( "LPHD_1", "LPHD" );
+        addDataObject( lphdType, "PhyNam", "DPL", 0 );
+        addDataObject( lphdType, "PhyHealth", "ENS_Health", 0 );
+        addDataObject( lphdType, "Proxy", "SPS", 0 );
+
+        for( int i = 0; i < parameters.lNodeTypes; ++i ) {
+            String lnClass = LN_CLASSES[i % LN_CLASSES.length];
+            // Number of instances of numbered DO, or use of optional DO
+            int n = 1 + i / LN_CLASSES.length;
+            NodeType nodeType = new NodeType( lnClass + "_" + n, lnClass );
+            addDataObject( nodeType, "Beh", "ENS_Beh", i );
+            if( n % 2 == 0 ) {
+                addDataObject( nodeType, "Health", "ENS_Health", i );
+            }
+            switch( lnClass ) {
+            case "GGIO":
+                for( int j = 1; j <= n; ++j ) {
+                    addDataObject( nodeType, "Ind" + j, "SPS", i + j );
+                    addDataObject( nodeType, "AnIn" + j, "MV", i + j );
+                    addDataObject( nodeType, "IntIn" + j, "INS", i + j );
+                }
+                break;
+            case "MMXU":
+                addDataObject( nodeType, "TotW", "MV", i );
+                addDataObject( nodeType, "Hz", "MV", i + 1 );
+                break;
+            case "STMP":
+                addDataObject( nodeType, "Tmp", "MV", i );
+                break;
+            }
+            nodeTypes.add( nodeType );
+        }
+    }
+
+    private void addDataObject( NodeType nodeType, String name, String cdc, int variant ) {
+        // The namespace of the LDevice is in NamPlt, there is only one LPL DOType
+        String doType = cdc.equals( "LPL" ) ? cdc + "_1" : cdc + "_" + ( variant % doTypeCopies + 1 );
+        nodeType.dataObjects.add( new DataObject( name, doType ));
+        for( Attribute attribute : CDC_ATTRIBUTES.get( cdc )) {
+            if( "Struct".equals( attribute.bType )) {
+                nodeType.dais += DA_TYPES.get( attribute.type ).size();
+            }
+            else if( attribute.kind != ValueKind.NONE ) {
+                ++nodeType.dais;
+            }
+        }
+    }
+
+    public void generate( @NonNull Path file ) throws IOException {
+        random = new Random( parameters.seed );
+        try( BufferedWriter writer = Files.newBufferedWriter( file, StandardCharsets.UTF_8 )) {
+            out = writer;
+            line( 0, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" );
+            line( 0, "<SCL xmlns=\"http://www.iec.ch/61850/2003/SCL\" version=\"2007\" revision=\"B\" release=\"4\">" );
+            line( 1, "<Header id=\"RiseClipseBenchmark\" toolID=\"SclWorkloadGenerator\" nameStructure=\"IEDName\"/>" );
+            generateCommunication();
+            for( int ied = 0; ied < parameters.ieds; ++ied ) {
+                generateIED( ied );
+            }
+            generateDataTypeTemplates();
+            line( 0, "</SCL>" );
+        }
+        finally {
+            out = null;
+        }
+    }
+
+    private static String iedName( int ied ) {
+        return String.format( "IED%04d", ied + 1 );
+    }
+
+    private void generateCommunication() throws IOException {
+        line( 1, "<Communication>" );
+        line( 2, "<SubNetwork name=\"StationBus\" type=\"8-MMS\">" );
+        for( int ied = 0; ied < parameters.ieds; ++ied ) {
+            line( 3, "<ConnectedAP iedName=\"" + iedName( ied ) + "\" apName=\"AP1\">" );
+            line( 4, "<Address>" );
+            line( 5, "<P type=\"IP\">10.0." + ( ied / 250 ) + "." + ( ied % 250 + 1 ) + "</P>" );
+            line( 5, "<P type=\"IP-SUBNET\">255.255.0.0</P>" );
+            line( 4, "</Address>" );
+            line( 3, "</ConnectedAP>" );
+        }
+        line( 2, "</SubNetwork>" );
+        line( 1, "</Communication>" );
+    }
+
+    private void generateIED( int ied ) throws IOException {
+        String namespace = ied % parameters.namespaces == 0
+                ? STANDARD_NAMESPACE
+                : String.format( OTHER_NAMESPACE, ied % parameters.namespaces );
+        // The remaining DAIs are shared among the remaining IEDs
+        int dais = parameters.dais / parameters.ieds + ( ied < parameters.dais % parameters.ieds ? 1 : 0 );
+
+        line( 1, "<IED name=\"" + iedName( ied ) + "\" manufacturer=\"RiseClipse\" type=\"Benchmark\" configVersion=\"1.0\">" );
+        line( 2, "<AccessPoint name=\"AP1\">" );
+        line( 3, "<Server>" );
+        line( 4, "<Authentication/>" );
+        line( 4, "<LDevice inst=\"LD1\">" );
+        generateLN( true, lln0Type, "", namespace );
+        dais -= lln0Type.dais;
+        generateLN( false, lphdType, "1", namespace );
+        dais -= lphdType.dais;
+        for( int ln = 0; dais > 0; ++ln ) {
+            NodeType nodeType = nodeTypes.get(( ied + ln ) % nodeTypes.size() );
+            generateLN( false, nodeType, String.valueOf( ln + 1 ), namespace );
+            dais -= nodeType.dais;
+        }
+        line( 4, "</LDevice>" );
+        line( 3, "</Server>" );
+        line( 2, "</AccessPoint>" );
+        line( 1, "</IED>" );
+    }
+
+    private void generateLN( boolean ln0, NodeType nodeType, String inst, String namespace ) throws IOException {
+        String element = ln0 ? "LN0" : "LN";
+        line( 5, "<" + element + " lnClass=\"" + nodeType.lnClass + "\" inst=\"" + inst + "\" lnType=\"" + nodeType.id + "\">" );
+        for( DataObject dataObject : nodeType.dataObjects ) {
+            line( 6, "<DOI name=\"" + dataObject.name + "\">" );
+            String cdc = dataObject.doType.substring( 0, dataObject.doType.lastIndexOf( '_' ));
+            for( Attribute attribute : CDC_ATTRIBUTES.get( cdc )) {
+                if( "Struct".equals( attribute.bType )) {
+                    line( 7, "<SDI name=\"" + attribute.name + "\">" );
+                    for( Attribute bda : DA_TYPES.get( attribute.type )) {
+                        generateDAI( 8, bda, namespace );
+                    }
+                    line( 7, "</SDI>" );
+                }
+                else if( attribute.kind != ValueKind.NONE ) {
+                    generateDAI( 7, attribute, namespace );
+                }
+            }
+            line( 6, "</DOI>" );
+        }
+        line( 5, "</" + element + ">" );
+    }
+
+    private void generateDAI( int indent, Attribute attribute, String namespace ) throws IOException {
+        line( indent, "<DAI name=\"" + attribute.name + "\"><Val>" + value( attribute, namespace ) + "</Val></DAI>" );
+    }
+
+    private String value( Attribute attribute, String namespace ) {
+        // The namespace is always valid, it is needed to find what to check
+        if( attribute.kind == ValueKind.NAMESPACE ) return namespace;
+
+        boolean invalid = random.nextDouble() < parameters.invalidRate;
+        switch( attribute.kind ) {
+        case BOOLEAN:
+            if( invalid ) return "yes";
+            return random.nextBoolean() ? "true" : "false";
+        case INT32:
+            if( invalid ) return "12.5";
+            return String.valueOf( random.nextInt( 2001 ) - 1000 );
+        case FLOAT32:
+            if( invalid ) return "1,5";
+            return String.format( Locale.ROOT, "%.3f", random.nextFloat() * 1000 );
+        case ENUM:
+            if( invalid ) return "unknown-literal";
+            String[] literals = ENUM_TYPES.get( attribute.type );
+            return literals[2 * random.nextInt( literals.length / 2 ) + 1];
+        case STRING:
+            if( invalid ) return "x".repeat( 256 );
+            return "RiseClipse-" + random.nextInt( 1000 );
+        default:
+            return "";
+        }
+    }
+
+    private void generateDataTypeTemplates() throws IOException {
+        line( 1, "<DataTypeTemplates>" );
+        generateLNodeType( lln0Type );
+        generateLNodeType( lphdType );
+        for( NodeType nodeType : nodeTypes ) {
+            generateLNodeType( nodeType );
+        }
+        for( Map.Entry< String, String > cdc : CDCS.entrySet() ) {
+            int copies = cdc.getKey().equals( "LPL" ) ? 1 : doTypeCopies;
+            for( int i = 1; i <= copies; ++i ) {
+                line( 2, "<DOType id=\"" + cdc.getKey() + "_" + i + "\" cdc=\"" + cdc.getValue() + "\">" );
+                for( Attribute attribute : CDC_ATTRIBUTES.get( cdc.getKey() )) {
+                    line( 3, "<DA name=\"" + attribute.name + "\" fc=\"" + attribute.fc + "\" bType=\"" + attribute.bType + "\""
+                            + ( attribute.type != null ? " type=\"" + attribute.type + "\"" : "" ) + "/>" );
+                }
+                line( 2, "</DOType>" );
+            }
+        }
+        for( Map.Entry< String, List< Attribute >> daType : DA_TYPES.entrySet() ) {
+            line( 2, "<DAType id=\"" + daType.getKey() + "\">" );
+            for( Attribute bda : daType.getValue() ) {
+                line( 3, "<BDA name=\"" + bda.name + "\" bType=\"" + bda.bType + "\""
+                        + ( bda.type != null ? " type=\"" + bda.type + "\"" : "" ) + "/>" );
+            }
+            line( 2, "</DAType>" );
+        }
+        for( Map.Entry< String, String[] > enumType : ENUM_TYPES.entrySet() ) {
+            line( 2, "<EnumType id=\"" + enumType.getKey() + "\">" );
+            String[] literals = enumType.getValue();
+            for( int i = 0; i < literals.length; i += 2 ) {
+                line( 3, "<EnumVal ord=\"" + literals[i] + "\">" + literals[i + 1] + "</EnumVal>" );
+            }
+            line( 2, "</EnumType>" );
+        }
+        line( 1, "</DataTypeTemplates>" );
+    }
+
+    private void generateLNodeType( NodeType nodeType ) throws IOException {
+        line( 2, "<LNodeType id=\"" + nodeType.id + "\" lnClass=\"" + nodeType.lnClass + "\">" );
+        for( DataObject dataObject : nodeType.dataObjects ) {
+            line( 3, "<DO name=\"" + dataObject.name + "\" type=\"" + dataObject.doType + "\"/>" );
+        }
+        line( 2, "</LNodeType>" );
+    }
+
+    private void line( int indent, String text ) throws IOException {
+        for( int i = 0; i < indent; ++i ) {
+            out.write( "  " );
+        }
+        out.write( text );
+        out.newLine();
+    }
+
+    private static void usage( @NonNull IRiseClipseConsole console ) {
+        console.setLevel( Severity.INFO );
+        console.info( GENERATOR_CATEGORY, 0,
+                          "java -cp RiseClipseValidatorSCLBenchmarks.jar " + SclWorkloadGenerator.class.getName()
+                        + " " + OUTPUT_OPTION + " <file>"
+                        + " [" + SIZE_OPTION + " small|medium|large]"
+                        + " [" + IEDS_OPTION + " <number>]"
+                        + " [" + DAIS_OPTION + " <number>]"
+                        + " [" + LNODETYPES_OPTION + " <number>]"
+                        + " [" + DOTYPES_OPTION + " <number>]"
+                        + " [" + NAMESPACES_OPTION + " <number>]"
+                        + " [" + INVALID_RATE_OPTION + " <rate between 0 and 1>]"
+                        + " [" + SEED_OPTION + " <number>]"
+                        + " [" + FILES_OPTION + " <number>]" );
+        console.info( GENERATOR_CATEGORY, 0, "\t" + SIZE_OPTION + " gives the parameters used by benchmarks, later options change them," );
+        console.info( GENERATOR_CATEGORY, 0, "\t" + DAIS_OPTION + " is the total number of DAI, shared among IEDs," );
+        console.info( GENERATOR_CATEGORY, 0, "\t" + FILES_OPTION + " generates several files, each with its own seed, their names end with their number." );
+        System.exit( 1 );
+    }
+
+    public static void main( String[] args ) throws IOException {
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
+        Parameters parameters = new Parameters();
+        String output = null;
+        int files = 1;
+
+        try {
+            for( int i = 0; i < args.length; ++i ) {
+                if( HELP_OPTION.equals( args[i] )) usage( console );
+                if( i + 1 == args.length ) {
+                    console.error( GENERATOR_CATEGORY, 0, "Missing value for option ", args[i] );
+                    usage( console );
+                }
+                String value = args[++i];
+                switch( args[i - 1] ) {
+                case OUTPUT_OPTION:       output = value; break;
+                case SIZE_OPTION:         parameters = Parameters.of( value ); break;
+                case IEDS_OPTION:         parameters.ieds = Integer.parseInt( value ); break;
+                case DAIS_OPTION:         parameters.dais = Integer.parseInt( value ); break;
+                case LNODETYPES_OPTION:   parameters.lNodeTypes = Integer.parseInt( value ); break;
+                case DOTYPES_OPTION:      parameters.doTypes = Integer.parseInt( value ); break;
+                case NAMESPACES_OPTION:   parameters.namespaces = Integer.parseInt( value ); break;
+                case INVALID_RATE_OPTION: parameters.invalidRate = Double.parseDouble( value ); break;
+                case SEED_OPTION:         parameters.seed = Long.parseLong( value ); break;
+                case FILES_OPTION:        files = Integer.parseInt( value ); break;
+                default:
+                    console.error( GENERATOR_CATEGORY, 0, "Unrecognized option ", args[i - 1] );
+                    usage( console );
+                }
+            }
+        }
+        catch( IllegalArgumentException e ) {
+            console.error( GENERATOR_CATEGORY, 0, e.getMessage() );
+            usage( console );
+        }
+        if( output == null ) {
+            console.error( GENERATOR_CATEGORY, 0, "Missing ", OUTPUT_OPTION, " option" );
+            usage( console );
+        }
+
+        long seed = parameters.seed;
+        for( int f = 1; f <= files; ++f ) {
+            Path file = Paths.get( output );
+            if( files > 1 ) {
+                String name = file.getFileName().toString();
+                int dot = name.lastIndexOf( '.' );
+                String numbered = dot < 0
+                        ? String.format( "%s-%04d", name, f )
+                        : String.format( "%s-%04d%s", name.substring( 0, dot ), f, name.substring( dot ));
+                file = file.resolveSibling( numbered );
+                parameters.seed = seed + f - 1;
+            }
+            new SclWorkloadGenerator( parameters ).generate( file );
+            console.notice( GENERATOR_CATEGORY, 0, "Generated ", file );
+        }
+    }
+
+}
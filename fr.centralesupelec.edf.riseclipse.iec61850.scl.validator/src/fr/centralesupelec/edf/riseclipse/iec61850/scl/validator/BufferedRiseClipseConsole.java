@@ -0,0 +1,101 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
+
+/*
+ * Keeps the messages of a validated file so that they can be outputted together,
+ * when several files are validated at the same time.
+ */
+public class BufferedRiseClipseConsole implements IRiseClipseConsole {
+
+    private Severity level;
+    private String formatString;
+    private ArrayList< @NonNull RiseClipseMessage > messages = new ArrayList<>();
+
+    public BufferedRiseClipseConsole( @NonNull IRiseClipseConsole model ) {
+        this.level = model.getLevel();
+        this.formatString = model.getFormatString();
+    }
+
+    @Override
+    public void output( RiseClipseMessage message ) {
+        // Messages that will not be displayed are not kept
+        if( message.getSeverity().compareTo( level ) <= 0 ) {
+            messages.add( message );
+        }
+    }
+
+    public List< @NonNull RiseClipseMessage > getMessages() {
+        return messages;
+    }
+
+    public void flushTo( @NonNull IRiseClipseConsole console ) {
+        for( RiseClipseMessage message : messages ) {
+            console.output( message );
+        }
+        messages = new ArrayList<>();
+    }
+
+    @Override
+    public Severity getLevel() {
+        return level;
+    }
+
+    @Override
+    public Severity setLevel( Severity newLevel ) {
+        Severity previous = level;
+        level = newLevel;
+        return previous;
+    }
+
+    @Override
+    public String getFormatString() {
+        return formatString;
+    }
+
+    @Override
+    public String setFormatString( String newFormatString ) {
+        String previous = formatString;
+        formatString = newFormatString;
+        return previous;
+    }
+
+    @Override
+    public void displayIdenticalMessages() {
+        // Duplicates are handled by RiseClipseValidatorSCL
+    }
+
+    @Override
+    public void doNotDisplayIdenticalMessages() {
+        // Duplicates are handled by RiseClipseValidatorSCL
+    }
+
+}
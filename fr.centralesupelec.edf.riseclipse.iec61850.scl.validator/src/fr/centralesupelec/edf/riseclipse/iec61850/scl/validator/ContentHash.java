@@ -0,0 +1,84 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+/*
+ * SHA-256 of strings and file contents, used as keys for what is kept between validations
+ */
+public class ContentHash {
+
+    private final MessageDigest digest;
+
+    public ContentHash() {
+        try {
+            digest = MessageDigest.getInstance( "SHA-256" );
+        }
+        catch( NoSuchAlgorithmException e ) {
+            // Every Java platform must support SHA-256
+            throw new IllegalStateException( e );
+        }
+    }
+
+    public @NonNull ContentHash add( @NonNull String value ) {
+        digest.update( value.getBytes( StandardCharsets.UTF_8 ));
+        // Separator, so that ( "ab", "c" ) and ( "a", "bc" ) give different hashes
+        digest.update(( byte ) 0 );
+        return this;
+    }
+
+    public @NonNull ContentHash addFile( @NonNull Path file ) throws IOException {
+        try( InputStream in = Files.newInputStream( file )) {
+            return addContent( in );
+        }
+    }
+
+    // The stream is not closed
+    public @NonNull ContentHash addContent( @NonNull InputStream in ) throws IOException {
+        byte[] buffer = new byte[8192];
+        int n;
+        while(( n = in.read( buffer )) > 0 ) {
+            digest.update( buffer, 0, n );
+        }
+        digest.update(( byte ) 0 );
+        return this;
+    }
+
+    public @NonNull String get() {
+        return HexFormat.of().formatHex( digest.digest() );
+    }
+
+    public static @NonNull String ofFile( @NonNull Path file ) throws IOException {
+        return new ContentHash().addFile( file ).get();
+    }
+
+}
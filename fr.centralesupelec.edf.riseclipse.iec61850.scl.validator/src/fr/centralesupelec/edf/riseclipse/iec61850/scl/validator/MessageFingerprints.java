@@ -0,0 +1,207 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.util.ArrayList;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+
+/*
+ * Set of the messages already outputted for a file, used to avoid outputting them twice.
+ * Only a 64 bits fingerprint of each message is kept, in an open addressing table of longs
+ * which grows until the given memory ceiling is reached. After that, new messages are no
+ * more remembered: some duplicates may then be outputted, but no message is lost.
+ * In probabilistic mode, Bloom filters are used instead: a small one is created first,
+ * and each time the last one holds as many messages as allowed for its false positive
+ * rate, a new one twice as large is added, until the memory ceiling is reached. There is
+ * no limit on the number of messages, but a few distinct messages may be considered as
+ * duplicates and not outputted.
+ */
+public class MessageFingerprints {
+
+    // Fingerprint 0 marks an empty slot in the table
+    private static final long EMPTY = 0L;
+    private static final int INITIAL_CAPACITY = 1024;
+    // Number of hash functions of the Bloom filter, about 1% of false positives at 10 bits per message
+    private static final int BLOOM_HASHES = 7;
+    private static final int BLOOM_BITS_PER_MESSAGE = 10;
+
+    private final long maxBytes;
+    private final boolean probabilistic;
+
+    private long[] table;
+    private int size;
+    // Bloom filters in probabilistic mode, only the last one is not full
+    private final ArrayList< long[] > filters = new ArrayList<>();
+    private long filtersBytes;
+    private long filterSize;
+    private long filterCapacity;
+    private boolean saturated;
+    private long duplicates;
+
+    public MessageFingerprints( long maxBytes, boolean probabilistic ) {
+        this.maxBytes = maxBytes;
+        this.probabilistic = probabilistic;
+        if( probabilistic ) {
+            // The number of words is a power of two to compute indexes with a mask
+            long words = Long.highestOneBit( Math.max( maxBytes / Long.BYTES, 1 ));
+            addFilter(( int ) Math.min( INITIAL_CAPACITY, words ));
+        }
+        else {
+            table = new long[( int ) Math.min( INITIAL_CAPACITY, Long.highestOneBit( Math.max( maxBytes / Long.BYTES, 2 )))];
+        }
+    }
+
+    /*
+     * Returns true if the message was not already added
+     */
+    public boolean add( @NonNull RiseClipseMessage message ) {
+        boolean added = probabilistic ? bloomAdd( fingerprint( message )) : tableAdd( fingerprint( message ));
+        if( ! added ) ++duplicates;
+        return added;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    /*
+     * True if the memory ceiling has been reached: in exact mode, some messages have not been remembered;
+     * in probabilistic mode, the last Bloom filter holds more messages than allowed for its false positive rate
+     */
+    public boolean isSaturated() {
+        return saturated;
+    }
+
+    private boolean tableAdd( long fingerprint ) {
+        int mask = table.length - 1;
+        for( int i = mix( fingerprint ) & mask; ; i = ( i + 1 ) & mask ) {
+            if( table[i] == fingerprint ) return false;
+            if( table[i] == EMPTY ) {
+                if( saturated ) return true;
+                table[i] = fingerprint;
+                // Load factor kept at or below 0.75
+                if( ++size * 4L > table.length * 3L ) grow();
+                return true;
+            }
+        }
+    }
+
+    private void grow() {
+        if(( table.length * 2L * Long.BYTES > maxBytes ) || ( table.length == Integer.highestOneBit( Integer.MAX_VALUE ))) {
+            saturated = true;
+            return;
+        }
+        long[] old = table;
+        table = new long[old.length * 2];
+        int mask = table.length - 1;
+        for( long fingerprint : old ) {
+            if( fingerprint == EMPTY ) continue;
+            int i = mix( fingerprint ) & mask;
+            while( table[i] != EMPTY ) i = ( i + 1 ) & mask;
+            table[i] = fingerprint;
+        }
+    }
+
+    private void addFilter( int words ) {
+        filters.add( new long[words] );
+        filtersBytes += words * ( long ) Long.BYTES;
+        filterSize = 0;
+        filterCapacity = words * ( long ) Long.SIZE / BLOOM_BITS_PER_MESSAGE;
+    }
+
+    private boolean bloomAdd( long fingerprint ) {
+        int last = filters.size() - 1;
+        for( int i = 0; i < last; ++i ) {
+            if( ! bloomSet( filters.get( i ), fingerprint, false )) return false;
+        }
+        long[] filter = filters.get( last );
+        if( ! bloomSet( filter, fingerprint, true )) return false;
+        if( ++filterSize >= filterCapacity ) {
+            long words = filter.length * 2L;
+            if(( filtersBytes + words * Long.BYTES > maxBytes ) || ( words > Integer.highestOneBit( Integer.MAX_VALUE ))) {
+                saturated = true;
+                filterCapacity = Long.MAX_VALUE;
+            }
+            else {
+                addFilter(( int ) words );
+            }
+        }
+        return true;
+    }
+
+    // Double hashing with the two halves of the fingerprint
+    // Returns true if at least one of the bits was not set, they are all set if asked
+    private static boolean bloomSet( long[] filter, long fingerprint, boolean set ) {
+        long mask = filter.length * ( long ) Long.SIZE - 1;
+        int h1 = ( int ) fingerprint;
+        int h2 = ( int ) ( fingerprint >>> 32 ) | 1;
+        boolean absent = false;
+        for( int k = 0; k < BLOOM_HASHES; ++k ) {
+            long bit = ( h1 + ( long ) k * h2 ) & mask;
+            int word = ( int ) ( bit >>> 6 );
+            long flag = 1L << bit;
+            if(( filter[word] & flag ) == 0 ) {
+                if( ! set ) return true;
+                filter[word] |= flag;
+                absent = true;
+            }
+        }
+        return absent;
+    }
+
+    private static int mix( long fingerprint ) {
+        return ( int ) ( fingerprint ^ ( fingerprint >>> 32 ));
+    }
+
+    // FNV-1a on all the fields of the message, followed by the finalizer of MurmurHash3
+    private static long fingerprint( @NonNull RiseClipseMessage message ) {
+        long h = 0xcbf29ce484222325L;
+        h = hash( h, message.getSeverity().ordinal() );
+        h = hash( h, message.getCategory() );
+        h = hash( h, message.getFilename() );
+        h = hash( h, message.getLineNumber() );
+        h = hash( h, message.getMessage() );
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return ( h == EMPTY ) ? 1L : h;
+    }
+
+    private static long hash( long h, int value ) {
+        return ( h ^ value ) * 0x100000001b3L;
+    }
+
+    private static long hash( long h, String value ) {
+        if( value == null ) return hash( h, -1 );
+        for( int i = 0; i < value.length(); ++i ) {
+            h = ( h ^ value.charAt( i )) * 0x100000001b3L;
+        }
+        // Separates the fields, so that ("ab", "c") and ("a", "bc") differ
+        return hash( h, value.length() );
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+
+/*
+ * Keeps, in the given directory, the hash of each OCL file used by the last run.
+ * The next run reports which OCL files have been added, modified or removed since.
+ * This is only a report: OCL files are always parsed and analysed again by a new run.
+ * The key computed from these hashes tells whether the OCL validator prepared by the same process can be used again.
+ */
+public class OclChangeReport {
+
+    private static final String OCL_CHANGE_REPORT_CATEGORY = RiseClipseValidatorSCL.VALIDATOR_SCL_CATEGORY + "/OclChangeReport";
+    private static final String MANIFEST_FILE_NAME = "ocl-change-report.properties";
+    private static final String TOOL_VERSION_PROPERTY = "tool.version";
+
+    private final @NonNull Path directory;
+
+    public OclChangeReport( @NonNull Path directory ) {
+        this.directory = directory;
+    }
+
+    /*
+     * Returns the hash of each OCL file, in the given order, or null if one of them cannot be read
+     */
+    public static Map< String, String > hashes( @NonNull List< String > oclFiles, @NonNull IRiseClipseConsole console ) {
+        Map< String, String > hashes = new LinkedHashMap<>();
+        for( String oclFile : oclFiles ) {
+            try {
+                hashes.put( oclFile, ContentHash.ofFile( Paths.get( oclFile )));
+            }
+            catch( IOException e ) {
+                console.info( OCL_CHANGE_REPORT_CATEGORY, 0, "Cannot read OCL file ", oclFile, ", it will be loaded again by the next preparation: ", e.getMessage() );
+                return null;
+            }
+        }
+        return hashes;
+    }
+
+    public static @NonNull String key( @NonNull String toolVersion, @NonNull Map< String, String > hashes ) {
+        ContentHash hash = new ContentHash().add( toolVersion );
+        for( Map.Entry< String, String > entry : hashes.entrySet() ) {
+            hash.add( entry.getKey() ).add( entry.getValue() );
+        }
+        return hash.get();
+    }
+
+    /*
+     * Displays what has changed since the last run using this directory, and records the current hashes.
+     * Returns true if nothing has changed.
+     */
+    public boolean update( @NonNull String toolVersion, @NonNull Map< String, String > hashes, @NonNull IRiseClipseConsole console ) {
+        Path manifestFile = directory.resolve( MANIFEST_FILE_NAME );
+        Properties previous = new Properties();
+        if( Files.isReadable( manifestFile )) {
+            try( InputStream in = Files.newInputStream( manifestFile )) {
+                previous.load( in );
+            }
+            catch( IOException e ) {
+                console.warning( OCL_CHANGE_REPORT_CATEGORY, 0, "Cannot read ", manifestFile, ", it is ignored: ", e.getMessage() );
+                previous.clear();
+            }
+        }
+        else {
+            console.notice( OCL_CHANGE_REPORT_CATEGORY, 0, "No previous run recorded in ", directory );
+        }
+
+        List< String > report = new ArrayList<>();
+        String previousVersion = previous.getProperty( TOOL_VERSION_PROPERTY );
+        previous.remove( TOOL_VERSION_PROPERTY );
+        if(( previousVersion != null ) && ! previousVersion.equals( toolVersion )) {
+            report.add( "tool version changed from " + previousVersion + " to " + toolVersion );
+        }
+        for( Map.Entry< String, String > entry : hashes.entrySet() ) {
+            String previousHash = previous.getProperty( entry.getKey() );
+            if( previousHash == null ) {
+                if( ! previous.isEmpty() ) report.add( "added: " + entry.getKey() );
+            }
+            else if( ! previousHash.equals( entry.getValue() )) {
+                report.add( "modified: " + entry.getKey() );
+            }
+        }
+        for( String oclFile : previous.stringPropertyNames() ) {
+            if( ! hashes.containsKey( oclFile )) {
+                report.add( "removed: " + oclFile );
+            }
+        }
+        for( String line : report ) {
+            console.notice( OCL_CHANGE_REPORT_CATEGORY, 0, "OCL files changed since the previous run, ", line );
+        }
+        boolean unchanged = ( previousVersion != null ) && report.isEmpty();
+        if( unchanged ) {
+            console.info( OCL_CHANGE_REPORT_CATEGORY, 0, "OCL files have not changed since the previous run" );
+        }
+
+        Properties current = new Properties();
+        current.setProperty( TOOL_VERSION_PROPERTY, toolVersion );
+        for( Map.Entry< String, String > entry : hashes.entrySet() ) {
+            current.setProperty( entry.getKey(), entry.getValue() );
+        }
+        try {
+            Files.createDirectories( directory );
+            try( OutputStream out = Files.newOutputStream( manifestFile )) {
+                current.store( out, "Hashes of OCL files used by RiseClipseValidatorSCL" );
+            }
+        }
+        catch( IOException e ) {
+            console.warning( OCL_CHANGE_REPORT_CATEGORY, 0, "Cannot write ", manifestFile, ": ", e.getMessage() );
+        }
+        return unchanged;
+    }
+
+}
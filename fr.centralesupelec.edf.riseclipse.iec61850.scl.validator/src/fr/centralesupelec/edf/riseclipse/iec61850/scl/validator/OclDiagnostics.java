@@ -0,0 +1,229 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
+
+/*
+ * The OCL validator gives its results as strings with fields separated by ';'.
+ * They are decoded once, when added to the diagnostic chain, so that OCL diagnostics carry
+ * a RiseClipseMessage in their data like those of the NSD validator.
+ * Recognized messages are:
+ *   severity;OCL category;line;message                        (before 15 April 2022)
+ *   severity;OCL category;filename;line;message               (after 15 April 2022)
+ *   severity;category;subcategory;filename;message;line_<n>   (IEC 61850-6-3, issue #155)
+ * The data of a decoded diagnostic is the validated object, the RiseClipseMessage (null if the structure
+ * of the message is not recognized) and the severity to be taken into account in the exit code (null if
+ * none). As before decoding was done here, a message with 4 fields counts in the exit code even if its
+ * category does not start with OCL, and an unknown severity is displayed as an error but does not count.
+ * Other diagnostics are left unchanged.
+ */
+public class OclDiagnostics {
+
+    private static final char SEPARATOR = ';';
+    // More separators than in any recognized message
+    private static final int MAX_SEPARATORS = 6;
+
+    private OclDiagnostics() {}
+
+    /*
+     * The returned validator must be used instead of the given one
+     */
+    public static @NonNull EValidator wrap( @NonNull EValidator oclValidator ) {
+        return new EValidator() {
+
+            @Override
+            public boolean validate( EObject eObject, DiagnosticChain diagnostics, Map< Object, Object > context ) {
+                return oclValidator.validate( eObject, chain( diagnostics ), context );
+            }
+
+            @Override
+            public boolean validate( EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map< Object, Object > context ) {
+                return oclValidator.validate( eClass, eObject, chain( diagnostics ), context );
+            }
+
+            @Override
+            public boolean validate( EDataType eDataType, Object value, DiagnosticChain diagnostics, Map< Object, Object > context ) {
+                return oclValidator.validate( eDataType, value, chain( diagnostics ), context );
+            }
+        };
+    }
+
+    private static DiagnosticChain chain( DiagnosticChain diagnostics ) {
+        if( diagnostics == null ) return null;
+        return new DiagnosticChain() {
+
+            @Override
+            public void add( Diagnostic diagnostic ) {
+                diagnostics.add( structured( diagnostic ));
+            }
+
+            @Override
+            public void addAll( Diagnostic diagnostic ) {
+                for( Diagnostic child : diagnostic.getChildren() ) {
+                    add( child );
+                }
+            }
+
+            @Override
+            public void merge( Diagnostic diagnostic ) {
+                if( diagnostic.getChildren().isEmpty() ) {
+                    add( diagnostic );
+                }
+                else {
+                    addAll( diagnostic );
+                }
+            }
+        };
+    }
+
+    private static @NonNull Diagnostic structured( @NonNull Diagnostic diagnostic ) {
+        List< ? > data = diagnostic.getData();
+        if(( data.size() == 2 ) && ( data.get( 1 ) instanceof RiseClipseMessage )) return diagnostic;
+        String text = diagnostic.getMessage();
+        if( text == null ) return diagnostic;
+        int length = length( text );
+        int[] separators = new int[MAX_SEPARATORS];
+        int count = separators( text, length, separators );
+        RiseClipseMessage message = decode( text, length, separators, count );
+        Severity counted = counted( text, separators, count );
+        if(( message == null ) && ( counted == null )) return diagnostic;
+        return new BasicDiagnostic(
+                diagnostic.getSeverity(),
+                diagnostic.getSource(),
+                diagnostic.getCode(),
+                text,
+                new Object[] { data.isEmpty() ? null : data.get( 0 ), message, counted } );
+    }
+
+    /*
+     * Returns null if the structure of the message is not recognized
+     */
+    public static RiseClipseMessage decode( String message ) {
+        if( message == null ) return null;
+        int length = length( message );
+        int[] separators = new int[MAX_SEPARATORS];
+        return decode( message, length, separators, separators( message, length, separators ));
+    }
+
+    // Like String.split(), trailing empty fields are ignored
+    private static int length( @NonNull String message ) {
+        int length = message.length();
+        while(( length > 0 ) && ( message.charAt( length - 1 ) == SEPARATOR )) --length;
+        return length;
+    }
+
+    // Returns the number of separators, -1 if there are more than in any recognized message
+    private static int separators( @NonNull String message, int length, int[] separators ) {
+        int count = 0;
+        for( int i = message.indexOf( SEPARATOR ); ( i != -1 ) && ( i < length ); i = message.indexOf( SEPARATOR, i + 1 )) {
+            if( count == MAX_SEPARATORS ) return -1;
+            separators[count++] = i;
+        }
+        return count;
+    }
+
+    private static RiseClipseMessage decode( @NonNull String message, int length, int[] separators, int count ) {
+        switch( count ) {
+        case 3 :
+            if( ! message.startsWith( "OCL", separators[0] + 1 )) return null;
+            return new RiseClipseMessage(
+                    displayedSeverity( message, separators[0] ),
+                    message.substring( separators[0] + 1, separators[1] ),
+                    line( message, separators[1] + 1, separators[2] ),
+                    message.substring( separators[2] + 1, length ));
+        case 4 :
+            if( ! message.startsWith( "OCL", separators[0] + 1 )) return null;
+            return new RiseClipseMessage(
+                    displayedSeverity( message, separators[0] ),
+                    message.substring( separators[0] + 1, separators[1] ),
+                    message.substring( separators[1] + 1, separators[2] ),
+                    line( message, separators[2] + 1, separators[3] ),
+                    message.substring( separators[3] + 1, length ));
+        case 5 :
+            int line = 0;
+            if( message.startsWith( "line_", separators[4] + 1 )) {
+                line = line( message, separators[4] + 1 + "line_".length(), length );
+            }
+            return new RiseClipseMessage(
+                    displayedSeverity( message, separators[0] ),
+                    message.substring( separators[0] + 1, separators[1] ) + "/" + message.substring( separators[1] + 1, separators[2] ),
+                    message.substring( separators[2] + 1, separators[3] ),
+                    line,
+                    message.substring( separators[3] + 1, separators[4] ));
+        default :
+            return null;
+        }
+    }
+
+    // Severity taken into account in the exit code, null if none
+    private static Severity counted( @NonNull String message, int[] separators, int count ) {
+        switch( count ) {
+        case 3 :
+        case 5 :
+            return severity( message, separators[0] );
+        case 4 :
+            return message.startsWith( "OCL", separators[0] + 1 ) ? severity( message, separators[0] ) : null;
+        default :
+            return null;
+        }
+    }
+
+    // An unknown severity is displayed as an error
+    private static @NonNull Severity displayedSeverity( @NonNull String message, int end ) {
+        Severity severity = severity( message, end );
+        return ( severity == null ) ? Severity.ERROR : severity;
+    }
+
+    // Null if the severity is unknown
+    private static Severity severity( @NonNull String message, int end ) {
+        try {
+            return Severity.valueOf( message.substring( 0, end ));
+        }
+        catch( IllegalArgumentException ex ) {
+            return null;
+        }
+    }
+
+    private static int line( @NonNull String message, int begin, int end ) {
+        try {
+            return Integer.parseInt( message, begin, end, 10 );
+        }
+        catch( NumberFormatException ex ) {
+            return 0;
+        }
+    }
+
+}
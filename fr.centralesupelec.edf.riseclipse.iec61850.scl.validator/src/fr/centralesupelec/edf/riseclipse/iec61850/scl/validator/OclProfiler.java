@@ -0,0 +1,238 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+
+/*
+ * Measures the OCL validator for each class of validated objects.
+ * The OCL validator evaluates all the invariants of an object in one call and gives no way to measure
+ * them one by one, so the time of a single invariant cannot be known. The invariants which may be
+ * evaluated for a class, those whose context is this class or one of its super types, are found by
+ * a simple scan of the OCL files, skipping comments and strings, and displayed with it.
+ * Splitting the OCL files in several validators would measure a different set of rules, because
+ * a file may use definitions of another one.
+ */
+public class OclProfiler {
+
+    private static final Pattern CONTEXT = Pattern.compile( "\\bcontext\\s+([A-Za-z_][\\w:]*)" );
+    private static final Pattern INVARIANT = Pattern.compile( "\\binv\\b\\s*([A-Za-z_]\\w*)?" );
+
+    private static class Constraint {
+        private final String file;
+        private final int line;
+        private final String name;
+        private final String context;
+
+        Constraint( String file, int line, String name, String context ) {
+            this.file = file;
+            this.line = line;
+            this.name = name;
+            this.context = context;
+        }
+    }
+
+    private static class Statistics {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void add( long nanos ) {
+            ++count;
+            totalNanos += nanos;
+            if( nanos > maxNanos ) maxNanos = nanos;
+        }
+    }
+
+    private final @NonNull List< Constraint > constraints = new ArrayList<>();
+    private final @NonNull Map< EClassifier, Statistics > statistics = new ConcurrentHashMap<>();
+
+    public OclProfiler( @NonNull List< String > oclFiles, @NonNull IRiseClipseConsole console ) {
+        for( String oclFile : oclFiles ) {
+            try {
+                readConstraints( oclFile, Files.readAllLines( Paths.get( oclFile ), StandardCharsets.UTF_8 ));
+            }
+            catch( IOException e ) {
+                console.warning( RiseClipseValidatorSCL.VALIDATOR_SCL_CATEGORY, 0, "Cannot read OCL file ", oclFile,
+                                 ", its invariants will not be displayed by the OCL profiler: ", e.getMessage() );
+            }
+        }
+    }
+
+    private void readConstraints( @NonNull String oclFile, @NonNull List< String > lines ) {
+        String context = null;
+        boolean inComment = false;
+        for( int i = 0; i < lines.size(); ++i ) {
+            String line = lines.get( i );
+
+            // Comments and strings are replaced by a space, they may contain the keywords
+            StringBuilder code = new StringBuilder();
+            for( int j = 0; j < line.length(); ++j ) {
+                if( inComment ) {
+                    if( line.startsWith( "*/", j )) {
+                        inComment = false;
+                        ++j;
+                        code.append( ' ' );
+                    }
+                }
+                else if( line.startsWith( "/*", j )) {
+                    inComment = true;
+                    ++j;
+                }
+                else if( line.startsWith( "--", j )) {
+                    break;
+                }
+                else if( line.charAt( j ) == '\'' ) {
+                    for( ++j; ( j < line.length() ) && ( line.charAt( j ) != '\'' ); ++j ) {
+                        if( line.charAt( j ) == '\\' ) ++j;
+                    }
+                    code.append( ' ' );
+                }
+                else {
+                    code.append( line.charAt( j ));
+                }
+            }
+
+            Matcher c = CONTEXT.matcher( code );
+            Matcher inv = INVARIANT.matcher( code );
+            int start = 0;
+            // Several contexts and invariants may be on the same line
+            while( true ) {
+                boolean hasContext = c.find( start );
+                boolean hasInvariant = inv.find( start );
+                if( ! hasContext && ! hasInvariant ) break;
+                if( hasContext && ( ! hasInvariant || ( c.start() < inv.start() ))) {
+                    String qualified = c.group( 1 );
+                    context = qualified.substring( qualified.lastIndexOf( ':' ) + 1 );
+                    start = c.end();
+                }
+                else {
+                    if( context != null ) {
+                        constraints.add( new Constraint( oclFile, i + 1, ( inv.group( 1 ) == null ) ? "<unnamed>" : inv.group( 1 ), context ));
+                    }
+                    start = inv.end();
+                }
+            }
+        }
+    }
+
+    /*
+     * The returned validator must be used instead of the given one
+     */
+    public @NonNull EValidator wrap( @NonNull EValidator oclValidator ) {
+        return new EValidator() {
+
+            @Override
+            public boolean validate( EObject eObject, DiagnosticChain diagnostics, Map< Object, Object > context ) {
+                long start = System.nanoTime();
+                try {
+                    return oclValidator.validate( eObject, diagnostics, context );
+                }
+                finally {
+                    add( eObject.eClass(), System.nanoTime() - start );
+                }
+            }
+
+            @Override
+            public boolean validate( EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map< Object, Object > context ) {
+                long start = System.nanoTime();
+                try {
+                    return oclValidator.validate( eClass, eObject, diagnostics, context );
+                }
+                finally {
+                    add( eClass, System.nanoTime() - start );
+                }
+            }
+
+            @Override
+            public boolean validate( EDataType eDataType, Object value, DiagnosticChain diagnostics, Map< Object, Object > context ) {
+                long start = System.nanoTime();
+                try {
+                    return oclValidator.validate( eDataType, value, diagnostics, context );
+                }
+                finally {
+                    add( eDataType, System.nanoTime() - start );
+                }
+            }
+        };
+    }
+
+    private void add( EClassifier classifier, long nanos ) {
+        if( classifier == null ) return;
+        statistics.computeIfAbsent( classifier, k -> new Statistics() ).add( nanos );
+    }
+
+    /*
+     * Classes are sorted by decreasing total time, only the first ones are displayed
+     */
+    public void display( @NonNull IRiseClipseConsole console, @NonNull String category, int top ) {
+        List< Map.Entry< EClassifier, Statistics >> entries = new ArrayList<>( statistics.entrySet() );
+        entries.sort(( e1, e2 ) -> Long.compare( e2.getValue().totalNanos, e1.getValue().totalNanos ));
+        long total = entries.stream().mapToLong( e -> e.getValue().totalNanos ).sum();
+
+        console.info( category, 0, "Time spent in OCL validation: ", String.format( Locale.ROOT, "%.3f s", total / 1e9 ),
+                      ", classes taking the most time (all their invariants together):" );
+        console.info( category, 0, String.format( Locale.ROOT, "\t%-32s %12s %12s %8s %12s %12s",
+                      "class", "objects", "total (ms)", "%", "mean (us)", "max (us)" ));
+        for( int i = 0; ( i < top ) && ( i < entries.size() ); ++i ) {
+            EClassifier classifier = entries.get( i ).getKey();
+            Statistics s = entries.get( i ).getValue();
+            console.info( category, 0, String.format( Locale.ROOT, "\t%-32s %12d %12.1f %8.1f %12.1f %12.1f",
+                          classifier.getName(), s.count, s.totalNanos / 1e6,
+                          ( total == 0 ) ? 0.0 : 100.0 * s.totalNanos / total,
+                          s.totalNanos / 1e3 / Math.max( 1, s.count ), s.maxNanos / 1e3 ));
+            Set< String > contexts = new HashSet<>();
+            contexts.add( classifier.getName() );
+            if( classifier instanceof EClass ) {
+                (( EClass ) classifier ).getEAllSuperTypes().forEach( c -> contexts.add( c.getName() ));
+            }
+            for( Constraint constraint : constraints ) {
+                if( contexts.contains( constraint.context )) {
+                    console.info( category, 0, "\t\t", constraint.file, ":", constraint.line, " ", constraint.context, "::", constraint.name );
+                }
+            }
+        }
+    }
+
+}
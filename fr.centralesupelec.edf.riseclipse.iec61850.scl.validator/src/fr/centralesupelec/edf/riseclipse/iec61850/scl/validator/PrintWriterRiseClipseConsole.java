@@ -0,0 +1,122 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.io.PrintWriter;
+import java.util.Formatter;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
+
+/*
+ * Sends each message, formatted on one line, as soon as it is outputted.
+ * Used by the server mode to send back messages to the client.
+ */
+public class PrintWriterRiseClipseConsole implements IRiseClipseConsole {
+
+    private final @NonNull PrintWriter writer;
+    private Severity level;
+    private String formatString;
+    // The validated file may have another name for the server than for the client
+    private String serverFilename;
+    private String clientFilename;
+
+    public PrintWriterRiseClipseConsole( @NonNull PrintWriter writer, @NonNull IRiseClipseConsole model ) {
+        this.writer = writer;
+        this.level = model.getLevel();
+        this.formatString = model.getFormatString();
+    }
+
+    /*
+     * Messages whose file name contains serverFilename are displayed with clientFilename instead
+     */
+    public void setFilename( @NonNull String serverFilename, @NonNull String clientFilename ) {
+        this.serverFilename = serverFilename;
+        this.clientFilename = clientFilename;
+    }
+
+    private @NonNull String clientFilename( String filename ) {
+        if( filename == null ) return "";
+        if(( serverFilename != null ) && filename.contains( serverFilename )) return clientFilename;
+        return filename;
+    }
+
+    @Override
+    public void output( RiseClipseMessage message ) {
+        if( message.getSeverity().compareTo( level ) > 0 ) return;
+
+        // Same arguments as those used by the other consoles, without color
+        Formatter formatter = new Formatter();
+        formatter.format(
+                formatString,
+                message.getSeverity(),
+                message.getCategory(),
+                message.getLineNumber(),
+                message.getMessage(),
+                clientFilename( message.getFilename() ),
+                "", ""
+        );
+        String m = formatter.toString();
+        formatter.close();
+        // A message must stay on one line for the client
+        writer.println( m.replace( '\n', ' ' ));
+        writer.flush();
+    }
+
+    @Override
+    public Severity getLevel() {
+        return level;
+    }
+
+    @Override
+    public Severity setLevel( Severity newLevel ) {
+        Severity previous = level;
+        level = newLevel;
+        return previous;
+    }
+
+    @Override
+    public String getFormatString() {
+        return formatString;
+    }
+
+    @Override
+    public String setFormatString( String newFormatString ) {
+        String previous = formatString;
+        formatString = newFormatString;
+        return previous;
+    }
+
+    @Override
+    public void displayIdenticalMessages() {
+        // Duplicates are handled by RiseClipseValidatorSCL
+    }
+
+    @Override
+    public void doNotDisplayIdenticalMessages() {
+        // Duplicates are handled by RiseClipseValidatorSCL
+    }
+
+}
@@ -0,0 +1,275 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+
+/*
+ * Wall time, CPU time and allocated bytes of the phases of prepare() or of the validation of one SCL file.
+ * A phase is measured on the thread which runs it, and is added to the profile this thread has been given
+ * with setCurrent(); nothing is measured by threads without a profile.
+ * CPU time and allocated bytes are -1 if the JVM cannot measure them.
+ */
+public class Profile {
+
+    public static class Phase {
+        private long count;
+        private long wallNanos;
+        private long cpuNanos;
+        private long allocatedBytes;
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        public long getCpuNanos() {
+            return cpuNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocations();
+    private static final boolean CPU_TIME = THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+
+    private static final ThreadLocal< Profile > current = new ThreadLocal<>();
+
+    // Allocated bytes are only available with some JVMs
+    private static com.sun.management.ThreadMXBean allocations() {
+        if( ! ( THREADS instanceof com.sun.management.ThreadMXBean )) return null;
+        com.sun.management.ThreadMXBean threads = ( com.sun.management.ThreadMXBean ) THREADS;
+        return ( threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled() ) ? threads : null;
+    }
+
+    private final @NonNull String name;
+    private final LinkedHashMap< String, Phase > phases = new LinkedHashMap<>();
+
+    public Profile( @NonNull String name ) {
+        this.name = name;
+    }
+
+    public @NonNull String getName() {
+        return name;
+    }
+
+    public static Profile getCurrent() {
+        return current.get();
+    }
+
+    /*
+     * A null profile means that the current thread measures nothing
+     */
+    public static void setCurrent( Profile profile ) {
+        if( profile == null ) {
+            current.remove();
+        }
+        else {
+            current.set( profile );
+        }
+    }
+
+    /*
+     * Returns null if the current thread has no profile, the result must be given to end()
+     */
+    public static long[] begin() {
+        if( current.get() == null ) return null;
+        return new long[] {
+            System.nanoTime(),
+            CPU_TIME ? THREADS.getCurrentThreadCpuTime() : -1,
+            ( ALLOCATIONS != null ) ? ALLOCATIONS.getCurrentThreadAllocatedBytes() : -1
+        };
+    }
+
+    public static void end( @NonNull String phase, long[] begin ) {
+        Profile profile = current.get();
+        if(( begin == null ) || ( profile == null )) return;
+        profile.add( phase, 1,
+                     System.nanoTime() - begin[0],
+                     CPU_TIME ? THREADS.getCurrentThreadCpuTime() - begin[1] : -1,
+                     ( ALLOCATIONS != null ) ? ALLOCATIONS.getCurrentThreadAllocatedBytes() - begin[2] : -1 );
+    }
+
+    private synchronized void add( @NonNull String phase, long count, long wallNanos, long cpuNanos, long allocatedBytes ) {
+        Phase p = phases.computeIfAbsent( phase, k -> new Phase() );
+        p.count += count;
+        p.wallNanos += wallNanos;
+        p.cpuNanos = ( cpuNanos < 0 ) ? -1 : p.cpuNanos + cpuNanos;
+        p.allocatedBytes = ( allocatedBytes < 0 ) ? -1 : p.allocatedBytes + allocatedBytes;
+    }
+
+    /*
+     * Used for the summary of several profiles
+     */
+    public void addAll( @NonNull Profile other ) {
+        for( Map.Entry< String, Phase > entry : other.getPhases().entrySet() ) {
+            Phase p = entry.getValue();
+            add( entry.getKey(), p.count, p.wallNanos, p.cpuNanos, p.allocatedBytes );
+        }
+    }
+
+    public synchronized @NonNull Map< String, Phase > getPhases() {
+        return new LinkedHashMap<>( phases );
+    }
+
+    public void display( @NonNull IRiseClipseConsole console, @NonNull String category ) {
+        console.info( category, 0, "Profile of ", name );
+        for( Map.Entry< String, Phase > entry : getPhases().entrySet() ) {
+            Phase p = entry.getValue();
+            console.info( category, 0, String.format( Locale.ROOT, "\t%-24s %10.3f s wall %10s CPU %12s allocated%s",
+                    entry.getKey(),
+                    p.wallNanos / 1e9,
+                    ( p.cpuNanos < 0 ) ? "n/a" : String.format( Locale.ROOT, "%.3f s", p.cpuNanos / 1e9 ),
+                    ( p.allocatedBytes < 0 ) ? "n/a" : String.format( Locale.ROOT, "%.1f MB", p.allocatedBytes / 1e6 ),
+                    ( p.count > 1 ) ? " (" + p.count + " times)" : "" ));
+        }
+    }
+
+    /*
+     * Phases of the child validators are measured for each validated object, so validation is slower when profiled
+     */
+    public static @NonNull EValidator profiled( @NonNull EValidator validator, @NonNull String phase ) {
+        return new EValidator() {
+
+            @Override
+            public boolean validate( EObject eObject, DiagnosticChain diagnostics, Map< Object, Object > context ) {
+                long[] begin = begin();
+                try {
+                    return validator.validate( eObject, diagnostics, context );
+                }
+                finally {
+                    end( phase, begin );
+                }
+            }
+
+            @Override
+            public boolean validate( EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map< Object, Object > context ) {
+                long[] begin = begin();
+                try {
+                    return validator.validate( eClass, eObject, diagnostics, context );
+                }
+                finally {
+                    end( phase, begin );
+                }
+            }
+
+            @Override
+            public boolean validate( EDataType eDataType, Object value, DiagnosticChain diagnostics, Map< Object, Object > context ) {
+                long[] begin = begin();
+                try {
+                    return validator.validate( eDataType, value, diagnostics, context );
+                }
+                finally {
+                    end( phase, begin );
+                }
+            }
+        };
+    }
+
+    public static void writeJson( @NonNull Path file, @NonNull String toolVersion, Profile prepare,
+                                  @NonNull List< Profile > files, @NonNull Profile total ) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append( "{\n  \"tool\": \"RiseClipseValidatorSCL\",\n  \"version\": " ).append( quote( toolVersion ));
+        json.append( ",\n  \"prepare\": " );
+        if( prepare == null ) {
+            json.append( "null" );
+        }
+        else {
+            prepare.appendJson( json, "  " );
+        }
+        json.append( ",\n  \"files\": [" );
+        for( int i = 0; i < files.size(); ++i ) {
+            json.append(( i == 0 ) ? "\n    " : ",\n    " );
+            files.get( i ).appendJson( json, "    " );
+        }
+        json.append( "\n  ],\n  \"total\": " );
+        total.appendJson( json, "  " );
+        json.append( "\n}\n" );
+        try( BufferedWriter writer = Files.newBufferedWriter( file, StandardCharsets.UTF_8 )) {
+            writer.write( json.toString() );
+        }
+    }
+
+    private void appendJson( @NonNull StringBuilder json, @NonNull String indent ) {
+        json.append( "{ \"name\": " ).append( quote( name )).append( ", \"phases\": {" );
+        boolean first = true;
+        for( Map.Entry< String, Phase > entry : getPhases().entrySet() ) {
+            Phase p = entry.getValue();
+            json.append( first ? "\n" : ",\n" ).append( indent ).append( "  " )
+                .append( quote( entry.getKey() )).append( ": { " )
+                .append( "\"count\": " ).append( p.count )
+                .append( ", \"wallNanos\": " ).append( p.wallNanos )
+                .append( ", \"cpuNanos\": " ).append( p.cpuNanos )
+                .append( ", \"allocatedBytes\": " ).append( p.allocatedBytes )
+                .append( " }" );
+            first = false;
+        }
+        json.append( first ? "} }" : "\n" + indent + "} }" );
+    }
+
+    private static @NonNull String quote( @NonNull String s ) {
+        StringBuilder quoted = new StringBuilder( "\"" );
+        for( char c : s.toCharArray() ) {
+            switch( c ) {
+            case '"':  quoted.append( "\\\"" ); break;
+            case '\\': quoted.append( "\\\\" ); break;
+            case '\n': quoted.append( "\\n" ); break;
+            case '\r': quoted.append( "\\r" ); break;
+            case '\t': quoted.append( "\\t" ); break;
+            default:
+                if( c < 0x20 ) {
+                    quoted.append( String.format( "\\u%04x", ( int ) c ));
+                }
+                else {
+                    quoted.append( c );
+                }
+            }
+        }
+        return quoted.append( '"' ).toString();
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
+
+/*
+ * Keeps the messages and the exit code of each validated SCL file in the given directory.
+ * The key of a result is computed from the name and the content of the SCL file, and from
+ * everything else which may change the result (OCL, NSD and XSD files, level, options).
+ * A file is used again only if it was written completely, so several validations may share a directory.
+ */
+public class ResultCache {
+
+    private static final String RESULT_CACHE_CATEGORY = RiseClipseValidatorSCL.VALIDATOR_SCL_CATEGORY + "/ResultCache";
+    private static final String RESULT_FILE_EXTENSION = ".result";
+    private static final String EXIT_KEYWORD = "EXIT";
+    private static final String SEPARATOR = "\t";
+
+    public static class Result {
+        private final int exitCode;
+        private final @NonNull List< @NonNull RiseClipseMessage > messages;
+
+        Result( int exitCode, @NonNull List< @NonNull RiseClipseMessage > messages ) {
+            this.exitCode = exitCode;
+            this.messages = messages;
+        }
+
+        public int getExitCode() {
+            return exitCode;
+        }
+
+        public @NonNull List< @NonNull RiseClipseMessage > getMessages() {
+            return messages;
+        }
+    }
+
+    private final @NonNull Path directory;
+    private final @NonNull String inputsKey;
+
+    public ResultCache( @NonNull Path directory, @NonNull String inputsKey ) throws IOException {
+        this.directory = Files.createDirectories( directory );
+        this.inputsKey = inputsKey;
+    }
+
+    /*
+     * Returns null if the SCL file cannot be read, it will be validated as usual
+     */
+    public String key( @NonNull String sclFile, @NonNull IRiseClipseConsole console ) {
+        try( InputStream in = ZipEntries.open( sclFile )) {
+            return new ContentHash()
+                    .add( inputsKey )
+                    .add( sclFile )
+                    .addContent( in )
+                    .get();
+        }
+        catch( IOException e ) {
+            console.info( RESULT_CACHE_CATEGORY, 0, "Cannot read ", sclFile, ", no result is kept for it: ", e.getMessage() );
+            return null;
+        }
+    }
+
+    /*
+     * Returns null if there is no result for this key
+     */
+    public Result get( @NonNull String key, @NonNull IRiseClipseConsole console ) {
+        Path resultFile = directory.resolve( key + RESULT_FILE_EXTENSION );
+        if( ! Files.isReadable( resultFile )) return null;
+
+        try( BufferedReader reader = Files.newBufferedReader( resultFile, StandardCharsets.UTF_8 )) {
+            String line = reader.readLine();
+            if(( line == null ) || ! line.startsWith( EXIT_KEYWORD + SEPARATOR )) return null;
+            int exitCode = Integer.parseInt( line.substring( EXIT_KEYWORD.length() + SEPARATOR.length() ));
+            List< @NonNull RiseClipseMessage > messages = new ArrayList<>();
+            while(( line = reader.readLine() ) != null ) {
+                String[] parts = line.split( SEPARATOR, -1 );
+                if( parts.length != 5 ) return null;
+                String filename = unescape( parts[2] );
+                messages.add( new RiseClipseMessage(
+                        Severity.valueOf( parts[0] ),
+                        unescape( parts[1] ),
+                        filename.isEmpty() ? null : filename,
+                        Integer.parseInt( parts[3] ),
+                        unescape( parts[4] )));
+            }
+            return new Result( exitCode, messages );
+        }
+        catch( IOException | IllegalArgumentException e ) {
+            // NumberFormatException is an IllegalArgumentException
+            console.info( RESULT_CACHE_CATEGORY, 0, "Cannot use ", resultFile, ", it is ignored: ", e.getMessage() );
+            return null;
+        }
+    }
+
+    public void put( @NonNull String key, int exitCode, @NonNull List< @NonNull RiseClipseMessage > messages, @NonNull IRiseClipseConsole console ) {
+        Path resultFile = directory.resolve( key + RESULT_FILE_EXTENSION );
+        Path tmpFile = null;
+        try {
+            tmpFile = Files.createTempFile( directory, key, null );
+            try( BufferedWriter writer = Files.newBufferedWriter( tmpFile, StandardCharsets.UTF_8 )) {
+                writer.write( EXIT_KEYWORD + SEPARATOR + exitCode );
+                writer.newLine();
+                for( RiseClipseMessage message : messages ) {
+                    writer.write(
+                              message.getSeverity().name() + SEPARATOR
+                            + escape( message.getCategory() ) + SEPARATOR
+                            + escape( message.getFilename() ) + SEPARATOR
+                            + message.getLineNumber() + SEPARATOR
+                            + escape( message.getMessage() ));
+                    writer.newLine();
+                }
+            }
+            Files.move( tmpFile, resultFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+            tmpFile = null;
+        }
+        catch( IOException e ) {
+            console.warning( RESULT_CACHE_CATEGORY, 0, "Cannot write ", resultFile, ": ", e.getMessage() );
+        }
+        finally {
+            // Not moved: a partial result must not stay in the directory
+            if( tmpFile != null ) {
+                try {
+                    Files.deleteIfExists( tmpFile );
+                }
+                catch( IOException e ) {
+                    console.warning( RESULT_CACHE_CATEGORY, 0, "Cannot delete ", tmpFile, ": ", e.getMessage() );
+                }
+            }
+        }
+    }
+
+    private static @NonNull String escape( String value ) {
+        if( value == null ) return "";
+        return value
+                .replace( "\\", "\\\\" )
+                .replace( "\t", "\\t" )
+                .replace( "\n", "\\n" )
+                .replace( "\r", "\\r" );
+    }
+
+    private static @NonNull String unescape( @NonNull String value ) {
+        StringBuilder result = new StringBuilder( value.length() );
+        for( int i = 0; i < value.length(); ++i ) {
+            char c = value.charAt( i );
+            if(( c == '\\' ) && ( i + 1 < value.length() )) {
+                c = value.charAt( ++i );
+                switch( c ) {
+                case 't' -> c = '\t';
+                case 'n' -> c = '\n';
+                case 'r' -> c = '\r';
+                default  -> {}
+                }
+            }
+            result.append( c );
+        }
+        return result.toString();
+    }
+
+}
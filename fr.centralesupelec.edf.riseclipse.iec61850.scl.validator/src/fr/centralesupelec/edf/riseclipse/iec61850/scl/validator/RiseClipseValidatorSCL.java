@@ -34,12 +34,21 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.IllegalFormatException;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -53,6 +62,7 @@ import fr.centralesupelec.edf.riseclipse.iec61850.scl.SCL;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.SclPackage;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.provider.SclItemProviderAdapterFactory;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.utilities.SclModelLoader;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd.NsdStatistics;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd.NsdValidator;
 import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.FileRiseClipseConsole;
@@ -64,15 +74,19 @@ import fr.centralesupelec.edf.riseclipse.validation.ocl.OCLValidator;
 
 import org.eclipse.emf.common.notify.AdapterFactory;
 import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
 import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EDataType;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.EValidator;
 import org.eclipse.emf.ecore.EValidator.SubstitutionLabelProvider;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIHandler;
 import org.eclipse.emf.ecore.util.Diagnostician;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emf.edit.provider.IItemLabelProvider;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.ocl.pivot.validation.ComposedEValidator;
@@ -107,6 +121,7 @@ public class RiseClipseValidatorSCL {
                                                                          + " | " + INFO_OPTION     + " | " + DEBUG_OPTION ;
     private static final String OUTPUT_OPTION                          = "--output";
     private static final String XSD_OPTION                             = "--xml-schema";
+    private static final String XSD_SINGLE_PASS_OPTION                 = "--xml-schema-single-pass";
     private static final String FORMAT_OPTION                          = "--format-string";
     
     private static final String MAKE_EXPLICIT_LINKS_OPTION             = "--make-explicit-links";
@@ -115,6 +130,16 @@ public class RiseClipseValidatorSCL {
     private static final String DO_NOT_DISPLAY_COPYRIGHT_OPTION        = "--do-not-display-copyright";
     private static final String USE_FILENAMES_STARTING_WITH_DOT_OPTION = "--use-filenames-starting-with-dot";
     private static final String USE_DIFFERENT_EXIT_CODES_OPTION        = "--use-different-exit-codes";
+    private static final String JOBS_OPTION                            = "--jobs";
+    private static final String SERVER_OPTION                          = "--server";
+    private static final String OCL_CHANGE_REPORT_OPTION               = "--ocl-change-report";
+    private static final String RESULT_CACHE_OPTION                    = "--result-cache";
+    private static final String PIPELINE_OPTION                        = "--pipeline";
+    private static final String PROFILE_OPTION                         = "--profile";
+    private static final String PROFILE_JSON_OPTION                    = "--profile-json";
+    private static final String PROFILE_OCL_OPTION                     = "--profile-ocl";
+    private static final String DEDUP_MEMORY_OPTION                    = "--dedup-memory";
+    private static final String DEDUP_PROBABILISTIC_OPTION             = "--dedup-probabilistic";
     
     private static final String RISECLIPSE_VARIABLE_PREFIX                    = "RISECLIPSE_";
     private static final String CONSOLE_LEVEL_VARIABLE_NAME                   = RISECLIPSE_VARIABLE_PREFIX + "CONSOLE_LEVEL";
@@ -127,6 +152,9 @@ public class RiseClipseValidatorSCL {
     private static final String USE_FILENAMES_STARTING_WITH_DOT_VARIABLE_NAME = RISECLIPSE_VARIABLE_PREFIX + "USE_FILENAMES_STARTING_WITH_DOT";
     private static final String FORMAT_STRING_VARIABLE_NAME                   = RISECLIPSE_VARIABLE_PREFIX + "FORMAT_STRING";
     private static final String USE_DIFFERENT_EXIT_CODES_VARIABLE_NAME        = RISECLIPSE_VARIABLE_PREFIX + "USE_DIFFERENT_EXIT_CODES";
+    private static final String JOBS_VARIABLE_NAME                            = RISECLIPSE_VARIABLE_PREFIX + "JOBS";
+    private static final String OCL_CHANGE_REPORT_VARIABLE_NAME               = RISECLIPSE_VARIABLE_PREFIX + "OCL_CHANGE_REPORT";
+    private static final String RESULT_CACHE_VARIABLE_NAME                    = RISECLIPSE_VARIABLE_PREFIX + "RESULT_CACHE";
 
     private static final String FALSE_VARIABLE_VALUE = "FALSE";
 
@@ -154,6 +182,7 @@ public class RiseClipseValidatorSCL {
     );
     
     public  static final String VALIDATOR_SCL_CATEGORY = "SCL/Validator";
+    private static final String PROFILE_CATEGORY = VALIDATOR_SCL_CATEGORY + "/Profile";
     private static final String INFO_FORMAT_STRING = "%6$s%1$-8s%7$s: %4$s";
     
     private static final int EXIT_SUCCESS = 0;
@@ -166,11 +195,107 @@ public class RiseClipseValidatorSCL {
     
     private static ComposedEValidator composedValidator;
     private static OCLValidator oclValidator;
-    private static SclItemProviderAdapterFactory sclAdapter;
-    private static SclModelLoader sclLoader;
     private static NsdValidator nsdValidator;
+    // The NSD validator is kept and used again by the next prepare() of the same process (server mode, ui)
+    // if NSD files have not changed and if the console is the same: some validators keep the console they are prepared with.
+    // Nothing is kept between two runs of the command line tool, the server mode is the way to avoid preparing again.
+    private static NsdValidator preparedNsdValidator;
+    private static String preparedNsdKey;
+    private static IRiseClipseConsole preparedNsdConsole;
+    // Same for the OCL validator
+    private static OCLValidator preparedOclValidator;
+    private static String preparedOclKey;
+    private static IRiseClipseConsole preparedOclConsole;
+    private static Worker mainWorker;
+    // Incremented each time validators are prepared, to know when a Worker must be created again
+    private static int preparedGeneration = 0;
+    // Last modification time of OCL and NSD files when validators were prepared
+    private static volatile Map< String, Long > preparedFilesTimestamps = new HashMap<>();
     
-    private static HashSet< RiseClipseMessage > outputtedMessages = new HashSet<>();
+    // What is needed to validate one SCL file.
+    // When several files are validated at the same time, each thread has its own Worker.
+    private static class Worker {
+        private final @NonNull SclModelLoader sclLoader = new SclModelLoader();
+        private final @NonNull SclItemProviderAdapterFactory sclAdapter = new SclItemProviderAdapterFactory();
+        private final @NonNull ComposedEValidator composedValidator;
+        private final int generation = preparedGeneration;
+        // Profile of the last file validated by this worker, null if not profiling
+        private Profile profile;
+
+        Worker( @NonNull ComposedEValidator composedValidator ) {
+            this.composedValidator = composedValidator;
+        }
+    }
+
+    // Given to the Diagnostician instead of a BasicDiagnostic: each message is outputted as soon
+    // as it is added, so that the diagnostics of a file are never all kept in memory.
+    // Only fingerprints of outputted messages are kept, to avoid outputting them twice.
+    private static class DiagnosticSink implements DiagnosticChain {
+        private final @NonNull IRiseClipseConsole console;
+        private final @NonNull MessageFingerprints outputtedMessages = new MessageFingerprints( dedupMemory, dedupProbabilistic );
+        private int returned_value = EXIT_SUCCESS;
+
+        DiagnosticSink( @NonNull IRiseClipseConsole console ) {
+            this.console = console;
+        }
+
+        @Override
+        public void add( Diagnostic diagnostic ) {
+            List< ? > data = diagnostic.getData();
+            // Message from NSD validation added in diagnostic,
+            // or message from OCL validation decoded by OclDiagnostics
+            RiseClipseMessage message = (( data.size() >= 2 ) && ( data.get( 1 ) instanceof RiseClipseMessage )) ? ( RiseClipseMessage ) data.get( 1 ) : null;
+            // The exit code does not depend on the messages being displayed or not.
+            // For OCL validation, the severity counted in the exit code is given by OclDiagnostics,
+            // it may be given even if the message is not recognized
+            if( data.size() == 3 ) {
+                if( data.get( 2 ) instanceof Severity ) {
+                    returned_value = update_returned_value( returned_value, ( Severity ) data.get( 2 ));
+                }
+            }
+            else if( message != null ) {
+                returned_value = update_returned_value( returned_value, message.getSeverity() );
+            }
+            if( message != null ) {
+                if( outputtedMessages.add( message )) {
+                    console.output( message );
+                }
+                return;
+            }
+            console.warning( VALIDATOR_SCL_CATEGORY, 0, "The structure of the following diagnostic message was not recognized by RiseClipseValidatorSCL" );
+            console.warning( VALIDATOR_SCL_CATEGORY, 0, diagnostic.getMessage() );
+            
+            // The following was used before, therefore it was considered useful.
+            // It is kept in case the need arises again.
+            /*
+            EObject object = ( EObject ) data.get( 0 );
+            if(( data.size() > 1 ) && ( data.get( 1 ) instanceof EAttribute ) && ( ! diagnostic.getChildren().isEmpty() )) {
+                EAttribute attribute = ( EAttribute ) data.get( 1 );
+                if( attribute == null ) return;
+                message = "\tAttribute " + attribute.getName() + " of "
+                            + substitutionLabelProvider.getObjectLabel( object ) + " : "
+                            + diagnostic.getChildren().get( 0 ).getMessage();
+            }
+            */
+        }
+
+        @Override
+        public void addAll( Diagnostic diagnostic ) {
+            for( Diagnostic child : diagnostic.getChildren() ) {
+                add( child );
+            }
+        }
+
+        @Override
+        public void merge( Diagnostic diagnostic ) {
+            if( diagnostic.getChildren().isEmpty() ) {
+                add( diagnostic );
+            }
+            else {
+                addAll( diagnostic );
+            }
+        }
+    }
 
     private static boolean hiddenDoor = false;
     private static boolean makeExplicitLinks = false;
@@ -182,11 +307,43 @@ public class RiseClipseValidatorSCL {
     private static Severity consoleLevel = Severity.WARNING;
     private static String outputFile = null;
     private static String xsdFile = null;
+    private static boolean xsdSinglePass = false;
     private static String formatString = null;
+    private static int jobs = 1;
+    private static int serverPort = -1;
+    private static String oclChangeReportDirectory = null;
+    private static String resultCacheDirectory = null;
+    private static boolean pipeline = false;
+    private static ResultCache resultCache = null;
+    private static boolean displayProgress = true;
+    private static boolean profiling = false;
+    private static String profileJsonFile = null;
+    private static Profile prepareProfile = null;
+    // Profiles of validated files are kept for the summary, except in server mode where only their sum is kept
+    private static final List< Profile > fileProfiles = new ArrayList<>();
+    private static final Profile fileProfilesSum = new Profile( "validated files" );
+    private static int profiledFiles = 0;
+    // Files whose result is taken from the result cache, they are not validated so they have no profile
+    private static int cachedFiles = 0;
+    private static int oclProfileTop = 0;
+    private static OclProfiler oclProfiler = null;
+    // Memory ceiling for the fingerprints of outputted messages of one file
+    private static long dedupMemory = 64L * 1024 * 1024;
+    private static boolean dedupProbabilistic = false;
     
     private static List< @NonNull String> oclFiles;
     private static List< @NonNull String > nsdFiles;
     private static List< @NonNull String > sclFiles;
+    // Zip files from which OCL or NSD files have been extracted, they are also watched for changes
+    private static List< @NonNull String > zipFilesOfPreparedFiles;
+    // Kept to search files again when OCL and NSD files are loaded again in server mode
+    private static String[] inputArgs;
+    private static int inputPosFiles;
+
+    // Directories are listed in parallel, this is mostly waiting for the file system
+    private static final int DISCOVERY_PARALLELISM = Math.max( 8, Runtime.getRuntime().availableProcessors() );
+    // Found files are added to the lists by the threads of the discovery
+    private static final Object discoveryLock = new Object();
 
 
     private static void usage() {
@@ -201,6 +358,17 @@ public class RiseClipseValidatorSCL {
                         + " [" + LEVEL_OPTION + "]"
                         + " [" + OUTPUT_OPTION + " <file>]"
                         + " [" + MAKE_EXPLICIT_LINKS_OPTION + "]"
+                        + " [" + JOBS_OPTION + " <number>]"
+                        + " [" + SERVER_OPTION + " <port>]"
+                        + " [" + OCL_CHANGE_REPORT_OPTION + " <directory>]"
+                        + " [" + RESULT_CACHE_OPTION + " <directory>]"
+                        + " [" + PIPELINE_OPTION + "]"
+                        + " [" + PROFILE_OPTION + "]"
+                        + " [" + PROFILE_JSON_OPTION + " <file>]"
+                        + " [" + PROFILE_OCL_OPTION + " <number>]"
+                        + " [" + DEDUP_MEMORY_OPTION + " <megabytes>]"
+                        + " [" + DEDUP_PROBABILISTIC_OPTION + "]"
+                        + " [" + XSD_SINGLE_PASS_OPTION + "]"
                         + " (<directory> | <oclFile> | <nsdFile> | <sclFile> | <zipFile>)+" 
         );
         console.info( VALIDATOR_SCL_CATEGORY, 0,
@@ -232,6 +400,7 @@ public class RiseClipseValidatorSCL {
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\tfiles ending with \".zip\" are decompressed and each file inside is taken into account," );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\tcase is ignored for all these extensions," );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\tall others are considered SCL files." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\tFiles found in a directory are taken in the order of their names." );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "" );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "The following options are recognized:" );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + ERROR_OPTION );
@@ -244,6 +413,9 @@ public class RiseClipseValidatorSCL {
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tmessages are outputed in the given file." );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + XSD_OPTION + " <file>" );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tA preliminary XML validation is done against the given XML schema file." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + XSD_SINGLE_PASS_OPTION );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tWith " + XSD_OPTION + ", the XML validation is done by the parser which loads the SCL file, so that" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tthe file is read only once. XML validation messages may then be mixed with loading messages." );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + FORMAT_OPTION + " <format-string>" );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tmessages are outputed with a java.util.Formatter using the given format string," );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\t1$ is severity, 2$ is category, 3$ is line number, 4$ is message, 5$ is filename," );
@@ -267,6 +439,53 @@ public class RiseClipseValidatorSCL {
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tIf this option is used, exit code is 1 if there is any validation error," );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\t2 if there is any warning but no error, 3 if there is any notice message but no warning or error," );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\t4 if there is any info message but no notice or warning or error, 0 otherwise." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + JOBS_OPTION + " <number>" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tThis number of SCL files are validated at the same time, default is 1, 0 means the number of processors." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tMessages are still displayed file after file, in the order files are found." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + SERVER_OPTION + " <port>" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tOCL and NSD files are loaded once, then SCL files are validated on request received on the given local port" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\t(0 means any free port, it is displayed). SCL files given on the command line are ignored." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tA request is a connection whose first line is \"VALIDATE <sclFile>\", or \"SCL [<name>]\" followed by the SCL content," );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tor \"RELOAD\", or \"STOP\". Messages are sent back one per line, the last line is \"EXIT <code>\"." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tRequests being handled when STOP is received are completed before the server stops." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tOCL and NSD files are searched and loaded again when they have been modified, or on RELOAD." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tSeveral requests are handled at the same time if " + JOBS_OPTION + " is also used." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + OCL_CHANGE_REPORT_OPTION + " <directory>" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tThe hash of each OCL file is recorded in the given directory, the OCL files which have been added," );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tmodified or removed since the previous run using this directory are displayed as notices." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tThis is only a report, OCL files are still loaded by each run (use " + SERVER_OPTION + " to load them once)." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + RESULT_CACHE_OPTION + " <directory>" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tMessages and exit code of each validated SCL file are kept in the given directory. They are displayed again," );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\twithout validating the file, if the file, the OCL, NSD and XSD files, the level and the options have not changed." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + PIPELINE_OPTION );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tSCL files are still validated one at a time, but the next file is loaded and its links are made" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\twhile the current one is validated, so at most two SCL files are in memory at the same time." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tThe use of each stage is displayed as notices at the end." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tThis option is ignored if " + JOBS_OPTION + " or " + RESULT_CACHE_OPTION + " is used." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + PROFILE_OPTION );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tWall time, CPU time and allocated bytes of each phase of the preparation and of the validation" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tof each SCL file are displayed, including the time spent in the OCL and in the NSD validators," );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tfollowed by their sum for all files and by statistics about NSD validation. Validation is slower when profiled." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tFiles whose result is taken from the cache of " + RESULT_CACHE_OPTION + " are not validated, they are only counted in the sum." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tNSD validation statistics are also available through JMX as " + NsdStatistics.OBJECT_NAME + "." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tIndependently of this option, Java Flight Recorder events for each file, for long phases and for slow LNodeType" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tand DOType validations are recorded when the JVM is started with -XX:StartFlightRecording." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + PROFILE_JSON_OPTION + " <file>" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tSame as " + PROFILE_OPTION + ", the profiles are also written in the given file using JSON." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tIn server mode, only the sum of the profiles of validated files is kept and written." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + PROFILE_OCL_OPTION + " <number>" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tThe time spent in the OCL validator is measured for each class of validated objects. At the end," );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tthis number of classes taking the most time are displayed, each one with the invariants" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\t(file, line and name) which may be evaluated for its objects. The OCL validator evaluates" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tall the invariants of an object at once: the time of a single invariant is not known." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + DEDUP_MEMORY_OPTION + " <megabytes>" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tA message is not displayed twice for the same SCL file, a fingerprint of each displayed message" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tis kept using at most this memory (default is 64, for each file validated at the same time)." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tWhen this limit is reached, some duplicate messages may be displayed." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + DEDUP_PROBABILISTIC_OPTION );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tBloom filters, growing with the number of messages up to the memory given by " + DEDUP_MEMORY_OPTION + "," );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tare used to find duplicate messages: there is no limit on the number of messages, but a few" );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tdistinct messages may not be displayed (the exit code still takes them into account)." );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + HELP_ENVIRONMENT_OPTION );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t\tEnvironment variables used are displayed." );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "" );
@@ -306,6 +525,12 @@ public class RiseClipseValidatorSCL {
                     + "(ignoring case), it is equivalent to the use of " + USE_FILENAMES_STARTING_WITH_DOT_OPTION + " option." );
         console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + USE_DIFFERENT_EXIT_CODES_VARIABLE_NAME + ": if its value is not equal to FALSE "
                 + "(ignoring case), it is equivalent to the use of " + USE_DIFFERENT_EXIT_CODES_OPTION + " option." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + JOBS_VARIABLE_NAME + ": number of SCL files validated at the same time "
+                + "(see description of " + JOBS_OPTION + " option)." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + OCL_CHANGE_REPORT_VARIABLE_NAME + ": directory where hashes of OCL files are recorded "
+                + "(see description of " + OCL_CHANGE_REPORT_OPTION + " option)." );
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "\t" + RESULT_CACHE_VARIABLE_NAME + ": directory where results of validations are kept "
+                + "(see description of " + RESULT_CACHE_OPTION + " option)." );
         System.exit( 0 );
     }
     
@@ -381,6 +606,35 @@ public class RiseClipseValidatorSCL {
                 useDifferentExitCodes = true;
             }
         }
+        
+        s = System.getenv( JOBS_VARIABLE_NAME );
+        if( s != null ) {
+            int n = parseJobs( s );
+            if( n > 0 ) {
+                jobs = n;
+            }
+            else {
+                AbstractRiseClipseConsole.getConsole().warning(
+                    VALIDATOR_SCL_CATEGORY, 0,
+                    "Value of environment variable " + JOBS_VARIABLE_NAME + " is not recognized and ignored" );
+            }
+        }
+
+        oclChangeReportDirectory = System.getenv( OCL_CHANGE_REPORT_VARIABLE_NAME );
+
+        resultCacheDirectory = System.getenv( RESULT_CACHE_VARIABLE_NAME );
+    }
+    
+    // Returns -1 if value is not valid
+    private static int parseJobs( String value ) {
+        try {
+            int n = Integer.parseInt( value );
+            if( n == 0 ) return Runtime.getRuntime().availableProcessors();
+            return ( n > 0 ) ? n : -1;
+        }
+        catch( NumberFormatException e ) {
+            return -1;
+        }
     }
     
     public static void main( @NonNull String[] args ) {
@@ -431,6 +685,9 @@ public class RiseClipseValidatorSCL {
                         }
                         else usage();
                     }
+                    else if( XSD_SINGLE_PASS_OPTION.equals( args[i] )) {
+                        xsdSinglePass = true;
+                    }
                     else if( MAKE_EXPLICIT_LINKS_OPTION.equals( args[i] )) {
                         makeExplicitLinks = true;
                     }
@@ -456,6 +713,98 @@ public class RiseClipseValidatorSCL {
                     else if( USE_DIFFERENT_EXIT_CODES_OPTION.equals( args[i] )) {
                         useDifferentExitCodes = true;
                     }
+                    else if( JOBS_OPTION.equals( args[i] )) {
+                        if( ++i < args.length ) {
+                            jobs = parseJobs( args[i] );
+                            if( jobs < 1 ) {
+                                AbstractRiseClipseConsole.getConsole().error( VALIDATOR_SCL_CATEGORY, 0, "Invalid number of jobs " + args[i] );
+                                usage();
+                            }
+                            ++posFiles;
+                        }
+                        else usage();
+                    }
+                    else if( SERVER_OPTION.equals( args[i] )) {
+                        if( ++i < args.length ) {
+                            try {
+                                serverPort = Integer.parseInt( args[i] );
+                            }
+                            catch( NumberFormatException e ) {
+                                serverPort = -1;
+                            }
+                            if(( serverPort < 0 ) || ( serverPort > 65535 )) {
+                                AbstractRiseClipseConsole.getConsole().error( VALIDATOR_SCL_CATEGORY, 0, "Invalid port " + args[i] );
+                                usage();
+                            }
+                            ++posFiles;
+                        }
+                        else usage();
+                    }
+                    else if( OCL_CHANGE_REPORT_OPTION.equals( args[i] )) {
+                        if( ++i < args.length ) {
+                            oclChangeReportDirectory = args[i];
+                            ++posFiles;
+                        }
+                        else usage();
+                    }
+                    else if( RESULT_CACHE_OPTION.equals( args[i] )) {
+                        if( ++i < args.length ) {
+                            resultCacheDirectory = args[i];
+                            ++posFiles;
+                        }
+                        else usage();
+                    }
+                    else if( PIPELINE_OPTION.equals( args[i] )) {
+                        pipeline = true;
+                    }
+                    else if( PROFILE_OPTION.equals( args[i] )) {
+                        profiling = true;
+                    }
+                    else if( PROFILE_OCL_OPTION.equals( args[i] )) {
+                        if( ++i < args.length ) {
+                            try {
+                                oclProfileTop = Integer.parseInt( args[i] );
+                            }
+                            catch( NumberFormatException e ) {
+                                oclProfileTop = -1;
+                            }
+                            if( oclProfileTop < 1 ) {
+                                AbstractRiseClipseConsole.getConsole().error( VALIDATOR_SCL_CATEGORY, 0, "Invalid number of classes " + args[i] );
+                                usage();
+                            }
+                            ++posFiles;
+                        }
+                        else usage();
+                    }
+                    else if( DEDUP_MEMORY_OPTION.equals( args[i] )) {
+                        if( ++i < args.length ) {
+                            long megabytes;
+                            try {
+                                megabytes = Long.parseLong( args[i] );
+                            }
+                            catch( NumberFormatException e ) {
+                                megabytes = -1;
+                            }
+                            if( megabytes < 1 ) {
+                                AbstractRiseClipseConsole.getConsole().error( VALIDATOR_SCL_CATEGORY, 0, "Invalid memory size " + args[i] );
+                                usage();
+                            }
+                            dedupMemory = megabytes * 1024 * 1024;
+                            ++posFiles;
+                        }
+                        else usage();
+                    }
+                    else if( DEDUP_PROBABILISTIC_OPTION.equals( args[i] )) {
+                        dedupProbabilistic = true;
+                    }
+                    else if( PROFILE_JSON_OPTION.equals( args[i] )) {
+                        if( ++i < args.length ) {
+                            profiling = true;
+                            profileJsonFile = args[i];
+                            ++posFiles;
+                        }
+                        else usage();
+                    }
                     else if( "--hidden-door".equals( args[i] ) ) {
                         hiddenDoor  = true;
                     }
@@ -543,28 +892,500 @@ public class RiseClipseValidatorSCL {
     private static void doValidation( @NonNull String[] args, int posFiles ) {
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
 
-        oclFiles = new ArrayList<>();
-        nsdFiles = new ArrayList<>();
-        sclFiles = new ArrayList<>();
-        for( int i = posFiles; i < args.length; ++i ) {
-            if( args[i].length() == 0 ) continue;
-            getFiles( Paths.get( args[i] ), console );
-        }
+        inputArgs = args;
+        inputPosFiles = posFiles;
+        discoverFiles( console );
         
         if( hiddenDoor ) {
             doHiddenDoor();
         }
 
+        ThreadRiseClipseConsole threadConsole = null;
+        // Messages of a file must be kept to put them in the result cache
+        boolean useResultCache = ( resultCacheDirectory != null ) && ( serverPort < 0 );
+        boolean usePipeline = pipeline && ( serverPort < 0 ) && ! useResultCache && ( jobs == 1 );
+        boolean useThreads = ( serverPort >= 0 ) || useResultCache || usePipeline || ( jobs > 1 );
+        if( useThreads || ( xsdFile != null )) {
+            // Must be done before prepare() because some validators keep the console they get.
+            // Also used to keep apart messages of XML schema validation, which is done while the file is loaded
+            threadConsole = new ThreadRiseClipseConsole( console );
+            AbstractRiseClipseConsole.changeConsole( threadConsole );
+        }
+        if( useThreads ) {
+            displayProgress = false;
+        }
+
         prepare( displayNsdMessages );
+        displayProfile( console, prepareProfile );
+        if( useResultCache ) {
+            resultCache = createResultCache( console );
+        }
         int returned_value = EXIT_SUCCESS;
-        for( int i = 0; i < sclFiles.size(); ++i ) {
-            returned_value = update_returned_value(
-                returned_value,
-                run( makeExplicitLinks, sclFiles.get( i )));
+        if( serverPort >= 0 ) {
+            if( ! sclFiles.isEmpty() ) {
+                console.warning( VALIDATOR_SCL_CATEGORY, 0, "SCL files given on the command line are ignored in server mode" );
+            }
+            runServer( threadConsole );
+        }
+        else if( usePipeline ) {
+            returned_value = runPipeline( threadConsole );
+        }
+        else if( useThreads ) {
+            returned_value = runInParallel( threadConsole );
+        }
+        else {
+            for( String sclFile : sclFiles ) {
+                returned_value = update_returned_value(
+                    returned_value,
+                    run( makeExplicitLinks, sclFile ));
+                displayProfile( console, mainWorker.profile );
+            }
+        }
+        if( profiling ) {
+            profileSummary( console );
+        }
+        if( oclProfiler != null ) {
+            Severity level = console.setLevel( Severity.INFO );
+            oclProfiler.display( console, PROFILE_CATEGORY, oclProfileTop );
+            console.setLevel( level );
         }
         System.exit( returned_value );
     }
 
+    private static void displayProfile( @NonNull IRiseClipseConsole console, Profile profile ) {
+        if( profile == null ) return;
+        // Displayed whatever the chosen level
+        Severity level = console.setLevel( Severity.INFO );
+        profile.display( console, PROFILE_CATEGORY );
+        console.setLevel( level );
+    }
+
+    private static void addFileProfile( @NonNull Profile profile ) {
+        synchronized( fileProfiles ) {
+            ++profiledFiles;
+            fileProfilesSum.addAll( profile );
+            // A server may validate files without end
+            if( serverPort < 0 ) {
+                fileProfiles.add( profile );
+            }
+        }
+    }
+
+    private static void profileSummary( @NonNull IRiseClipseConsole console ) {
+        List< Profile > files;
+        Profile total;
+        synchronized( fileProfiles ) {
+            files = new ArrayList<>( fileProfiles );
+            total = new Profile( profiledFiles + " validated files"
+                    + (( cachedFiles > 0 ) ? " (" + cachedFiles + " other files with a result from the result cache)" : "" ));
+            total.addAll( fileProfilesSum );
+        }
+        displayProfile( console, total );
+        if( nsdValidator != null ) {
+            Severity level = console.setLevel( Severity.INFO );
+            NsdStatistics.getInstance().display( console, PROFILE_CATEGORY );
+            console.setLevel( level );
+        }
+        if( profileJsonFile != null ) {
+            try {
+                Profile.writeJson( Paths.get( profileJsonFile ), TOOL_VERSION, prepareProfile, files, total );
+            }
+            catch( IOException e ) {
+                console.error( PROFILE_CATEGORY, 0, "Cannot write profile in ", profileJsonFile, ": ", e.getMessage() );
+            }
+        }
+    }
+
+    // Files are searched in the arguments one after the other, and in the directories of an argument in parallel.
+    // Only this search is parallel: any argument may contain OCL or NSD files, which must all be known before
+    // validators are prepared, so no SCL file is validated before the search is complete.
+    // The files found in an argument are sorted by name, so that OCL and NSD files are always prepared in the same order
+    // and messages about found files are always the same.
+    private static void discoverFiles( @NonNull IRiseClipseConsole console ) {
+        oclFiles = new ArrayList<>();
+        nsdFiles = new ArrayList<>();
+        sclFiles = new ArrayList<>();
+        zipFilesOfPreparedFiles = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool( DISCOVERY_PARALLELISM );
+        try {
+            for( int i = inputPosFiles; i < inputArgs.length; ++i ) {
+                if( inputArgs[i].length() == 0 ) continue;
+                Path path = Paths.get( inputArgs[i] );
+                int oclStart = oclFiles.size();
+                int nsdStart = nsdFiles.size();
+                int sclStart = sclFiles.size();
+                pool.submit( () -> getFiles( path, console )).join();
+                displayFoundFiles( oclFiles.subList( oclStart, oclFiles.size() ), "OCL", console );
+                displayFoundFiles( nsdFiles.subList( nsdStart, nsdFiles.size() ), "NSD", console );
+                displayFoundFiles( sclFiles.subList( sclStart, sclFiles.size() ), "SCL", console );
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    // Called when the search of an argument is complete
+    private static void displayFoundFiles( @NonNull List< @NonNull String > found, @NonNull String kind, @NonNull IRiseClipseConsole console ) {
+        Collections.sort( found );
+        for( String name : found ) {
+            console.info( VALIDATOR_SCL_CATEGORY, 0, "adding as ", kind, " file ", name );
+        }
+    }
+
+    // Found files are displayed by discoverFiles(), in the order of their names
+    private static void addSclFile( @NonNull String name ) {
+        synchronized( discoveryLock ) {
+            sclFiles.add( name );
+        }
+    }
+
+    private static void addPreparedFile( @NonNull List< String > files, @NonNull String name ) {
+        synchronized( discoveryLock ) {
+            files.add( name );
+        }
+    }
+
+    private static int runInParallel( @NonNull ThreadRiseClipseConsole threadConsole ) {
+        @NonNull IRiseClipseConsole mainConsole = threadConsole.getMainConsole();
+        
+        // Each thread of the pool creates its worker when it gets its first file, see createWorker()
+        ThreadLocal< Worker > workers = ThreadLocal.withInitial( () -> {
+            // Messages about OCL files have already been displayed by prepare()
+            threadConsole.setThreadConsole( new BufferedRiseClipseConsole( mainConsole ));
+            Worker worker = createWorker();
+            threadConsole.setThreadConsole( null );
+            return worker;
+        });
+        
+        ExecutorService executor = Executors.newFixedThreadPool( jobs );
+        List< Future< Integer > > results = new ArrayList<>();
+        List< BufferedRiseClipseConsole > outputs = new ArrayList<>();
+        // Displayed after the messages of their file
+        Map< Integer, Profile > profiles = new ConcurrentHashMap<>();
+        int returned_value = EXIT_SUCCESS;
+        int outputted = 0;
+        for( String sclFile : sclFiles ) {
+            BufferedRiseClipseConsole output = new BufferedRiseClipseConsole( mainConsole );
+            outputs.add( output );
+            int index = results.size();
+            results.add( executor.submit( () -> {
+                String key = ( resultCache == null ) ? null : resultCache.key( sclFile, mainConsole );
+                ResultCache.Result result = ( key == null ) ? null : resultCache.get( key, mainConsole );
+                if( result != null ) {
+                    if( profiling ) {
+                        synchronized( fileProfiles ) {
+                            ++cachedFiles;
+                        }
+                    }
+                    output.notice( VALIDATOR_SCL_CATEGORY, 0, "File has not changed, previous result is used: ", sclFile );
+                    result.getMessages().forEach( m -> output.output( m ));
+                    return result.getExitCode();
+                }
+                Worker worker = workers.get();
+                threadConsole.setThreadConsole( output );
+                try {
+                    int exitCode = run( worker, makeExplicitLinks, sclFile );
+                    if( worker.profile != null ) {
+                        profiles.put( index, worker.profile );
+                    }
+                    if( key != null ) {
+                        resultCache.put( key, exitCode, output.getMessages(), mainConsole );
+                    }
+                    return exitCode;
+                }
+                finally {
+                    threadConsole.setThreadConsole( null );
+                }
+            }));
+        }
+        executor.shutdown();
+        
+        while( outputted < results.size() ) {
+            returned_value = collectResult( results, outputs, profiles, outputted++, executor, mainConsole, returned_value );
+        }
+        return returned_value;
+    }
+
+    // What goes from one stage of the pipeline to the next one
+    private static class PipelineItem {
+        private final @NonNull String sclFile;
+        // null only for END_OF_PIPELINE
+        private final BufferedRiseClipseConsole output;
+        private SclModelLoader sclLoader;
+        private Resource resource;
+        private int exitCode = EXIT_SUCCESS;
+        private RuntimeException failure;
+        private final Profile profile;
+
+        PipelineItem( @NonNull String sclFile, BufferedRiseClipseConsole output ) {
+            this.sclFile = sclFile;
+            this.output = output;
+            this.profile = ( profiling && ( output != null )) ? new Profile( sclFile ) : null;
+        }
+    }
+
+    private static class PipelineStage extends Thread {
+        private final @NonNull BlockingQueue< PipelineItem > input;
+        private final @NonNull BlockingQueue< PipelineItem > output;
+        private final @NonNull ThreadRiseClipseConsole threadConsole;
+        private final @NonNull Consumer< PipelineItem > step;
+        // Released for each file taken by this stage, null if none
+        private final Semaphore taken;
+        private long busyNanos = 0;
+
+        PipelineStage( @NonNull String name, @NonNull BlockingQueue< PipelineItem > input, @NonNull BlockingQueue< PipelineItem > output,
+                       @NonNull ThreadRiseClipseConsole threadConsole, Semaphore taken, @NonNull Consumer< PipelineItem > step ) {
+            super( "RiseClipseValidatorSCL " + name + " stage" );
+            this.input = input;
+            this.output = output;
+            this.threadConsole = threadConsole;
+            this.taken = taken;
+            this.step = step;
+            setDaemon( true );
+        }
+
+        @Override
+        public void run() {
+            try {
+                while( true ) {
+                    PipelineItem item = input.take();
+                    if( item == END_OF_PIPELINE ) {
+                        output.put( item );
+                        return;
+                    }
+                    if( taken != null ) taken.release();
+                    if( item.failure == null ) {
+                        threadConsole.setThreadConsole( item.output );
+                        Profile.setCurrent( item.profile );
+                        long start = System.nanoTime();
+                        try {
+                            step.accept( item );
+                        }
+                        catch( RuntimeException e ) {
+                            // Will be handled as any unexpected exception by the report stage
+                            item.failure = e;
+                        }
+                        busyNanos += System.nanoTime() - start;
+                        Profile.setCurrent( null );
+                        threadConsole.setThreadConsole( null );
+                    }
+                    output.put( item );
+                }
+            }
+            catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Not a possible file name
+    private static final PipelineItem END_OF_PIPELINE = new PipelineItem( "\0", null );
+    private static final int PIPELINE_QUEUE_CAPACITY = 1;
+
+    // Files are validated one after the other, but loading, linking, validating and reporting are done
+    // by different threads, so that loading of the next file is done while the current one is validated
+    private static int runPipeline( @NonNull ThreadRiseClipseConsole threadConsole ) {
+        @NonNull IRiseClipseConsole mainConsole = threadConsole.getMainConsole();
+
+        BlockingQueue< PipelineItem > toLoad     = new ArrayBlockingQueue<>( PIPELINE_QUEUE_CAPACITY );
+        BlockingQueue< PipelineItem > toLink     = new ArrayBlockingQueue<>( PIPELINE_QUEUE_CAPACITY );
+        BlockingQueue< PipelineItem > toValidate = new ArrayBlockingQueue<>( PIPELINE_QUEUE_CAPACITY );
+        BlockingQueue< PipelineItem > toReport   = new ArrayBlockingQueue<>( PIPELINE_QUEUE_CAPACITY );
+        // Taken before a file is loaded, given back when its validation starts: at most one model is loaded
+        // and not yet validated, so at most two models are in memory, the one being validated and the next one
+        Semaphore loadedNotValidated = new Semaphore( 1 );
+
+        List< PipelineStage > stages = List.of(
+            new PipelineStage( "load", toLoad, toLink, threadConsole, null,
+                item -> {
+                    item.sclLoader = new SclModelLoader();
+                    item.resource = loadStage( item.sclLoader, item.sclFile );
+                }),
+            new PipelineStage( "link", toLink, toValidate, threadConsole, null,
+                item -> { if( makeExplicitLinks ) linkStage( item.sclLoader, item.sclFile ); }),
+            new PipelineStage( "validate", toValidate, toReport, threadConsole, loadedNotValidated,
+                item -> {
+                    item.exitCode = validateStage( mainWorker, item.resource, item.sclFile );
+                    // The model is no more needed
+                    item.resource = null;
+                    item.sclLoader.reset();
+                    item.sclLoader = null;
+                })
+        );
+        long start = System.nanoTime();
+        stages.forEach( Thread::start );
+
+        Thread feeder = new Thread( () -> {
+            try {
+                for( String sclFile : sclFiles ) {
+                    loadedNotValidated.acquire();
+                    toLoad.put( new PipelineItem( sclFile, new BufferedRiseClipseConsole( mainConsole )));
+                }
+                toLoad.put( END_OF_PIPELINE );
+            }
+            catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        }, "RiseClipseValidatorSCL feeder" );
+        feeder.setDaemon( true );
+        feeder.start();
+
+        // Report stage
+        int returned_value = EXIT_SUCCESS;
+        long reportNanos = 0;
+        try {
+            while( true ) {
+                PipelineItem item = toReport.take();
+                if( item == END_OF_PIPELINE ) break;
+                long reportStart = System.nanoTime();
+                item.output.flushTo( mainConsole );
+                reportNanos += System.nanoTime() - reportStart;
+                if( item.failure != null ) {
+                    throw item.failure;
+                }
+                if( item.profile != null ) {
+                    addFileProfile( item.profile );
+                    displayProfile( mainConsole, item.profile );
+                }
+                returned_value = update_returned_value( returned_value, item.exitCode );
+            }
+        }
+        catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException( e );
+        }
+
+        double elapsedNanos = Math.max( 1, System.nanoTime() - start );
+        for( PipelineStage stage : stages ) {
+            displayStageUse( mainConsole, stage.getName(), stage.busyNanos, elapsedNanos );
+        }
+        displayStageUse( mainConsole, "RiseClipseValidatorSCL report stage", reportNanos, elapsedNanos );
+        return returned_value;
+    }
+
+    private static void displayStageUse( @NonNull IRiseClipseConsole console, @NonNull String stage, long busyNanos, double elapsedNanos ) {
+        console.notice( VALIDATOR_SCL_CATEGORY, 0, stage, " busy ",
+                        String.format( "%.1f", busyNanos / 1e9 ), " s, ",
+                        String.format( "%.0f", 100 * busyNanos / elapsedNanos ), "% of elapsed time" );
+    }
+
+    // Messages are outputted file after file, in the order files were found
+    private static int collectResult( @NonNull List< Future< Integer > > results, @NonNull List< BufferedRiseClipseConsole > outputs,
+                                      @NonNull Map< Integer, Profile > profiles, int i,
+                                      @NonNull ExecutorService executor, @NonNull IRiseClipseConsole mainConsole, int returned_value ) {
+        try {
+            returned_value = update_returned_value( returned_value, results.get( i ).get() );
+        }
+        catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            throw new RuntimeException( e );
+        }
+        catch( ExecutionException e ) {
+            outputs.get( i ).flushTo( mainConsole );
+            executor.shutdownNow();
+            // Will be handled as any unexpected exception
+            throw new RuntimeException( e.getCause() );
+        }
+        outputs.get( i ).flushTo( mainConsole );
+        outputs.set( i, null );
+        displayProfile( mainConsole, profiles.remove( i ));
+        return returned_value;
+    }
+
+    private static void runServer( @NonNull ThreadRiseClipseConsole threadConsole ) {
+        // Validators are prepared again while no validation is running
+        ReentrantReadWriteLock validatorsLock = new ReentrantReadWriteLock();
+        ThreadLocal< Worker > workers = new ThreadLocal<>();
+
+        ValidationServer.Handler handler = new ValidationServer.Handler() {
+
+            @Override
+            public int validate( @NonNull String sclFile ) {
+                if( preparedFilesChanged() ) {
+                    validatorsLock.writeLock().lock();
+                    try {
+                        // May have been done by another request
+                        if( preparedFilesChanged() ) {
+                            AbstractRiseClipseConsole.getConsole().notice( VALIDATOR_SCL_CATEGORY, 0, "OCL or NSD files have been modified, they are loaded again" );
+                            prepareAgain();
+                        }
+                    }
+                    finally {
+                        validatorsLock.writeLock().unlock();
+                    }
+                }
+                validatorsLock.readLock().lock();
+                try {
+                    Worker worker = workers.get();
+                    if(( worker == null ) || ( worker.generation != preparedGeneration )) {
+                        // Messages about OCL files have already been displayed by prepare()
+                        IRiseClipseConsole console = threadConsole.getThreadConsole();
+                        threadConsole.setThreadConsole( new BufferedRiseClipseConsole( AbstractRiseClipseConsole.getConsole() ));
+                        worker = createWorker();
+                        threadConsole.setThreadConsole( console );
+                        workers.set( worker );
+                    }
+                    int exitCode = run( worker, makeExplicitLinks, sclFile );
+                    displayProfile( AbstractRiseClipseConsole.getConsole(), worker.profile );
+                    return exitCode;
+                }
+                finally {
+                    validatorsLock.readLock().unlock();
+                }
+            }
+
+            @Override
+            public void reload() {
+                validatorsLock.writeLock().lock();
+                try {
+                    prepareAgain();
+                }
+                finally {
+                    validatorsLock.writeLock().unlock();
+                }
+            }
+        };
+
+        try {
+            new ValidationServer( serverPort, jobs, threadConsole, handler ).serve();
+        }
+        catch( IOException e ) {
+            threadConsole.getMainConsole().error( VALIDATOR_SCL_CATEGORY, 0, "Server error: ", e.getMessage() );
+        }
+        // The summary is displayed by doValidation() when the server stops
+    }
+
+    // OCL and NSD files are searched again, so that changes in directories and in zip files are taken into account.
+    // Files extracted from zip files by the previous search are then removed.
+    private static void prepareAgain() {
+        List< Path > previousExtractions = ZipEntries.takeTemporaryDirectories();
+        discoverFiles( AbstractRiseClipseConsole.getConsole() );
+        prepare( displayNsdMessages );
+        ZipEntries.delete( previousExtractions );
+    }
+
+    private static Map< String, Long > lastModifiedTimes( @NonNull List< String > files ) {
+        Map< String, Long > times = new HashMap<>();
+        for( String file : files ) {
+            times.put( file, new File( file ).lastModified() );
+        }
+        return times;
+    }
+
+    private static @NonNull List< String > preparedFiles() {
+        List< String > files = new ArrayList<>();
+        if( oclFiles != null ) files.addAll( oclFiles );
+        if( nsdFiles != null ) files.addAll( nsdFiles );
+        if( zipFilesOfPreparedFiles != null ) files.addAll( zipFilesOfPreparedFiles );
+        return files;
+    }
+
+    private static boolean preparedFilesChanged() {
+        return ! lastModifiedTimes( preparedFiles() ).equals( preparedFilesTimestamps );
+    }
+
     private static void getFiles( Path path, IRiseClipseConsole console ) {
         if( path.getName( path.getNameCount() - 1 ).toString().startsWith( "." )) {
             if( ! keepDotFiles ) {
@@ -573,51 +1394,46 @@ public class RiseClipseValidatorSCL {
             }
         }
         if( Files.isDirectory( path )) {
-            try {
-                Files.list( path )
-                    .forEach( f -> getFiles( f.normalize(), console ));
+            // Content is listed before being searched in parallel, so that the directory is not kept open
+            List< Path > content;
+            try( Stream< Path > children = Files.list( path )) {
+                content = children.map( Path::normalize ).toList();
             }
             catch( IOException e ) {
                 console.error( VALIDATOR_SCL_CATEGORY, 0, "got IOException while listing content of directory ", path );
+                return;
             }
+            // Run in the ForkJoinPool of the discovery
+            content.parallelStream().forEach( f -> getFiles( f, console ));
         }
         else if( Files.isReadable( path )) {
             String name = path.toString();
             int dotPos = name.lastIndexOf( "." );
             if( dotPos != -1 ) {
                 if( name.substring( dotPos ).equalsIgnoreCase( OCL_FILE_EXTENSION )) {
-                    console.info( VALIDATOR_SCL_CATEGORY, 0, "adding as OCL file ", name );
-                    oclFiles.add( name );
+                    addPreparedFile( oclFiles, name );
                 }
                 else if( name.substring( dotPos ).equalsIgnoreCase( NSD_FILE_EXTENSION )) {
-                    console.info( VALIDATOR_SCL_CATEGORY, 0, "adding as NSD file ", name );
-                    nsdFiles.add( name );
+                    addPreparedFile( nsdFiles, name );
                 }
                 else if( name.substring( dotPos ).equalsIgnoreCase( SNSD_FILE_EXTENSION )) {
-                    console.info( VALIDATOR_SCL_CATEGORY, 0, "adding as NSD file ", name );
-                    nsdFiles.add( name );
+                    addPreparedFile( nsdFiles, name );
                 }
                 else if( name.substring( dotPos ).equalsIgnoreCase( APP_NS_FILE_EXTENSION )) {
-                    console.info( VALIDATOR_SCL_CATEGORY, 0, "adding as NSD file ", name );
-                    nsdFiles.add( name );
+                    addPreparedFile( nsdFiles, name );
                 }
                 else if( name.substring( dotPos ).equalsIgnoreCase( NSDOC_FILE_EXTENSION )) {
-                    console.info( VALIDATOR_SCL_CATEGORY, 0, "adding as NSD file ", name );
-                    nsdFiles.add( name );
+                    addPreparedFile( nsdFiles, name );
                 }
                 else if( name.substring( dotPos ).equalsIgnoreCase( ZIP_FILE_EXTENSION )) {
-                    for( String file : getFilesFromZipFile( path, console )) {
-                        getFiles( Paths.get( file ).normalize(), console );
-                    }
+                    getFilesFromZipFile( path, console );
                 }
                 else {
-                    console.info( VALIDATOR_SCL_CATEGORY, 0, "adding as SCL file ", name );
-                    sclFiles.add( name );
+                    addSclFile( name );
                 }
             }
             else {
-                console.info( VALIDATOR_SCL_CATEGORY, 0, "adding as SCL file ", name );
-                sclFiles.add( name );
+                addSclFile( name );
             }
         }
         else {
@@ -626,45 +1442,52 @@ public class RiseClipseValidatorSCL {
         
     }
 
+    // SCL files are not extracted, they are read directly from the zip file when validated.
+    // Other files (OCL, NSD, zip) are extracted in a temporary directory, because they are read by name.
     // Code taken partially from https://www.baeldung.com/java-compress-and-uncompress
     // and also from https://stackoverflow.com/questions/9324933/what-is-a-good-java-library-to-zip-unzip-files
-    private static @NonNull ArrayList< String > getFilesFromZipFile( @NonNull Path zipPath, @NonNull IRiseClipseConsole console ) {
-        @NonNull ArrayList< String > files = new ArrayList<>();
+    private static void getFilesFromZipFile( @NonNull Path zipPath, @NonNull IRiseClipseConsole console ) {
         @NonNull String zipName = zipPath.getFileName().toString();
         zipName = zipName.substring( 0, zipName.lastIndexOf( '.' ));
         try( @NonNull ZipFile zipFile = new ZipFile( zipPath.toFile() )) {
-            @NonNull Path unzipDir = Files.createTempDirectory( zipName );
+            Path unzipDir = null;
             @NonNull Enumeration< ? extends ZipEntry > entries = zipFile.entries();
             while( entries.hasMoreElements() ) {
                 @NonNull ZipEntry zipEntry = entries.nextElement();
-                File newFile = newFileFromZipEntry( unzipDir.toFile(), zipEntry, console );
-                if( newFile == null ) continue;
-                if( zipEntry.isDirectory() ) {
-                    if( ! newFile.isDirectory() && ! newFile.mkdirs() ) {
-                        console.alert( VALIDATOR_SCL_CATEGORY, 0,
-                                       "Failed to create directory for ",
-                                       zipEntry.getName(),
-                                       ", files after will be ignored" );
-                        return files;
+                if( zipEntry.isDirectory() ) continue;
+                if( ! isExtractedFromZipFile( zipEntry.getName() )) {
+                    String entryName = zipEntry.getName();
+                    if( entryName.substring( entryName.lastIndexOf( '/' ) + 1 ).startsWith( "." ) && ! keepDotFiles ) {
+                        console.info( VALIDATOR_SCL_CATEGORY, 0, entryName, " in ", zipPath, " is ignored because it starts with a dot" );
+                        continue;
                     }
-                } 
-                else {
-                    // fix for Windows-created archives
-                    @NonNull File parent = newFile.getParentFile();
-                    if( ! parent.isDirectory() && ! parent.mkdirs() ) {
-                        console.alert( VALIDATOR_SCL_CATEGORY, 0,
-                                "Failed to create directory for ",
-                                parent.getName(),
-                                ", files after will be ignored" );
-                        return files;
+                    String name = ZipEntries.nameOf( zipPath, entryName );
+                    addSclFile( name );
+                    continue;
+                }
+                if( unzipDir == null ) {
+                    unzipDir = ZipEntries.createTemporaryDirectory( zipName );
+                    synchronized( discoveryLock ) {
+                        zipFilesOfPreparedFiles.add( zipPath.toString() );
                     }
+                }
+                File newFile = newFileFromZipEntry( unzipDir.toFile(), zipEntry, console );
+                if( newFile == null ) continue;
+                // fix for Windows-created archives
+                @NonNull File parent = newFile.getParentFile();
+                if( ! parent.isDirectory() && ! parent.mkdirs() ) {
+                    console.alert( VALIDATOR_SCL_CATEGORY, 0,
+                            "Failed to create directory for ",
+                            parent.getName(),
+                            ", files after will be ignored" );
+                    return;
+                }
 
-                    // write file content
-                    try( @NonNull FileOutputStream out = new FileOutputStream( newFile )) {
-                        zipFile.getInputStream( zipEntry ).transferTo( out );
-                    }
-                    files.add( newFile.getAbsolutePath() );
+                // write file content
+                try( @NonNull FileOutputStream out = new FileOutputStream( newFile )) {
+                    zipFile.getInputStream( zipEntry ).transferTo( out );
                 }
+                getFiles( newFile.toPath().normalize(), console );
             }
         }
         catch( IOException e ) {
@@ -673,7 +1496,18 @@ public class RiseClipseValidatorSCL {
                     zipPath.toString(),
                     ", it will be ignored" );
         }
-        return files;
+    }
+
+    private static boolean isExtractedFromZipFile( @NonNull String entryName ) {
+        int dotPos = entryName.lastIndexOf( "." );
+        if( dotPos == -1 ) return false;
+        String extension = entryName.substring( dotPos );
+        return extension.equalsIgnoreCase( OCL_FILE_EXTENSION )
+            || extension.equalsIgnoreCase( NSD_FILE_EXTENSION )
+            || extension.equalsIgnoreCase( SNSD_FILE_EXTENSION )
+            || extension.equalsIgnoreCase( APP_NS_FILE_EXTENSION )
+            || extension.equalsIgnoreCase( NSDOC_FILE_EXTENSION )
+            || extension.equalsIgnoreCase( ZIP_FILE_EXTENSION );
     }
 
     // From https://www.baeldung.com/java-compress-and-uncompress
@@ -735,9 +1569,9 @@ public class RiseClipseValidatorSCL {
     
         for( int i = 0; i < sclFiles.size(); ++i ) {
             console.setLevel( Severity.WARNING );
-            sclLoader.reset();
-            Resource resource = sclLoader.loadWithoutValidation( sclFiles.get( i ));
-            sclLoader.finalizeLoad( console );
+            mainWorker.sclLoader.reset();
+            Resource resource = mainWorker.sclLoader.loadWithoutValidation( sclFiles.get( i ));
+            mainWorker.sclLoader.finalizeLoad( console );
             if( resource.getContents().size() == 0 ) continue;
             console.setLevel( Severity.INFO );
 
@@ -798,9 +1632,9 @@ public class RiseClipseValidatorSCL {
 
         for( int i = 0; i < sclFiles.size(); ++i ) {
             console.setLevel( Severity.WARNING );
-            sclLoader.reset();
-            Resource resource = sclLoader.loadWithoutValidation( sclFiles.get( i ));
-            sclLoader.finalizeLoad( console );
+            mainWorker.sclLoader.reset();
+            Resource resource = mainWorker.sclLoader.loadWithoutValidation( sclFiles.get( i ));
+            mainWorker.sclLoader.finalizeLoad( console );
             console.setLevel( Severity.INFO );
             SCL scl = ( SCL ) resource.getContents().get( 0 );
             
@@ -884,6 +1718,17 @@ public class RiseClipseValidatorSCL {
     }
 
     private static void prepare( boolean displayNsdMessages ) {
+        prepareProfile = profiling ? new Profile( "preparation" ) : null;
+        Profile.setCurrent( prepareProfile );
+        try {
+            prepareValidators( displayNsdMessages );
+        }
+        finally {
+            Profile.setCurrent( null );
+        }
+    }
+
+    private static void prepareValidators( boolean displayNsdMessages ) {
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
         
         SclPackage sclPg = SclPackage.eINSTANCE;
@@ -894,33 +1739,65 @@ public class RiseClipseValidatorSCL {
         
         composedValidator = new ComposedEValidator( null );
 
+        oclValidator = null;
+        oclProfiler = null;
         if(( oclFiles != null ) && ( ! oclFiles.isEmpty() )) {
-            console.notice( VALIDATOR_SCL_CATEGORY, 0, "Loading OCL constraints" );
-            oclValidator = new OCLValidator( sclPg, console );
-
-            for( int i = 0; i < oclFiles.size(); ++i ) {
-                oclValidator.addOCLDocument( oclFiles.get( i ), console );
+            String oclKey = getOclKey( console );
+            if(( oclKey != null ) && oclKey.equals( preparedOclKey ) && ( console == preparedOclConsole )) {
+                console.notice( VALIDATOR_SCL_CATEGORY, 0, "OCL files have not changed, they are not loaded again" );
+                oclValidator = preparedOclValidator;
+            }
+            else {
+                console.notice( VALIDATOR_SCL_CATEGORY, 0, "Loading OCL constraints" );
+                long[] begin = Profile.begin();
+                oclValidator = createOCLValidator( sclPg, console );
+                Profile.end( "OCL load and prepare", begin );
+                preparedOclValidator = oclValidator;
+                preparedOclKey = oclKey;
+                preparedOclConsole = console;
             }
-            oclValidator.prepare( console );
-            composedValidator.addChild( oclValidator );
+            if( oclProfileTop > 0 ) {
+                oclProfiler = new OclProfiler( oclFiles, console );
+            }
+            composedValidator.addChild( profiledOcl( oclValidator ));
         }
 
+        nsdValidator = null;
         if(( nsdFiles != null ) && ( ! nsdFiles.isEmpty() )) {
-            console.notice( VALIDATOR_SCL_CATEGORY, 0, "Loading NSD files" );
-            nsdValidator = new NsdValidator( sclPg );
-            for( int i = 0; i < nsdFiles.size(); ++i ) {
-                nsdValidator.addNsdDocument( nsdFiles.get( i ), console );
+            String nsdKey = getNsdKey( displayNsdMessages, console );
+            if(( nsdKey != null ) && nsdKey.equals( preparedNsdKey ) && ( console == preparedNsdConsole )) {
+                console.notice( VALIDATOR_SCL_CATEGORY, 0, "NSD files have not changed, they are not loaded again" );
+                nsdValidator = preparedNsdValidator;
             }
-            nsdValidator.prepare( console, displayNsdMessages );
-            composedValidator.addChild( nsdValidator );
+            else {
+                console.notice( VALIDATOR_SCL_CATEGORY, 0, "Loading NSD files" );
+                long[] begin = Profile.begin();
+                nsdValidator = new NsdValidator( sclPg );
+                for( int i = 0; i < nsdFiles.size(); ++i ) {
+                    nsdValidator.addNsdDocument( nsdFiles.get( i ), console );
+                }
+                Profile.end( "NSD load", begin );
+                begin = Profile.begin();
+                nsdValidator.prepare( console, displayNsdMessages );
+                Profile.end( "NSD prepare", begin );
+                NsdStatistics.register( console );
+                preparedNsdValidator = nsdValidator;
+                preparedNsdKey = nsdKey;
+                preparedNsdConsole = console;
+            }
+            composedValidator.addChild( profiled( nsdValidator, "validate/NSD" ));
         }
 
-        sclLoader = new SclModelLoader();
-        sclAdapter = new SclItemProviderAdapterFactory();
+        ++preparedGeneration;
+        mainWorker = new Worker( composedValidator );
+        preparedFilesTimestamps = lastModifiedTimes( preparedFiles() );
 
         if( xsdFile != null ) {
             console.notice( VALIDATOR_SCL_CATEGORY, 0, "Loading XSD schema" );
-            if( ! XSDValidator.prepare( xsdFile )) {
+            long[] begin = Profile.begin();
+            boolean prepared = XSDValidator.prepare( xsdFile );
+            Profile.end( "XSD prepare", begin );
+            if( ! prepared ) {
                 // Problem with given xsd file, do not do XSD validation
                 console.warning( VALIDATOR_SCL_CATEGORY, 0, "XSD validation will not be done, because of problems with XSD file: " + xsdFile );
                 xsdFile = null;
@@ -928,39 +1805,316 @@ public class RiseClipseValidatorSCL {
         }
     }
 
+    // The NSD validator does not keep anything specific to a validated file, so it can be used again by this process
+    // if the same NSD files, with the same content, are given
+    private static String getNsdKey( boolean displayNsdMessages, @NonNull IRiseClipseConsole console ) {
+        ContentHash hash = new ContentHash()
+                .add( TOOL_VERSION )
+                .add( String.valueOf( displayNsdMessages ));
+        try {
+            for( String nsdFile : nsdFiles ) {
+                hash.add( nsdFile ).addFile( Paths.get( nsdFile ));
+            }
+        }
+        catch( IOException e ) {
+            console.info( VALIDATOR_SCL_CATEGORY, 0, "Cannot read NSD file, it will be loaded again next time: ", e.getMessage() );
+            return null;
+        }
+        return hash.get();
+    }
+
+    // Everything, except the SCL file, which may change the messages or the exit code
+    private static ResultCache createResultCache( @NonNull IRiseClipseConsole console ) {
+        if((( oclValidator != null ) && ( preparedOclKey == null )) || (( nsdValidator != null ) && ( preparedNsdKey == null ))) {
+            console.warning( VALIDATOR_SCL_CATEGORY, 0, "Some OCL or NSD files cannot be read, " + RESULT_CACHE_OPTION + " is ignored" );
+            return null;
+        }
+        // Also follows the files included by the XSD file
+        String schemaKey = ( xsdFile == null ) ? "" : XSDValidator.getSchemaKey();
+        if( schemaKey == null ) {
+            console.warning( VALIDATOR_SCL_CATEGORY, 0, "Some XSD files cannot be read, " + RESULT_CACHE_OPTION + " is ignored" );
+            return null;
+        }
+        ContentHash hash = new ContentHash()
+                .add( TOOL_VERSION )
+                .add(( oclValidator == null ) ? "" : preparedOclKey )
+                .add(( nsdValidator == null ) ? "" : preparedNsdKey )
+                .add( schemaKey )
+                .add( console.getLevel().name() )
+                .add( String.valueOf( makeExplicitLinks ))
+                .add( String.valueOf( useDifferentExitCodes ))
+                .add( String.valueOf( xsdSinglePass ))
+                .add( String.valueOf( dedupMemory ))
+                .add( String.valueOf( dedupProbabilistic ));
+        try {
+            return new ResultCache( Paths.get( resultCacheDirectory ), hash.get() );
+        }
+        catch( IOException e ) {
+            console.warning( VALIDATOR_SCL_CATEGORY, 0, RESULT_CACHE_OPTION + " is ignored because of IOException: ", e.getMessage() );
+            return null;
+        }
+    }
+
+    private static String getOclKey( @NonNull IRiseClipseConsole console ) {
+        Map< String, String > hashes = OclChangeReport.hashes( oclFiles, console );
+        if( hashes == null ) return null;
+        if( oclChangeReportDirectory != null ) {
+            new OclChangeReport( Paths.get( oclChangeReportDirectory )).update( TOOL_VERSION, hashes, console );
+        }
+        return OclChangeReport.key( TOOL_VERSION, hashes );
+    }
+
+    private static @NonNull OCLValidator createOCLValidator( @NonNull SclPackage sclPg, @NonNull IRiseClipseConsole console ) {
+        OCLValidator validator = new OCLValidator( sclPg, console );
+
+        for( int i = 0; i < oclFiles.size(); ++i ) {
+            validator.addOCLDocument( oclFiles.get( i ), console );
+        }
+        validator.prepare( console );
+        return validator;
+    }
+
+    // The prepared OCL validator cannot be shared by the workers: the OCL environment it uses keeps the
+    // state of the current evaluation and its caches (model manager of the validated resource, evaluated
+    // expressions), they are modified by each evaluation and are not thread safe.
+    // Each worker therefore prepares its own OCL validator from the OCL files. This is done lazily, by the
+    // thread of the worker when it gets its first SCL file: the preparations run in parallel, and a thread
+    // without any file prepares nothing. The NSD validator is not modified after prepare(), it is shared.
+    private static @NonNull Worker createWorker() {
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
+        ComposedEValidator validator = new ComposedEValidator( null );
+        if( oclValidator != null ) {
+            validator.addChild( profiledOcl( createOCLValidator( SclPackage.eINSTANCE, console )));
+        }
+        if( nsdValidator != null ) {
+            validator.addChild( profiled( nsdValidator, "validate/NSD" ));
+        }
+        return new Worker( validator );
+    }
+
+    // Child validators are only wrapped when profiling, measuring them has a cost
+    private static @NonNull EValidator profiled( @NonNull EValidator validator, @NonNull String phase ) {
+        return profiling ? Profile.profiled( validator, phase ) : validator;
+    }
+
+    // OCL messages are decoded when they are added to the diagnostic chain
+    private static @NonNull EValidator profiledOcl( @NonNull OCLValidator validator ) {
+        EValidator structured = OclDiagnostics.wrap( validator );
+        return profiled(( oclProfiler != null ) ? oclProfiler.wrap( structured ) : structured, "validate/OCL" );
+    }
+
     // public because used by ui
     public static int run( boolean makeExplicitLinks, @NonNull String sclFile ) {
+        return run( mainWorker, makeExplicitLinks, sclFile );
+    }
+
+    // Zip entries are given to the resource set of the loader with their archive URI
+    private static Resource load( @NonNull SclModelLoader sclLoader, @NonNull String sclFile, @NonNull IRiseClipseConsole console ) {
+        if( ! ZipEntries.isZipEntry( sclFile )) {
+            return sclLoader.loadWithoutValidation( sclFile );
+        }
+        try {
+            return sclLoader.getResourceSet().getResource( URI.createURI( sclFile ), true );
+        }
+        catch( RuntimeException e ) {
+            console.error( VALIDATOR_SCL_CATEGORY, 0, "Cannot load ", sclFile, ": ", e.getMessage() );
+            return null;
+        }
+    }
+
+    private static int run( @NonNull Worker worker, boolean makeExplicitLinks, @NonNull String sclFile ) {
+        worker.profile = profiling ? new Profile( sclFile ) : null;
+        Profile.setCurrent( worker.profile );
+        SclFileEvent event = new SclFileEvent();
+        event.begin();
+        try {
+            worker.sclLoader.reset();
+            Resource resource = loadStage( worker.sclLoader, sclFile );
+            if( makeExplicitLinks ) {
+                linkStage( worker.sclLoader, sclFile );
+            }
+            int exitCode = validateStage( worker, resource, sclFile );
+            event.file = sclFile;
+            event.exitCode = exitCode;
+            event.commit();
+            return exitCode;
+        }
+        finally {
+            Profile.setCurrent( null );
+            if( worker.profile != null ) {
+                addFileProfile( worker.profile );
+            }
+        }
+    }
+
+    // The steps of run(), also used by the stages of runPipeline()
+
+    private static Resource loadStage( @NonNull SclModelLoader sclLoader, @NonNull String sclFile ) {
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-        
-        outputtedMessages = new HashSet<>();
-        
+
+        // When both the XML schema validator and the loader parse the file, it is read only once
+        SclInput input = null;
         if( xsdFile != null ) {
-            XSDValidator.validate( sclFile );
+            if( xsdSinglePass ) {
+                return loadWithXsdValidation( sclLoader, sclFile, console );
+            }
+            input = openInput( sclFile );
+            if( console instanceof ThreadRiseClipseConsole ) {
+                return loadDuringXsdValidation( sclLoader, sclFile, input, ( ThreadRiseClipseConsole ) console );
+            }
+            long[] begin = Profile.begin();
+            validateXsd( sclFile, input );
+            Profile.end( "XSDValidator.validate", begin );
         }
         
-        sclLoader.reset();
         console.notice( VALIDATOR_SCL_CATEGORY, 0, "Loading SCL file:", sclFile );
-        Resource resource = sclLoader.loadWithoutValidation( sclFile );
-        if( makeExplicitLinks ) {
-            console.info( VALIDATOR_SCL_CATEGORY, 0, "Making explicit links for file: ", sclFile );
-            sclLoader.finalizeLoad( console );
+        long[] begin = Profile.begin();
+        Resource resource = load( sclLoader, sclFile, console, input );
+        Profile.end( "loadWithoutValidation", begin );
+        return resource;
+    }
+
+    // Null if the file cannot be read, this is reported when it is validated or loaded
+    private static SclInput openInput( @NonNull String sclFile ) {
+        try {
+            return SclInput.open( sclFile );
+        }
+        catch( IOException e ) {
+            return null;
+        }
+    }
+
+    private static void validateXsd( @NonNull String sclFile, SclInput input ) {
+        if( input == null ) {
+            XSDValidator.validate( sclFile );
+        }
+        else {
+            XSDValidator.validate( sclFile, input );
+        }
+    }
+
+    // The loader is given the content already read instead of reading the file again
+    private static Resource load( @NonNull SclModelLoader sclLoader, @NonNull String sclFile, @NonNull IRiseClipseConsole console, SclInput input ) {
+        if( input == null ) return load( sclLoader, sclFile, console );
+        List< URIHandler > handlers = sclLoader.getResourceSet().getURIConverter().getURIHandlers();
+        URIHandler handler = input.getURIHandler();
+        handlers.add( 0, handler );
+        try {
+            return load( sclLoader, sclFile, console );
+        }
+        finally {
+            handlers.remove( handler );
+        }
+    }
+
+    // The XML schema validation is done by the parser used to load the file, which is read and parsed only once
+    private static Resource loadWithXsdValidation( @NonNull SclModelLoader sclLoader, @NonNull String sclFile, @NonNull IRiseClipseConsole console ) {
+        console.notice( VALIDATOR_SCL_CATEGORY, 0, "Loading SCL file:", sclFile );
+        SchemaValidatingParserPool parserPool = new SchemaValidatingParserPool( console );
+        Map< Object, Object > loadOptions = sclLoader.getResourceSet().getLoadOptions();
+        Object previousPool = loadOptions.put( XMLResource.OPTION_USE_PARSER_POOL, parserPool );
+        long[] begin = Profile.begin();
+        Resource resource;
+        try {
+            resource = load( sclLoader, sclFile, console );
+        }
+        finally {
+            if( previousPool == null ) {
+                loadOptions.remove( XMLResource.OPTION_USE_PARSER_POOL );
+            }
+            else {
+                loadOptions.put( XMLResource.OPTION_USE_PARSER_POOL, previousPool );
+            }
+        }
+        Profile.end( "loadWithoutValidation and XSDValidator", begin );
+        if( ! parserPool.isUsed() ) {
+            // The file has not been parsed by an EMF XML parser, the usual validation is done
+            begin = Profile.begin();
+            XSDValidator.validate( sclFile );
+            Profile.end( "XSDValidator.validate", begin );
+        }
+        return resource;
+    }
+
+    // The file is read at the same time by the XML schema validator and by the loader, in two threads.
+    // The messages of the XML schema validator, which may be many, are outputted as they come;
+    // those of the loader are kept and outputted after them, as when they are done in sequence.
+    // While both threads run, only the XML schema validator uses the console of the calling thread.
+    private static Resource loadDuringXsdValidation( @NonNull SclModelLoader sclLoader, @NonNull String sclFile, SclInput input, @NonNull ThreadRiseClipseConsole threadConsole ) {
+        IRiseClipseConsole previous = threadConsole.getThreadConsole();
+        IRiseClipseConsole output = ( previous == null ) ? threadConsole.getMainConsole() : previous;
+        BufferedRiseClipseConsole loadOutput = new BufferedRiseClipseConsole( output );
+        Profile profile = Profile.getCurrent();
+        RuntimeException[] xsdFailure = new RuntimeException[1];
+
+        Thread xsd = new Thread( () -> {
+            threadConsole.setThreadConsole( previous );
+            Profile.setCurrent( profile );
+            long[] begin = Profile.begin();
+            try {
+                validateXsd( sclFile, input );
+            }
+            catch( RuntimeException e ) {
+                xsdFailure[0] = e;
+            }
+            Profile.end( "XSDValidator.validate", begin );
+        }, "RiseClipseValidatorSCL XML schema validation" );
+        xsd.setDaemon( true );
+        xsd.start();
+
+        Resource resource = null;
+        threadConsole.setThreadConsole( loadOutput );
+        try {
+            threadConsole.notice( VALIDATOR_SCL_CATEGORY, 0, "Loading SCL file:", sclFile );
+            long[] begin = Profile.begin();
+            resource = load( sclLoader, sclFile, threadConsole, input );
+            Profile.end( "loadWithoutValidation", begin );
         }
+        finally {
+            threadConsole.setThreadConsole( previous );
+            boolean interrupted = false;
+            while( xsd.isAlive() ) {
+                try {
+                    xsd.join();
+                }
+                catch( InterruptedException e ) {
+                    interrupted = true;
+                }
+            }
+            if( interrupted ) Thread.currentThread().interrupt();
+            loadOutput.flushTo( output );
+        }
+        if( xsdFailure[0] != null ) throw xsdFailure[0];
+        return resource;
+    }
+
+    private static void linkStage( @NonNull SclModelLoader sclLoader, @NonNull String sclFile ) {
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
+
+        console.info( VALIDATOR_SCL_CATEGORY, 0, "Making explicit links for file: ", sclFile );
+        long[] begin = Profile.begin();
+        sclLoader.finalizeLoad( console );
+        Profile.end( "finalizeLoad", begin );
+    }
+
+    private static int validateStage( @NonNull Worker worker, Resource resource, @NonNull String sclFile ) {
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
+
         if( resource != null ) {
             console.notice( VALIDATOR_SCL_CATEGORY, 0, "Validating file: " + sclFile );
-            // Some attributes must be re-initalialized
-            if( nsdValidator != null ) nsdValidator.reset();
             // Not needed for the OCL validator
             // if( oclValidator != null ) oclValidator.reset();  // NOSONAR
-            return validate( resource, sclAdapter );
+            return validate( worker, resource );
         }
         return EXIT_SUCCESS;
     }
 
-    private static int validate( @NonNull Resource resource, final AdapterFactory sclAdapter ) {
+    private static int validate( @NonNull Worker worker, @NonNull Resource resource ) {
         int returned_value = EXIT_SUCCESS;
         if( resource.getContents().isEmpty() ) return returned_value;
 
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
+        final AdapterFactory sclAdapter = worker.sclAdapter;
         
         Map< Object, Object > context = new HashMap<>();
         SubstitutionLabelProvider substitutionLabelProvider = new EValidator.SubstitutionLabelProvider() {
@@ -998,135 +2152,48 @@ public class RiseClipseValidatorSCL {
         // and it is useless to try to validate them.
         if( resource.getContents().get( 0 ) instanceof SCL  ) {
             @NonNull
-            ValidationRegistryAdapter adapter = ValidationRegistryAdapter.getAdapter( sclLoader.getResourceSet() );
-            adapter.put( SclPackage.eINSTANCE, composedValidator );
+            ValidationRegistryAdapter adapter = ValidationRegistryAdapter.getAdapter( resource.getResourceSet() );
+            adapter.put( SclPackage.eINSTANCE, worker.composedValidator );
             Diagnostician diagnostician = new Diagnostician( adapter );
             
-            Thread progress = new Thread( () -> {
-                try {
-                    while( true ) {
-                        Thread.sleep( 1000 );
-                        console.notice( VALIDATOR_SCL_CATEGORY, 0, "Running..." );
-                    }
-                }
-                catch( InterruptedException e ) {}
-            });
-            progress.start();
-            
-            Diagnostic diagnostics = diagnostician.validate( resource.getContents().get( 0 ), context );
-            
-            progress.interrupt();
-
-            for( Iterator< Diagnostic > i = diagnostics.getChildren().iterator(); i.hasNext(); ) {
-                Diagnostic childDiagnostic = i.next();
-                
-                List< ? > data = childDiagnostic.getData();
-                if(( data.size() == 2 ) && ( data.get( 1 ) instanceof RiseClipseMessage )) {
-                    // Message from NSD validation added in diagnostic
-                    @NonNull RiseClipseMessage message = ( RiseClipseMessage ) data.get( 1 );
-                    if( ! outputtedMessages.contains( message )) {
-                        returned_value = update_returned_value( returned_value, message.getSeverity() );
-                        console.output( message );
-                        outputtedMessages.add( message );
-                    }
-                    continue;
-                }
-                String diagMessage = childDiagnostic.getMessage();
-                String[] parts = diagMessage.split( ";" );
-                if( parts.length == 4 ) {
-                    Severity severity = Severity.ERROR;
+            // Progress is not displayed when messages of several files are kept until the end of their validation
+            Thread progress = null;
+            if( displayProgress ) {
+                progress = new Thread( () -> {
                     try {
-                        severity = Severity.valueOf( parts[0] );
-                        returned_value = update_returned_value( returned_value, severity );
-                    }
-                    catch( IllegalArgumentException ex ) {}
-                    if( parts[1].startsWith( "OCL" )) {
-                        // This should be a standard RiseClipse OCL message without the filename
-                        // (before 15 April 2022)
-                        int line = 0;
-                        try {
-                            line = Integer.valueOf( parts[2] );
-                        }
-                        catch( NumberFormatException ex ) {}
-                        RiseClipseMessage message = new RiseClipseMessage( severity, parts[1], line, parts[3] );
-                        if( ! outputtedMessages.contains( message )) {
-                            console.output( message);
-                            outputtedMessages.add( message );
+                        while( true ) {
+                            Thread.sleep( 1000 );
+                            console.notice( VALIDATOR_SCL_CATEGORY, 0, "Running..." );
                         }
                     }
-// This is no more true, see issue #155
-//                    else {
-//                        // This should be an IEC WG10-OCL-TF formatted message
-//                        int line = 0;
-//                        try {
-//                            line = Integer.valueOf( parts[3].substring( "line_".length() ));
-//                        }
-//                        catch( NumberFormatException ex ) {}
-//                        console.output( new RiseClipseMessage( severity, parts[1], line, parts[2] ));
-//                    }
-// But we must displayed it
-                    else {
-                        console.warning( VALIDATOR_SCL_CATEGORY, 0, "The structure of the following diagnostic message was not recognized by RiseClipseValidatorSCL" );
-                        console.warning( VALIDATOR_SCL_CATEGORY, 0, diagMessage );
-                    }
-                }
-                else if(( parts.length == 5 ) && ( parts[1].startsWith( "OCL" ))) {
-                    // This should be a standard RiseClipse OCL message with the added filename
-                    // (after 15 April 2022)
-                    Severity severity = Severity.ERROR;
-                    try {
-                        returned_value = update_returned_value( returned_value, Severity.valueOf( parts[0] ));
-                    }
-                    catch( IllegalArgumentException ex ) {}
-                    int line = 0;
-                    try {
-                        line = Integer.valueOf( parts[3] );
-                    }
-                    catch( NumberFormatException ex ) {}
-                    RiseClipseMessage message = new RiseClipseMessage( severity, parts[1], parts[2], line, parts[4] );
-                    if( ! outputtedMessages.contains( message )) {
-                        console.output( message);
-                        outputtedMessages.add( message );
-                    }
-                }
-                else if( parts.length == 6 ) {
-                    // Error message from standard IEC 61850-6-3 (issue #155)
-                    Severity severity = Severity.ERROR;
-                    try {
-                        severity = Severity.valueOf( parts[0] );
-                        returned_value = update_returned_value( returned_value, severity );
-                    }
-                    catch( IllegalArgumentException ex ) {}
-                    int line = 0;
-                    try {
-                        line = Integer.valueOf( parts[5].substring( "line_".length() ));
-                    }
-                    catch( NumberFormatException ex ) {}
-                    RiseClipseMessage message = new RiseClipseMessage( severity, parts[1] + "/" + parts[2], parts[3], line, parts[4] );
-                    if( ! outputtedMessages.contains( message )) {
-                        console.output( message);
-                        outputtedMessages.add( message );
-                    }
-                }
-                else {
-                    console.warning( VALIDATOR_SCL_CATEGORY, 0, "The structure of the following diagnostic message was not recognized by RiseClipseValidatorSCL" );
-                    console.warning( VALIDATOR_SCL_CATEGORY, 0, diagMessage );
-                }
-                
-                // The following was used before, therefore it was considered useful.
-                // It is kept in case the need arises again.
-                /*
-                EObject object = ( EObject ) data.get( 0 );
-                if(( data.size() > 1 ) && ( data.get( 1 ) instanceof EAttribute ) && ( ! childDiagnostic.getChildren().isEmpty() )) {
-                    EAttribute attribute = ( EAttribute ) data.get( 1 );
-                    if( attribute == null ) continue;
-                    message = "\tAttribute " + attribute.getName() + " of "
-                                + substitutionLabelProvider.getObjectLabel( object ) + " : "
-                                + childDiagnostic.getChildren().get( 0 ).getMessage();
-                }
-                */
+                    catch( InterruptedException e ) {}
+                });
+                progress.start();
+            }
+            
+            // What is specific to this file for the NSD validator is kept in context.
+            // Messages are outputted during validation, this phase includes their output.
+            long[] begin = Profile.begin();
+            SclPhaseEvent event = new SclPhaseEvent( String.valueOf( resource.getURI() ), "validate" );
+            event.begin();
+            DiagnosticSink sink = new DiagnosticSink( console );
+            Map< Object, Object > validationContext = diagnostician.createDefaultContext();
+            validationContext.putAll( context );
+            diagnostician.validate( resource.getContents().get( 0 ), sink, validationContext );
+            returned_value = sink.returned_value;
+            event.commit();
+            if( sink.outputtedMessages.getDuplicates() > 0 ) {
+                console.notice( VALIDATOR_SCL_CATEGORY, 0, sink.outputtedMessages.getDuplicates(), " duplicate messages were not displayed" );
+            }
+            if( sink.outputtedMessages.isSaturated() ) {
+                console.notice( VALIDATOR_SCL_CATEGORY, 0, "Memory limit for duplicate messages reached, some ",
+                        dedupProbabilistic ? "distinct messages may not have been displayed" : "duplicates may have been displayed",
+                        " (see ", DEDUP_MEMORY_OPTION, " option)" );
             }
+            // Includes the time spent in child validators, which is also given separately
+            Profile.end( "validate", begin );
             
+            if( progress != null ) progress.interrupt();
         }
         return returned_value;
     }
@@ -0,0 +1,203 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.io.IOException;
+import java.util.Map;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.validation.Schema;
+import javax.xml.validation.ValidatorHandler;
+
+import org.eclipse.emf.ecore.xmi.XMLDefaultHandler;
+import org.eclipse.emf.ecore.xmi.XMLHelper;
+import org.eclipse.emf.ecore.xmi.XMLLoad;
+import org.eclipse.emf.ecore.xmi.XMLParserPool;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
+import org.eclipse.jdt.annotation.NonNull;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.Parser;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.ext.Attributes2;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+
+/*
+ * Given to the EMF loader with XMLResource.OPTION_USE_PARSER_POOL, so that the SCL file is validated
+ * against the XML schema by the parser which loads it: the file is read and parsed only once.
+ * Parser events go through a ValidatorHandler before reaching the EMF handler.
+ */
+public class SchemaValidatingParserPool implements XMLParserPool {
+
+    // Parsers are kept between files, as EMF does when no pool is given
+    private static final XMLParserPool PARSERS = new XMLParserPoolImpl();
+
+    private final @NonNull IRiseClipseConsole console;
+    private boolean used = false;
+
+    public SchemaValidatingParserPool( @NonNull IRiseClipseConsole console ) {
+        this.console = console;
+    }
+
+    /*
+     * False if the resource was not loaded by an EMF XML parser, the file has then not been validated
+     */
+    public boolean isUsed() {
+        return used;
+    }
+
+    @Override
+    public SAXParser get( Map< String, Boolean > features, Map< String, ? > properties, boolean useLexicalHandler )
+            throws ParserConfigurationException, SAXException {
+        used = true;
+        return new SchemaValidatingParser( PARSERS.get( features, properties, useLexicalHandler ), console );
+    }
+
+    @Override
+    public void release( SAXParser parser, Map< String, Boolean > features, Map< String, ? > properties, boolean useLexicalHandler ) {
+        if( parser instanceof SchemaValidatingParser ) {
+            parser = (( SchemaValidatingParser ) parser ).parser;
+        }
+        PARSERS.release( parser, features, properties, useLexicalHandler );
+    }
+
+    @Override
+    public XMLDefaultHandler getDefaultHandler( XMLResource resource, XMLLoad xmlLoad, XMLHelper helper, Map< ?, ? > options ) {
+        return PARSERS.getDefaultHandler( resource, xmlLoad, helper, options );
+    }
+
+    @Override
+    public void releaseDefaultHandler( XMLDefaultHandler handler, Map< ?, ? > options ) {
+        PARSERS.releaseDefaultHandler( handler, options );
+    }
+
+    private static class SchemaValidatingParser extends SAXParser {
+        private final @NonNull SAXParser parser;
+        private final @NonNull IRiseClipseConsole console;
+
+        SchemaValidatingParser( @NonNull SAXParser parser, @NonNull IRiseClipseConsole console ) {
+            this.parser = parser;
+            this.console = console;
+        }
+
+        @Override
+        public void parse( InputSource is, DefaultHandler dh ) throws SAXException, IOException {
+            ValidatorHandler validatorHandler = XSDValidator.newValidatorHandler( console );
+            validatorHandler.setContentHandler( new SpecifiedAttributesFilter( dh ));
+
+            XMLReader reader = parser.getXMLReader();
+            reader.setContentHandler( validatorHandler );
+            reader.setEntityResolver( dh );
+            reader.setErrorHandler( dh );
+            reader.setDTDHandler( dh );
+            reader.parse( is );
+        }
+
+        @SuppressWarnings( "deprecation" )
+        @Override
+        public Parser getParser() throws SAXException {
+            return parser.getParser();
+        }
+
+        @Override
+        public XMLReader getXMLReader() throws SAXException {
+            return parser.getXMLReader();
+        }
+
+        @Override
+        public boolean isNamespaceAware() {
+            return parser.isNamespaceAware();
+        }
+
+        @Override
+        public boolean isValidating() {
+            return parser.isValidating();
+        }
+
+        @Override
+        public void setProperty( String name, Object value ) throws SAXNotRecognizedException, SAXNotSupportedException {
+            parser.setProperty( name, value );
+        }
+
+        @Override
+        public Object getProperty( String name ) throws SAXNotRecognizedException, SAXNotSupportedException {
+            return parser.getProperty( name );
+        }
+
+        @Override
+        public Schema getSchema() {
+            return parser.getSchema();
+        }
+
+        @Override
+        public void reset() {
+            parser.reset();
+        }
+    }
+
+    // The validator adds attributes with a default value in the schema, they must not
+    // be seen by EMF as if they were in the file
+    private static class SpecifiedAttributesFilter extends XMLFilterImpl {
+
+        SpecifiedAttributesFilter( @NonNull DefaultHandler handler ) {
+            setContentHandler( handler );
+        }
+
+        @Override
+        public void startElement( String uri, String localName, String qName, Attributes atts ) throws SAXException {
+            super.startElement( uri, localName, qName, specified( atts ));
+        }
+
+        private static Attributes specified( Attributes atts ) {
+            if( ! ( atts instanceof Attributes2 )) return atts;
+            Attributes2 attributes = ( Attributes2 ) atts;
+            AttributesImpl specified = null;
+            for( int i = 0; i < attributes.getLength(); ++i ) {
+                if( attributes.isSpecified( i )) {
+                    if( specified != null ) {
+                        specified.addAttribute( attributes.getURI( i ), attributes.getLocalName( i ), attributes.getQName( i ),
+                                                attributes.getType( i ), attributes.getValue( i ));
+                    }
+                }
+                else if( specified == null ) {
+                    // First added attribute, those before it are kept
+                    specified = new AttributesImpl();
+                    for( int j = 0; j < i; ++j ) {
+                        specified.addAttribute( attributes.getURI( j ), attributes.getLocalName( j ), attributes.getQName( j ),
+                                                attributes.getType( j ), attributes.getValue( j ));
+                    }
+                }
+            }
+            return ( specified == null ) ? atts : specified;
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*
+ * Java Flight Recorder event for the validation of one SCL file, from loading to the last message.
+ * Recorded with -XX:StartFlightRecording, it costs almost nothing otherwise.
+ */
+@Name( "fr.centralesupelec.edf.riseclipse.SclFileValidation" )
+@Label( "SCL File Validation" )
+@Description( "Validation of one SCL file" )
+@Category( { "RiseClipse", "SCL Validator" } )
+@StackTrace( false )
+public class SclFileEvent extends Event {
+
+    @Label( "File" )
+    String file;
+
+    @Label( "Exit Code" )
+    int exitCode;
+
+}
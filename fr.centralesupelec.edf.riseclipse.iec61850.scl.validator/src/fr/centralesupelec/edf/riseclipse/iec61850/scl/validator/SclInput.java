@@ -0,0 +1,198 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.URIHandler;
+import org.eclipse.emf.ecore.resource.impl.URIHandlerImpl;
+import org.eclipse.jdt.annotation.NonNull;
+import org.xml.sax.InputSource;
+
+/*
+ * Content of an SCL file, read once and shared by the XML schema validator and the EMF loader.
+ * Files are read and zip entries are decompressed in memory; the streams given to the parsers
+ * are views on this buffer, without copy. Files and zip entries larger than MAX_IN_MEMORY,
+ * and zip entries of unknown size, are read again for each stream, zip entries being then
+ * decompressed while they are read.
+ * Files are not memory-mapped: a mapping is only released by the garbage collector, the file
+ * would stay locked on Windows (the temporary files of the server could not be deleted, edited
+ * files could not be saved), and a mapped file truncated during validation may crash the JVM.
+ * The byte order mark, if any, is found on bytes and gives the encoding.
+ */
+public class SclInput {
+
+    // Longest marks first, the one of UTF-32LE starts with the one of UTF-16LE
+    private static final byte[][] BOMS = {
+        { ( byte ) 0x00, ( byte ) 0x00, ( byte ) 0xFE, ( byte ) 0xFF },
+        { ( byte ) 0xFF, ( byte ) 0xFE, ( byte ) 0x00, ( byte ) 0x00 },
+        { ( byte ) 0xEF, ( byte ) 0xBB, ( byte ) 0xBF },
+        { ( byte ) 0xFE, ( byte ) 0xFF },
+        { ( byte ) 0xFF, ( byte ) 0xFE }
+    };
+    private static final String[] BOM_ENCODINGS = { "UTF-32BE", "UTF-32LE", "UTF-8", "UTF-16BE", "UTF-16LE" };
+    // Larger files and zip entries are not kept in memory, a byte array is limited to 2 GB anyway
+    private static final long MAX_IN_MEMORY = 256L * 1024 * 1024;
+
+    private final @NonNull String sclFile;
+    // null if the file or the zip entry is too large
+    private final ByteBuffer content;
+    private final int bomLength;
+    private final String encoding;
+
+    private SclInput( @NonNull String sclFile, ByteBuffer content, byte[] start ) {
+        this.sclFile = sclFile;
+        this.content = content;
+        int bom = bom( start );
+        this.bomLength = ( bom < 0 ) ? 0 : BOMS[bom].length;
+        this.encoding = ( bom < 0 ) ? null : BOM_ENCODINGS[bom];
+    }
+
+    public static @NonNull SclInput open( @NonNull String sclFile ) throws IOException {
+        ByteBuffer content;
+        if( ZipEntries.isZipEntry( sclFile )) {
+            long size = ZipEntries.sizeOf( sclFile );
+            if(( size < 0 ) || ( size > MAX_IN_MEMORY )) {
+                content = null;
+            }
+            else {
+                try( InputStream in = ZipEntries.open( sclFile )) {
+                    content = ByteBuffer.wrap( in.readAllBytes() );
+                }
+            }
+        }
+        else {
+            Path path = Paths.get( sclFile );
+            content = ( Files.size( path ) > MAX_IN_MEMORY ) ? null : ByteBuffer.wrap( Files.readAllBytes( path ));
+        }
+        byte[] start = new byte[4];
+        if( content != null ) {
+            content.duplicate().get( start, 0, Math.min( start.length, content.limit() ));
+        }
+        else {
+            try( InputStream in = ZipEntries.open( sclFile )) {
+                in.readNBytes( start, 0, start.length );
+            }
+        }
+        return new SclInput( sclFile, content, start );
+    }
+
+    // Index in BOMS, -1 if there is no byte order mark
+    private static int bom( byte[] start ) {
+        for( int i = 0; i < BOMS.length; ++i ) {
+            boolean found = true;
+            for( int j = 0; found && ( j < BOMS[i].length ); ++j ) {
+                found = ( start[j] == BOMS[i][j] );
+            }
+            if( found ) return i;
+        }
+        return -1;
+    }
+
+    /*
+     * Null if there is no byte order mark, the XML declaration then gives the encoding
+     */
+    public String getEncoding() {
+        return encoding;
+    }
+
+    /*
+     * The whole content, with the byte order mark
+     */
+    public @NonNull InputStream newInputStream() throws IOException {
+        if( content == null ) return ZipEntries.open( sclFile );
+        return new ByteBufferInputStream( content.duplicate() );
+    }
+
+    /*
+     * Without the byte order mark, the encoding is given to the parser
+     */
+    public @NonNull InputSource newInputSource() throws IOException {
+        InputStream in = newInputStream();
+        in.skipNBytes( bomLength );
+        InputSource source = new InputSource( in );
+        if( encoding != null ) source.setEncoding( encoding );
+        return source;
+    }
+
+    /*
+     * To be added to the URI handlers of the resource set, so that the EMF loader uses this content
+     */
+    public @NonNull URIHandler getURIHandler() {
+        Path path = ZipEntries.isZipEntry( sclFile ) ? null : Paths.get( sclFile ).toAbsolutePath().normalize();
+        return new URIHandlerImpl() {
+
+            @Override
+            public boolean canHandle( URI uri ) {
+                if( path == null ) return sclFile.equals( uri.toString() );
+                return uri.isFile() && path.equals( Paths.get( uri.toFileString() ).toAbsolutePath().normalize() );
+            }
+
+            @Override
+            public InputStream createInputStream( URI uri, Map< ?, ? > options ) throws IOException {
+                return newInputStream();
+            }
+        };
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final @NonNull ByteBuffer buffer;
+
+        ByteBufferInputStream( @NonNull ByteBuffer buffer ) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? ( buffer.get() & 0xFF ) : -1;
+        }
+
+        @Override
+        public int read( byte[] b, int off, int len ) {
+            if( len == 0 ) return 0;
+            if( ! buffer.hasRemaining() ) return -1;
+            int n = Math.min( len, buffer.remaining() );
+            buffer.get( b, off, n );
+            return n;
+        }
+
+        @Override
+        public long skip( long n ) {
+            int skipped = ( int ) Math.max( 0, Math.min( n, buffer.remaining() ));
+            buffer.position( buffer.position() + skipped );
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+}
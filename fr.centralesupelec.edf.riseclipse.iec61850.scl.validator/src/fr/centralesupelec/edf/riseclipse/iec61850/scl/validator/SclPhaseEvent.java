@@ -0,0 +1,55 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/*
+ * Java Flight Recorder event for a phase of the validation of one SCL file (XML schema validation, validation by OCL and NSD).
+ * Only phases longer than the threshold are recorded, it can be changed in the JFR settings.
+ */
+@Name( "fr.centralesupelec.edf.riseclipse.SclPhase" )
+@Label( "SCL Validation Phase" )
+@Description( "Phase of the validation of one SCL file" )
+@Category( { "RiseClipse", "SCL Validator" } )
+@StackTrace( false )
+@Threshold( "10 ms" )
+public class SclPhaseEvent extends Event {
+
+    @Label( "File" )
+    String file;
+
+    @Label( "Phase" )
+    String phase;
+
+    public SclPhaseEvent( String file, String phase ) {
+        this.file = file;
+        this.phase = phase;
+    }
+
+}
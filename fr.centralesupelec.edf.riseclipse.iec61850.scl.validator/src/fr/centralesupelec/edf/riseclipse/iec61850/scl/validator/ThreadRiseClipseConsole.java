@@ -0,0 +1,107 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
+
+/*
+ * Validators get their console with AbstractRiseClipseConsole.getConsole(), and some of them keep it.
+ * When several files are validated at the same time, this console is used as the global one:
+ * it sends messages to the console chosen by the current thread, or to the main console otherwise.
+ */
+public class ThreadRiseClipseConsole implements IRiseClipseConsole {
+
+    private final @NonNull IRiseClipseConsole mainConsole;
+    private final InheritableThreadLocal< IRiseClipseConsole > threadConsole = new InheritableThreadLocal<>();
+
+    public ThreadRiseClipseConsole( @NonNull IRiseClipseConsole mainConsole ) {
+        this.mainConsole = mainConsole;
+    }
+
+    public @NonNull IRiseClipseConsole getMainConsole() {
+        return mainConsole;
+    }
+
+    /*
+     * A null console means that the main console is used again
+     */
+    public void setThreadConsole( IRiseClipseConsole console ) {
+        if( console == null ) {
+            threadConsole.remove();
+        }
+        else {
+            threadConsole.set( console );
+        }
+    }
+
+    /*
+     * Returns null if the current thread uses the main console
+     */
+    public IRiseClipseConsole getThreadConsole() {
+        return threadConsole.get();
+    }
+
+    private @NonNull IRiseClipseConsole current() {
+        IRiseClipseConsole console = threadConsole.get();
+        return ( console == null ) ? mainConsole : console;
+    }
+
+    @Override
+    public void output( RiseClipseMessage message ) {
+        current().output( message );
+    }
+
+    @Override
+    public Severity getLevel() {
+        return current().getLevel();
+    }
+
+    @Override
+    public Severity setLevel( Severity level ) {
+        return current().setLevel( level );
+    }
+
+    @Override
+    public String getFormatString() {
+        return current().getFormatString();
+    }
+
+    @Override
+    public String setFormatString( String formatString ) {
+        return current().setFormatString( formatString );
+    }
+
+    @Override
+    public void displayIdenticalMessages() {
+        current().displayIdenticalMessages();
+    }
+
+    @Override
+    public void doNotDisplayIdenticalMessages() {
+        current().doNotDisplayIdenticalMessages();
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+
+/*
+ * Validation requests are received on a local socket, one request per connection.
+ * The first line of a request is one of:
+ *   VALIDATE <path>   the SCL file with this path is validated
+ *   SCL [<name>]      the SCL content follows, until the client shuts down its output;
+ *                     the optional name is used as file name in messages
+ *   RELOAD            OCL and NSD files are loaded again
+ *   STOP              the server stops
+ * Messages are sent back as soon as they are available, one per line, using the format string
+ * of the console, and the last line is "EXIT <code>" with the code the command line tool would return.
+ * Requests being handled when the server stops are completed.
+ */
+public class ValidationServer {
+
+    private static final String SERVER_CATEGORY = RiseClipseValidatorSCL.VALIDATOR_SCL_CATEGORY + "/Server";
+
+    private static final String VALIDATE_REQUEST = "VALIDATE";
+    private static final String SCL_REQUEST      = "SCL";
+    private static final String RELOAD_REQUEST   = "RELOAD";
+    private static final String STOP_REQUEST     = "STOP";
+    private static final String EXIT_RESPONSE    = "EXIT";
+    private static final String DEFAULT_SCL_NAME = "<SCL content>";
+
+    private static final int EXIT_FAILURE = 1;
+
+    /*
+     * What the server needs from the validator
+     */
+    public interface Handler {
+        // Returns the exit code
+        int validate( @NonNull String sclFile );
+        void reload();
+    }
+
+    private final int port;
+    private final int jobs;
+    private final @NonNull ThreadRiseClipseConsole threadConsole;
+    private final @NonNull Handler handler;
+    private ServerSocket serverSocket;
+    private volatile boolean stopped = false;
+
+    public ValidationServer( int port, int jobs, @NonNull ThreadRiseClipseConsole threadConsole, @NonNull Handler handler ) {
+        this.port = port;
+        this.jobs = jobs;
+        this.threadConsole = threadConsole;
+        this.handler = handler;
+    }
+
+    /*
+     * Returns when a STOP request has been received
+     */
+    public void serve() throws IOException {
+        IRiseClipseConsole console = threadConsole.getMainConsole();
+        ExecutorService executor = Executors.newFixedThreadPool( jobs );
+        // Only local clients are accepted
+        try( ServerSocket socket = new ServerSocket( port, 50, InetAddress.getLoopbackAddress() )) {
+            serverSocket = socket;
+            console.notice( SERVER_CATEGORY, 0, "Waiting for validation requests on port ", socket.getLocalPort() );
+            while( ! stopped ) {
+                Socket client = socket.accept();
+                executor.execute( () -> handle( client ));
+            }
+        }
+        catch( SocketException e ) {
+            // Closing the server socket is the way to stop accept()
+            if( ! stopped ) throw e;
+        }
+        finally {
+            executor.shutdown();
+            awaitTermination( executor );
+        }
+        console.notice( SERVER_CATEGORY, 0, "Server stopped" );
+    }
+
+    // The tool exits when serve() returns, requests still running must send their EXIT line before
+    private static void awaitTermination( @NonNull ExecutorService executor ) {
+        boolean interrupted = false;
+        while( ! executor.isTerminated() ) {
+            try {
+                executor.awaitTermination( 1, TimeUnit.MINUTES );
+            }
+            catch( InterruptedException e ) {
+                interrupted = true;
+            }
+        }
+        if( interrupted ) Thread.currentThread().interrupt();
+    }
+
+    private void handle( @NonNull Socket client ) {
+        try( Socket socket = client;
+             InputStream in = socket.getInputStream();
+             PrintWriter out = new PrintWriter( new OutputStreamWriter( socket.getOutputStream(), StandardCharsets.UTF_8 ))) {
+            String request = readLine( in );
+            if( request == null ) return;
+
+            PrintWriterRiseClipseConsole console = new PrintWriterRiseClipseConsole( out, threadConsole.getMainConsole() );
+            threadConsole.setThreadConsole( console );
+            int exitCode = 0;
+            try {
+                exitCode = handle( request, in, console );
+            }
+            catch( Exception unexpected ) {
+                console.emergency( SERVER_CATEGORY, 0, "An unexpected Java exception has occured: ", unexpected );
+                exitCode = EXIT_FAILURE;
+            }
+            finally {
+                threadConsole.setThreadConsole( null );
+            }
+            out.println( EXIT_RESPONSE + " " + exitCode );
+            out.flush();
+        }
+        catch( IOException e ) {
+            threadConsole.getMainConsole().warning( SERVER_CATEGORY, 0, "got IOException while handling a request: ", e.getMessage() );
+        }
+    }
+
+    private int handle( @NonNull String request, @NonNull InputStream in, @NonNull PrintWriterRiseClipseConsole console ) throws IOException {
+        if( request.startsWith( VALIDATE_REQUEST + " " )) {
+            String sclFile = request.substring( VALIDATE_REQUEST.length() ).trim();
+            if( ! Files.isReadable( Path.of( sclFile ))) {
+                console.error( SERVER_CATEGORY, 0, "Cannot read file ", sclFile );
+                return EXIT_FAILURE;
+            }
+            // Messages may use the absolute path, the client gets back the one it gave
+            console.setFilename( Path.of( sclFile ).toAbsolutePath().normalize().toString(), sclFile );
+            return handler.validate( sclFile );
+        }
+        if( SCL_REQUEST.equals( request ) || request.startsWith( SCL_REQUEST + " " )) {
+            String name = request.substring( SCL_REQUEST.length() ).trim();
+            // The content is copied as is, its encoding is given by the XML declaration
+            Path sclFile = Files.createTempFile( "RiseClipseValidatorSCL", ".scd" );
+            // The name of the temporary file is unique, whatever the form of the path used in messages
+            console.setFilename( sclFile.getFileName().toString(), name.isEmpty() ? DEFAULT_SCL_NAME : name );
+            try {
+                Files.copy( in, sclFile, StandardCopyOption.REPLACE_EXISTING );
+                return handler.validate( sclFile.toString() );
+            }
+            finally {
+                Files.deleteIfExists( sclFile );
+            }
+        }
+        if( RELOAD_REQUEST.equals( request )) {
+            handler.reload();
+            return 0;
+        }
+        if( STOP_REQUEST.equals( request )) {
+            stopped = true;
+            serverSocket.close();
+            return 0;
+        }
+        console.error( SERVER_CATEGORY, 0, "Unrecognized request ", request );
+        return EXIT_FAILURE;
+    }
+
+    // The rest of the stream may be an SCL content with another encoding,
+    // so we do not use a Reader which may read more than the first line
+    private static String readLine( @NonNull InputStream in ) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int c;
+        while(( c = in.read() ) != -1 ) {
+            if( c == '\n' ) break;
+            line.write( c );
+        }
+        if(( c == -1 ) && ( line.size() == 0 )) return null;
+        return line.toString( StandardCharsets.UTF_8 ).trim();
+    }
+
+}
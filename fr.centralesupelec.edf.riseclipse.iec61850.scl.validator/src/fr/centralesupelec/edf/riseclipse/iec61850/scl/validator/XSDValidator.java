@@ -21,12 +21,20 @@
 
 package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.xml.XMLConstants;
 import javax.xml.transform.Source;
@@ -35,7 +43,9 @@ import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
+import javax.xml.validation.ValidatorHandler;
 
+import org.eclipse.jdt.annotation.NonNull;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -46,65 +56,159 @@ import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 
 public class XSDValidator {
 
+    private static final String      SETUP_XSD_CATEGORY = "XSD/Setup";
     private static final String VALIDATION_XSD_CATEGORY = "XSD/Validation";
     
-    private static Validator xsdValidator;
+    // Hash of the XSD files used to compile the schema, it is not compiled again if they are unchanged
+    private static String schemaKey;
+    private static final Pattern SCHEMA_LOCATION = Pattern.compile( "schemaLocation\\s*=\\s*[\"']([^\"']+)[\"']" );
+
+    // The compiled schema is shared, but a Validator cannot be used by several threads at the same time:
+    // each validation takes one from this pool, or creates one if none is available, and gives it back
+    private static volatile Schema schema;
+    private static final ConcurrentLinkedQueue< PooledValidator > validators = new ConcurrentLinkedQueue<>();
+
+    // Messages go to the console of the file being validated
+    private static class ConsoleErrorHandler implements ErrorHandler {
+        protected IRiseClipseConsole console;
+
+        @Override
+        public void warning( SAXParseException exception ) {
+            console.warning( VALIDATION_XSD_CATEGORY, exception.getLineNumber(), exception.getMessage(),
+                             "(column: ", exception.getColumnNumber(), ")" );
+        }
+
+        @Override
+        public void error( SAXParseException exception ) {
+            console.error( VALIDATION_XSD_CATEGORY, exception.getLineNumber(), exception.getMessage(),
+                           "(column: ", exception.getColumnNumber(), ")" );
+        }
+
+        @Override
+        public void fatalError( SAXParseException exception ) {
+            console.error( VALIDATION_XSD_CATEGORY, exception.getLineNumber(), exception.getMessage(),
+                           "(column: ", exception.getColumnNumber(), ")" );
+            console.error( VALIDATION_XSD_CATEGORY, 0, "fatal error for schema validation, stopping" );
+            return;
+        }
+    }
+
+    private static class PooledValidator extends ConsoleErrorHandler {
+        private final Schema schema;
+        private final Validator validator;
+
+        PooledValidator( Schema schema ) {
+            this.schema = schema;
+            this.validator = schema.newValidator();
+        }
+    }
 
     public static boolean prepare( String xsdFile ) {
         
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
         
+        String key = schemaKey( Paths.get( xsdFile ));
+        if(( key != null ) && key.equals( schemaKey ) && ( schema != null )) {
+            console.info( SETUP_XSD_CATEGORY, 0, "XSD files are unchanged, the schema is not compiled again" );
+            return true;
+        }
+
         SchemaFactory factory = SchemaFactory.newInstance( XMLConstants.W3C_XML_SCHEMA_NS_URI );
 
         Source schemaFile = new StreamSource( new File( xsdFile ) );
-        Schema schema;
         try {
             schema = factory.newSchema( schemaFile );
-            xsdValidator = schema.newValidator();
         }
         catch( SAXException e ) {
             console.error( VALIDATION_XSD_CATEGORY, 0, "SAXException: ", e.getMessage() );
+            schemaKey = null;
             return false;
         }
-        
-        xsdValidator.setErrorHandler( new ErrorHandler() {
+        schemaKey = key;
+        // Validators of a previous schema are no more used
+        validators.clear();
 
-            @Override
-            public void warning( SAXParseException exception ) {
-                console.warning( VALIDATION_XSD_CATEGORY, exception.getLineNumber(), exception.getMessage(),
-                                 "(column: ", exception.getColumnNumber(), ")" );
-            }
+        return true;
+    }
 
-            @Override
-            public void error( SAXParseException exception ) {
-                console.error( VALIDATION_XSD_CATEGORY, exception.getLineNumber(), exception.getMessage(),
-                               "(column: ", exception.getColumnNumber(), ")" );
-            }
+    /*
+     * Used to validate the SCL file with the events of the parser which loads it.
+     * Events are given to the returned handler, which forwards them to its ContentHandler.
+     */
+    public static @NonNull ValidatorHandler newValidatorHandler( @NonNull IRiseClipseConsole console ) {
+        ValidatorHandler handler = schema.newValidatorHandler();
+        ConsoleErrorHandler errorHandler = new ConsoleErrorHandler();
+        errorHandler.console = console;
+        handler.setErrorHandler( errorHandler );
+        return handler;
+    }
 
-            @Override
-            public void fatalError( SAXParseException exception ) {
-                console.error( VALIDATION_XSD_CATEGORY, exception.getLineNumber(), exception.getMessage(),
-                               "(column: ", exception.getColumnNumber(), ")" );
-                console.error( VALIDATION_XSD_CATEGORY, 0, "fatal error for schema validation, stopping" );
-                return;
-            }
-        } );
+    /*
+     * Hash of the XSD file of the prepared schema and of the files it includes or imports, null if one of them cannot be read
+     */
+    public static String getSchemaKey() {
+        return schemaKey;
+    }
 
-        return true;
+    // The given file and those it includes or imports are hashed, null if one of them cannot be read
+    private static String schemaKey( Path xsdFile ) {
+        ContentHash hash = new ContentHash();
+        try {
+            addSchema( hash, xsdFile.toAbsolutePath().normalize(), new HashSet<>() );
+        }
+        catch( IOException | InvalidPathException e ) {
+            return null;
+        }
+        return hash.get();
+    }
+
+    private static void addSchema( ContentHash hash, Path xsdFile, Set< Path > done ) throws IOException {
+        if( ! done.add( xsdFile )) return;
+        byte[] content = Files.readAllBytes( xsdFile );
+        hash.add( xsdFile.toString() ).addContent( new ByteArrayInputStream( content ));
+        Matcher location = SCHEMA_LOCATION.matcher( new String( content, StandardCharsets.UTF_8 ));
+        while( location.find() ) {
+            // Remote schemas (http:, https:) are not followed
+            if( location.group( 1 ).matches( "[a-zA-Z][a-zA-Z0-9+.-]+:.*" )) continue;
+            addSchema( hash, xsdFile.resolveSibling( location.group( 1 )).normalize(), done );
+        }
     }
 
     public static void validate( String sclFile ) {
+        SclInput input;
+        try {
+            input = SclInput.open( sclFile );
+        }
+        catch( IOException e ) {
+            AbstractRiseClipseConsole.getConsole().error( VALIDATION_XSD_CATEGORY, 0, "IOException: " + e.getMessage() );
+            return;
+        }
+        validate( sclFile, input );
+    }
+
+    /*
+     * The content of the file is the one of the given input
+     */
+    public static void validate( String sclFile, @NonNull SclInput input ) {
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
         
-        xsdValidator.reset();
+        Schema current = schema;
+        PooledValidator xsdValidator = validators.poll();
+        if(( xsdValidator == null ) || ( xsdValidator.schema != current )) {
+            xsdValidator = new PooledValidator( current );
+        }
+        xsdValidator.validator.reset();
+        // reset() does not guarantee that the error handler is kept
+        xsdValidator.validator.setErrorHandler( xsdValidator );
+        xsdValidator.console = console;
 
+        SclPhaseEvent event = new SclPhaseEvent( sclFile, "XSDValidator.validate" );
+        event.begin();
         try {
-            Path sclPath = Paths.get( sclFile );
-            Reader reader = Files.newBufferedReader( sclPath );
-            removeBOM( reader );
-            SAXSource source = new SAXSource( new InputSource( reader ) );
-            xsdValidator.validate( source );
-            reader.close();        
+            InputSource source = input.newInputSource();
+            try( InputStream in = source.getByteStream() ) {
+                xsdValidator.validator.validate( new SAXSource( source ));
+            }
         }
         catch( IOException e ) {
             console.error( VALIDATION_XSD_CATEGORY, 0, "IOException: " + e.getMessage() );
@@ -112,45 +216,13 @@ public class XSDValidator {
         catch( SAXException e ) {
             console.error( VALIDATION_XSD_CATEGORY, 0, "SAXException: " + e.getMessage() );
         }
-    }
-    
-    // From https://stackoverflow.com/questions/5353783/why-org-apache-xerces-parsers-saxparser-does-not-skip-bom-in-utf8-encoded-xml
-    
-    private static char[] UTF32BE = { 0x0000, 0xFEFF };
-    private static char[] UTF32LE = { 0xFFFE, 0x0000 };
-    private static char[] UTF16BE = { 0xFEFF         };
-    private static char[] UTF16LE = { 0xFFFE         };
-    private static char[] UTF8    = { 0xEFBB, 0xBF   };
-
-    private static boolean removeBOM( Reader reader, char[] bom ) throws IOException {
-        int bomLength = bom.length;
-        reader.mark( bomLength );
-        char[] possibleBOM = new char[bomLength];
-        reader.read( possibleBOM );
-        for( int x = 0; x < bomLength; x++ ) {
-            if( ( int ) bom[x] != ( int ) possibleBOM[x] ) {
-                reader.reset();
-                return false;
+        finally {
+            xsdValidator.console = null;
+            if( xsdValidator.schema == schema ) {
+                validators.offer( xsdValidator );
             }
         }
-        return true;
+        event.commit();
     }
 
-    private static void removeBOM( Reader reader ) throws IOException {
-        if( removeBOM( reader, UTF32BE )) {
-            return;
-        }
-        if( removeBOM( reader, UTF32LE )) {
-            return;
-        }
-        if( removeBOM( reader, UTF16BE )) {
-            return;
-        }
-        if( removeBOM( reader, UTF16LE )) {
-            return;
-        }
-        if( removeBOM( reader, UTF8 )) {
-            return;
-        }
-    }
 }
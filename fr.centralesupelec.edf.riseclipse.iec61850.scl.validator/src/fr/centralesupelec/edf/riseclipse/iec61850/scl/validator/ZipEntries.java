@@ -0,0 +1,145 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.jdt.annotation.NonNull;
+
+/*
+ * SCL files found in zip files are not extracted, they are designated by an EMF archive URI
+ * (archive:file:/path/to/file.zip!/path/in/zip.scd) which is also used as the file name in messages.
+ * Each segment of the path in the zip file is encoded, so that characters like '#', '?', '%' or spaces are kept.
+ * The content of the entry is decompressed while it is read, so several entries may be read at the same time.
+ */
+public class ZipEntries {
+
+    private static final String ARCHIVE_SCHEME = "archive";
+    private static final String ARCHIVE_SEPARATOR = "!/";
+
+    // Temporary directories created since the last call to takeTemporaryDirectories()
+    private static final List< Path > temporaryDirectories = new ArrayList<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook( new Thread( () -> delete( takeTemporaryDirectories() )));
+    }
+
+    private ZipEntries() {}
+
+    public static @NonNull String nameOf( @NonNull Path zipPath, @NonNull String entryName ) {
+        StringBuilder name = new StringBuilder( ARCHIVE_SCHEME )
+                .append( ':' )
+                .append( URI.createFileURI( zipPath.toAbsolutePath().toString() ))
+                .append( ARCHIVE_SEPARATOR );
+        String[] segments = entryName.split( "/", -1 );
+        for( int i = 0; i < segments.length; ++i ) {
+            if( i > 0 ) name.append( '/' );
+            name.append( URI.encodeSegment( segments[i], false ));
+        }
+        return name.toString();
+    }
+
+    public static boolean isZipEntry( @NonNull String name ) {
+        return name.startsWith( ARCHIVE_SCHEME + ":" ) && name.contains( ARCHIVE_SEPARATOR );
+    }
+
+    /*
+     * Opens either a zip entry designated as above or a file
+     */
+    public static @NonNull InputStream open( @NonNull String name ) throws IOException {
+        if( isZipEntry( name )) {
+            return URIConverter.INSTANCE.createInputStream( URI.createURI( name ));
+        }
+        return Files.newInputStream( Paths.get( name ));
+    }
+
+    /*
+     * Uncompressed size of a zip entry designated as above, -1 if it is not known
+     */
+    public static long sizeOf( @NonNull String name ) {
+        int separator = name.indexOf( ARCHIVE_SEPARATOR );
+        String zipFile = URI.createURI( name.substring( ARCHIVE_SCHEME.length() + 1, separator )).toFileString();
+        StringBuilder entryName = new StringBuilder();
+        String[] segments = name.substring( separator + ARCHIVE_SEPARATOR.length() ).split( "/", -1 );
+        for( int i = 0; i < segments.length; ++i ) {
+            if( i > 0 ) entryName.append( '/' );
+            entryName.append( URI.decode( segments[i] ));
+        }
+        try( ZipFile zip = new ZipFile( zipFile )) {
+            ZipEntry entry = zip.getEntry( entryName.toString() );
+            return ( entry == null ) ? -1 : entry.getSize();
+        }
+        catch( IOException e ) {
+            return -1;
+        }
+    }
+
+    /*
+     * Other files found in zip files are extracted in a temporary directory.
+     * It is removed when the tool stops, unless it has been taken before.
+     */
+    public static @NonNull Path createTemporaryDirectory( @NonNull String prefix ) throws IOException {
+        Path directory = Files.createTempDirectory( prefix );
+        synchronized( temporaryDirectories ) {
+            temporaryDirectories.add( directory );
+        }
+        return directory;
+    }
+
+    /*
+     * Returns the temporary directories created until now, they must then be removed by the caller with delete()
+     */
+    public static @NonNull List< Path > takeTemporaryDirectories() {
+        synchronized( temporaryDirectories ) {
+            List< Path > taken = new ArrayList<>( temporaryDirectories );
+            temporaryDirectories.clear();
+            return taken;
+        }
+    }
+
+    public static void delete( @NonNull List< Path > directories ) {
+        for( Path directory : directories ) {
+            try( Stream< Path > paths = Files.walk( directory )) {
+                paths
+                .sorted( Comparator.reverseOrder() )
+                .forEach( p -> p.toFile().delete() );
+            }
+            catch( IOException e ) {
+                // The directory is left in the temporary directory of the system
+            }
+        }
+    }
+
+}
@@ -523,16 +523,8 @@ public abstract class BasicTypeValidator extends TypeValidator {
         return name;
     }
     
-    /*
-     * Called before another file is validated
-     */
     @Override
-    public void reset() {
-        // Nothing
-    }
-    
-    @Override
-    public boolean validateAbstractDataAttribute( AbstractDataAttribute ada, DiagnosticChain diagnostics ) {
+    public boolean validateAbstractDataAttribute( AbstractDataAttribute ada, NsdValidationContext context, DiagnosticChain diagnostics ) {
         AbstractRiseClipseConsole.getConsole().debug( BASIC_TYPE_VALIDATION_NSD_CATEGORY, ada.getFilename(), ada.getLineNumber(),
                                                       "BasicTypeValidator.validateAbstractDataAttribute( ", ada.getName(), " )" );
         boolean res = true;
@@ -551,7 +543,10 @@ public abstract class BasicTypeValidator extends TypeValidator {
             return false;
         }
         
+        int vals = 0;
+        int daiVals = 0;
         for( Val val : ada.getVal() ) {
+            ++vals;
             if( val.getValue().isEmpty() ) {
                 if( ! acceptEmptyValue() ) {
                     
@@ -575,6 +570,7 @@ public abstract class BasicTypeValidator extends TypeValidator {
         for( DAI dai : ada.getReferredByDAI() ) {
             // name is OK because it has been used to create link DAI -> DA
             for( Val val : dai.getVal() ) {
+                ++daiVals;
                 if( val.getValue().isEmpty() ) {
                     if( ! acceptEmptyValue() ) {
                         
@@ -595,6 +591,7 @@ public abstract class BasicTypeValidator extends TypeValidator {
                 }
             }
         }
+        NsdStatistics.valuesChecked( getName(), vals, daiVals );
         
         return res;
     }
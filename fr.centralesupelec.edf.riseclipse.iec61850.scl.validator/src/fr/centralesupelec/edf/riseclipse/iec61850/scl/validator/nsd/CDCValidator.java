@@ -20,9 +20,7 @@
 */
 package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
 
-import java.util.IdentityHashMap;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -47,6 +45,7 @@ import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValida
 import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
 public class CDCValidator {
 
@@ -58,43 +57,27 @@ public class CDCValidator {
     // (see DataObjectImpl.createParameterizedComponents()).
     // The CDCImpl class ensure uniqueness of a given parameterized CDC (see CDCImpl.getParameterizedCDC()).
     // Therefore, we look for the CDCValidator using the CDC object.
-    private static IdentityHashMap< NsIdentificationObject, CDCValidator > validators = new IdentityHashMap<>();
-    
-    public static Pair< CDCValidator, NsIdentification > get( NsIdentification nsIdentification, CDC cdc ) {
+    public static Pair< CDCValidator, NsIdentification > get( CompiledNsd compiledNsd, NsIdentification nsIdentification, CDC cdc ) {
         NsIdentification nsId = nsIdentification;
         CDCValidator cdcValidator = null;
         while(( cdcValidator == null ) && ( nsId != null )) {
-            cdcValidator = validators.get( NsIdentificationObject.of( nsId, cdc ));
+            cdcValidator = compiledNsd.cdcValidators.get( NsIdentificationObject.of( nsId, cdc ));
             nsIdentification = nsId;
             nsId = nsId.getDependsOn();
         }
         return Pair.of( cdcValidator, nsIdentification );
     }
     
-    public static void buildValidators( NsIdentification nsIdentification, Stream< CDC > stream, IRiseClipseConsole console ) {
+    public static void buildValidators( CompiledNsd compiledNsd, NsIdentification nsIdentification, Stream< CDC > stream, IRiseClipseConsole console ) {
         stream
-        .forEach( cdc -> validators.put(
+        .forEach( cdc -> compiledNsd.cdcValidators.put(
                 NsIdentificationObject.of( nsIdentification, cdc ),
-                new CDCValidator( nsIdentification, cdc, console )));
-    }
-
-    /*
-     * Called before another file is validated
-     */
-    public static void resetValidators() {
-        validators.values().stream().forEach( v -> v.reset() );
-    }
-
-    public void reset() {
-        validatedDOType = new HashSet<>();
-        
-//        dataAttributeTypeValidatorMap.values().stream().forEach( v -> v.reset() );
-//        subDataObjectValidatorMap.values().stream().forEach( v -> v.reset() );
+                new CDCValidator( compiledNsd, nsIdentification, cdc, console )));
     }
 
     private NsIdentification nsIdentification;
     private CDC cdc;
-    private HashSet< String > validatedDOType; 
+    private DONameValidator doNameValidator;
 
     // CDC defines a set of DataAttribute, SubDataObject, ServiceParameter
     // Each DataAttribute has a name, a type (basic, enumerated or constructed), a functional constraint and a presence condition
@@ -121,7 +104,7 @@ public class CDCValidator {
     // No comment about this choice, and I don't see any reason for because this CDCValidator is already specific to a namespace
     private HashMap< String, CDCValidator > subDataObjectValidatorMap;
     
-    private CDCValidator( NsIdentification nsIdentification, CDC cdc, IRiseClipseConsole console ) {
+    private CDCValidator( CompiledNsd compiledNsd, NsIdentification nsIdentification, CDC cdc, IRiseClipseConsole console ) {
         String parameter = "";
         if( cdc.isEnumParameterized() ) {
             for( DataAttribute da : cdc.getDataAttribute() ) {
@@ -135,12 +118,15 @@ public class CDCValidator {
                 }
             }
         }
-        console.debug( CDC_SETUP_NSD_CATEGORY, cdc.getFilename(), cdc.getLineNumber(),
-                "CDCValidator( ", cdc.getName(), parameter, " ) in namespace \"", nsIdentification, "\"" );
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( CDC_SETUP_NSD_CATEGORY, cdc.getFilename(), cdc.getLineNumber(),
+                    "CDCValidator( ", cdc.getName(), parameter, " ) in namespace \"", nsIdentification, "\"" );
+        }
         this.cdc = cdc;
         this.nsIdentification = nsIdentification;
-        this.dataAttributePresenceConditionValidator = DataAttributePresenceConditionValidator.get( nsIdentification, cdc );
-        this.subDataObjectPresenceConditionValidator = SubDataObjectPresenceConditionValidator.get( nsIdentification, cdc );
+        this.doNameValidator = compiledNsd.doNameValidator;
+        this.dataAttributePresenceConditionValidator = DataAttributePresenceConditionValidator.get( compiledNsd, nsIdentification, cdc );
+        this.subDataObjectPresenceConditionValidator = SubDataObjectPresenceConditionValidator.get( compiledNsd, nsIdentification, cdc );
         this.dataAttributeTypeValidatorMap = new HashMap<>();
         this.dataAttributeFunctionalConstraintValidatorMap = new HashMap<>();
         this.subDataObjectValidatorMap = new HashMap<>();
@@ -154,14 +140,16 @@ public class CDCValidator {
                 type = da.getRefersToConstructedAttribute();
             }
             if( type != null ) {
-                Pair< TypeValidator, NsIdentification > typeValidator = TypeValidator.get( this.nsIdentification, type );
+                Pair< TypeValidator, NsIdentification > typeValidator = TypeValidator.get( compiledNsd, this.nsIdentification, type );
                 if(( typeValidator != null ) && ( typeValidator.getLeft() != null )) {
                     // Up to 1.2.6, the namespace of the found TypeValidator (typeValidator.getRight()) was used here
                     // No comment about this choice, and I don't see any reason for
                     dataAttributeTypeValidatorMap.put( da.getName(), typeValidator.getLeft() );
-                    console.info( CDC_SETUP_NSD_CATEGORY, da.getFilename(), da.getLineNumber(),
-                                  "type validator for DataAttribute ", da.getName(), " found with type ", da.getType(),
-                                  " in namespace \"", typeValidator.getRight(), "\"" );
+                    if( NsdValidator.isEnabled( console, Severity.INFO )) {
+                        console.info( CDC_SETUP_NSD_CATEGORY, da.getFilename(), da.getLineNumber(),
+                                      "type validator for DataAttribute ", da.getName(), " found with type ", da.getType(),
+                                      " in namespace \"", typeValidator.getRight(), "\"" );
+                    }
                 }
                 else {
                     console.warning( CDC_SETUP_NSD_CATEGORY, da.getFilename(), da.getLineNumber(),
@@ -172,9 +160,11 @@ public class CDCValidator {
             // Type is missing if CDC is parameterized
             // TODO: do we have to look for name in getParameterizedDataAttributeNames()?
             else if( cdc.isEnumParameterized() || cdc.isTypeKindParameterized() ) {
-                console.info( CDC_SETUP_NSD_CATEGORY, da.getFilename(), da.getLineNumber(),
-                        "Type not found for DataAttribute ", da.getName(),
-                        " in namespace \"", this.nsIdentification, "\", but CDC is parameterized" );
+                if( NsdValidator.isEnabled( console, Severity.INFO )) {
+                    console.info( CDC_SETUP_NSD_CATEGORY, da.getFilename(), da.getLineNumber(),
+                            "Type not found for DataAttribute ", da.getName(),
+                            " in namespace \"", this.nsIdentification, "\", but CDC is parameterized" );
+                }
             }
             else {
                 console.warning( CDC_SETUP_NSD_CATEGORY, da.getFilename(), da.getLineNumber(),
@@ -185,9 +175,11 @@ public class CDCValidator {
             FunctionalConstraintValidator fcValidator = FunctionalConstraintValidator.get( FCEnum.getByName( da.getFc() ));
             if( fcValidator != null ) {
                 dataAttributeFunctionalConstraintValidatorMap.put( da.getName(), fcValidator );
-                console.info( CDC_SETUP_NSD_CATEGORY, da.getFilename(), da.getLineNumber(),
-                              "Functional constraint validator for DataAttribute " + da.getName() + " found with fc " + da.getFc(),
-                              " in namespace \"", this.nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.INFO )) {
+                    console.info( CDC_SETUP_NSD_CATEGORY, da.getFilename(), da.getLineNumber(),
+                                  "Functional constraint validator for DataAttribute " + da.getName() + " found with fc " + da.getFc(),
+                                  " in namespace \"", this.nsIdentification, "\"" );
+                }
             }
             else {
                 console.warning( CDC_SETUP_NSD_CATEGORY, da.getFilename(), da.getLineNumber(),
@@ -202,61 +194,65 @@ public class CDCValidator {
                         "CDC unknown for SubDataObject ", sdo.getName(), " in namespace \"", this.nsIdentification, "\"" );
                 continue;
             }
-            Pair< CDCValidator, NsIdentification > cdcValidator = CDCValidator.get( this.nsIdentification, sdo.getRefersToCDC() );
+            Pair< CDCValidator, NsIdentification > cdcValidator = CDCValidator.get( compiledNsd, this.nsIdentification, sdo.getRefersToCDC() );
             if(( cdcValidator != null ) && ( cdcValidator.getLeft() != null )) {
                 // Up to 1.2.6, the namespace of the found CDCValidator (cdcValidator.getRight()) was used here
                 // No comment about this choice, and I don't see any reason for
                 // See also the comment above for subDataObjectValidatorMap
                 subDataObjectValidatorMap.put( sdo.getName(), cdcValidator.getLeft() );
-                console.info( CDC_SETUP_NSD_CATEGORY, sdo.getFilename(), sdo.getLineNumber(),
-                              "CDC validator for SubDataObject ", sdo.getName(), " found with type ", sdo.getType(), " in namespace \"", cdcValidator.getRight(), "\"" );
+                if( NsdValidator.isEnabled( console, Severity.INFO )) {
+                    console.info( CDC_SETUP_NSD_CATEGORY, sdo.getFilename(), sdo.getLineNumber(),
+                                  "CDC validator for SubDataObject ", sdo.getName(), " found with type ", sdo.getType(), " in namespace \"", cdcValidator.getRight(), "\"" );
+                }
             }
             else {
                 console.warning( CDC_SETUP_NSD_CATEGORY, sdo.getFilename(), sdo.getLineNumber(),
                                  "CDC not found for SubDataObject ", sdo.getName(), " in namespace \"", this.nsIdentification, "\"" );
             }
         }
-        
-        reset();
     }
     
     public String getName() {
         return cdc.getName();
     }
 
-    private boolean validateDOType( DOType doType, DiagnosticChain diagnostics ) {
-        if( validatedDOType.contains( doType.getId() )) return true;
+    private boolean validateDOType( DOType doType, NsdValidationContext context, DiagnosticChain diagnostics ) {
+        boolean first = context.firstValidation( this, doType.getId() );
+        NsdStatistics.doTypeValidation( first );
+        if( ! first ) return true;
+        NsdTypeEvent event = NsdTypeEvent.start();
         @NonNull
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-        console.debug( CDC_VALIDATION_NSD_CATEGORY, doType.getFilename(), doType.getLineNumber(),
-                       "CDCValidator( ", getName(), " ).validateDOType( ", doType.getId(), " ) in namespace \"", nsIdentification, "\"" );
-        validatedDOType.add( doType.getId() );
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( CDC_VALIDATION_NSD_CATEGORY, doType.getFilename(), doType.getLineNumber(),
+                           "CDCValidator( ", getName(), " ).validateDOType( ", doType.getId(), " ) in namespace \"", nsIdentification, "\"" );
+        }
         
-        dataAttributePresenceConditionValidator.resetModelData();
+        GenericPresenceConditionValidator.PresentComponents< DA > presentDA = dataAttributePresenceConditionValidator.newPresentComponents();
         
         doType
         .getDA()
         .stream()
-        .forEach( d -> dataAttributePresenceConditionValidator.addModelData( d, d.getName(), diagnostics ));
+        .forEach( d -> dataAttributePresenceConditionValidator.addModelData( presentDA, d, d.getName(), diagnostics ));
       
-        boolean res = dataAttributePresenceConditionValidator.validate( doType, diagnostics );
+        boolean res = dataAttributePresenceConditionValidator.validate( presentDA, doType, diagnostics );
         
-        subDataObjectPresenceConditionValidator.resetModelData();
+        GenericPresenceConditionValidator.PresentComponents< SDO > presentSDO = subDataObjectPresenceConditionValidator.newPresentComponents();
         
         doType
         .getSDO()
         .stream()
         .filter( sdo -> ( sdo.getNamespace() == null ) || nsIdentification.dependsOn( NsIdentification.of( sdo.getNamespace() ) ))
         .forEach( sdo -> {
-            subDataObjectPresenceConditionValidator.addModelData( sdo, sdo.getName(), diagnostics );
+            subDataObjectPresenceConditionValidator.addModelData( presentSDO, sdo, sdo.getName(), diagnostics );
         });
         
-        res = subDataObjectPresenceConditionValidator.validate( doType, diagnostics ) && res;
+        res = subDataObjectPresenceConditionValidator.validate( presentSDO, doType, diagnostics ) && res;
         
         for( DA da : doType.getDA() ) {
             TypeValidator typeValidator = dataAttributeTypeValidatorMap.get( da.getName() );
             if( typeValidator != null ) {
-                typeValidator.validateAbstractDataAttribute( da, diagnostics );
+                typeValidator.validateAbstractDataAttribute( da, context, diagnostics );
             }
             else {
                 String daType = ( da.getType() == null ) ? ( "\" of bType \"" + da.getBType() ) : ( "\" of type \"" + da.getType() );
@@ -360,7 +356,7 @@ public class CDCValidator {
       
         for( SDO sdo : doType.getSDO() ) {
             // SDO.name shall be a combination of the abbreviations listed in 7-4 NSD file
-            if( ! DONameValidator.validateSdoName( sdo.getName() )) {
+            if( ! doNameValidator.validateSdoName( sdo.getName() )) {
                 RiseClipseMessage warning = RiseClipseMessage.warning( CDC_VALIDATION_NSD_CATEGORY, sdo.getFilename(), sdo.getLineNumber(), 
                         "SDO name \"", sdo.getName(), "\" is not composed using standardised abbreviations" );
                 diagnostics.add( new BasicDiagnostic(
@@ -374,7 +370,7 @@ public class CDCValidator {
             CDCValidator cdcValidator = subDataObjectValidatorMap.get( sdo.getName() );
             if( cdcValidator != null ) {
                 if( sdo.getRefersToDOType() != null ) {
-                    res = cdcValidator.validateDOType( sdo.getRefersToDOType(), diagnostics ) && res;
+                    res = cdcValidator.validateDOType( sdo.getRefersToDOType(), context, diagnostics ) && res;
                 }
                 else {
                     RiseClipseMessage warning = RiseClipseMessage.warning( CDC_VALIDATION_NSD_CATEGORY, doType.getFilename(), doType.getLineNumber(), 
@@ -422,14 +418,17 @@ public class CDCValidator {
             }
         }
 
+        event.finish( "DOType", doType.getId(), doType.getFilename(), nsIdentification );
         return res;
     }
 
-    public boolean validateDO( DO do_, DiagnosticChain diagnostics ) {
+    public boolean validateDO( DO do_, NsdValidationContext context, DiagnosticChain diagnostics ) {
         @NonNull
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-        console.debug( CDC_VALIDATION_NSD_CATEGORY, do_.getLineNumber(),
-                "CDCValidator( ", getName(), " ).validateDO( ", do_.getName(), " ) in namespace \"", nsIdentification, "\"" );
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( CDC_VALIDATION_NSD_CATEGORY, do_.getLineNumber(),
+                    "CDCValidator( ", getName(), " ).validateDO( ", do_.getName(), " ) in namespace \"", nsIdentification, "\"" );
+        }
         DOType doType = do_.getRefersToDOType();
         if( doType == null ) {
             // Not an NSD error
@@ -455,6 +454,6 @@ public class CDCValidator {
                     new Object[] { doType, warning } ));
         }
 
-        return validateDOType( doType, diagnostics );
+        return validateDOType( doType, context, diagnostics );
     }
 }
@@ -0,0 +1,53 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+** 
+**  This file is part of the RiseClipse tool
+**  
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
+
+import java.util.IdentityHashMap;
+
+import fr.centralesupelec.edf.riseclipse.iec61850.nsd.util.NsIdentificationName;
+import fr.centralesupelec.edf.riseclipse.iec61850.nsd.util.NsIdentificationObject;
+
+/*
+ * All the validators built from a set of NSD files.
+ * It is filled by NsdEObjectValidator when it is created, and never modified afterwards.
+ * Therefore, it can be used by several validations at the same time: what is specific to
+ * one validation is kept in a NsdValidationContext.
+ */
+public final class CompiledNsd {
+
+    // Package visibility, used by the static get() and build*() methods of each validator
+    
+    // There is only one map for all TypeValidator, therefore the namespace is used in the key
+    final IdentityHashMap< NsIdentificationObject, TypeValidator > typeValidators = new IdentityHashMap<>();
+    final IdentityHashMap< NsIdentificationObject, CDCValidator > cdcValidators = new IdentityHashMap<>();
+    final IdentityHashMap< NsIdentificationName, LNClassValidator > lnClassValidators = new IdentityHashMap<>();
+
+    final IdentityHashMap< NsIdentificationName, DataAttributePresenceConditionValidator > dataAttributePresenceConditionValidators = new IdentityHashMap<>();
+    final IdentityHashMap< NsIdentificationName, SubDataObjectPresenceConditionValidator > subDataObjectPresenceConditionValidators = new IdentityHashMap<>();
+    final IdentityHashMap< NsIdentificationName, SubDataAttributePresenceConditionValidator > subDataAttributePresenceConditionValidators = new IdentityHashMap<>();
+    final IdentityHashMap< NsIdentificationName, DataObjectPresenceConditionValidator > notStatisticalDataObjectPresenceConditionValidators = new IdentityHashMap<>();
+    final IdentityHashMap< NsIdentificationName, DataObjectPresenceConditionValidator > statisticalDataObjectPresenceConditionValidators = new IdentityHashMap<>();
+
+    final DONameValidator doNameValidator = new DONameValidator();
+    final StandardDOValidator standardDOValidator = new StandardDOValidator();
+
+    CompiledNsd() {}
+}
@@ -21,7 +21,6 @@
 package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
 
 import java.util.HashMap;
-import java.util.HashSet;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -42,14 +41,13 @@ import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValida
 import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
 public class ConstructedAttributeValidator extends TypeValidator {
 
     static final String CA_SETUP_NSD_CATEGORY      = NsdValidator.SETUP_NSD_CATEGORY      + "/ConstructedAttribute";
     static final String CA_VALIDATION_NSD_CATEGORY = NsdValidator.VALIDATION_NSD_CATEGORY + "/ConstructedAttribute";
 
-    private HashSet< String > validatedDAType; 
-
     private SubDataAttributePresenceConditionValidator subDataAttributePresenceConditionValidator;
     private HashMap< String, TypeValidator > subDataAttributeValidatorMap = new HashMap<>();
     private HashMap< String, String > subDataAttributeUnknownTypeMap = new HashMap<>();
@@ -57,13 +55,15 @@ public class ConstructedAttributeValidator extends TypeValidator {
     private NsIdentification nsIdentification;
     private ConstructedAttribute constructedAttribute;
 
-    public ConstructedAttributeValidator( NsIdentification nsIdentification, ConstructedAttribute constructedAttribute, IRiseClipseConsole console ) {
-        console.debug( CA_SETUP_NSD_CATEGORY, constructedAttribute.getLineNumber(),
-                "ConstructedAttributeValidator( ", constructedAttribute.getName(), " ) in namespace \"", nsIdentification, "\"" );
+    public ConstructedAttributeValidator( CompiledNsd compiledNsd, NsIdentification nsIdentification, ConstructedAttribute constructedAttribute, IRiseClipseConsole console ) {
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( CA_SETUP_NSD_CATEGORY, constructedAttribute.getLineNumber(),
+                    "ConstructedAttributeValidator( ", constructedAttribute.getName(), " ) in namespace \"", nsIdentification, "\"" );
+        }
 
         this.nsIdentification = nsIdentification;
         this.constructedAttribute = constructedAttribute;
-        this.subDataAttributePresenceConditionValidator = SubDataAttributePresenceConditionValidator.get( nsIdentification, constructedAttribute );
+        this.subDataAttributePresenceConditionValidator = SubDataAttributePresenceConditionValidator.get( compiledNsd, nsIdentification, constructedAttribute );
         
         for( SubDataAttribute sda : constructedAttribute.getSubDataAttribute() ) {
             if( sda.getType() == null ) {
@@ -85,14 +85,16 @@ public class ConstructedAttributeValidator extends TypeValidator {
                         "Type ", sda.getType(), " not found for SubDataAttribute ", sda.getName() );
                 continue;
             }
-            Pair< TypeValidator, NsIdentification > res = TypeValidator.get( this.nsIdentification, type );
+            Pair< TypeValidator, NsIdentification > res = TypeValidator.get( compiledNsd, this.nsIdentification, type );
             TypeValidator typeValidator = res.getLeft();
             // The type of the SubDataAttribute may be a ConstructedAttribute whose validator is not yet built
             if(( typeValidator == null ) && ( sda.getRefersToConstructedAttribute() != null )) {
-                console.notice( CA_SETUP_NSD_CATEGORY, sda.getFilename(), sda.getLineNumber(),
-                              "Validator for ConstructedAttribute ", constructedAttribute.getName(),
-                              " needs validator for SubDataAttribute ", sda.getName(), " of type ", sda.getType(), " which is not yet built" );
-                typeValidator = TypeValidator.buildConstructedAttributeValidator( this.nsIdentification, sda.getRefersToConstructedAttribute(), console );
+                if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                    console.notice( CA_SETUP_NSD_CATEGORY, sda.getFilename(), sda.getLineNumber(),
+                                  "Validator for ConstructedAttribute ", constructedAttribute.getName(),
+                                  " needs validator for SubDataAttribute ", sda.getName(), " of type ", sda.getType(), " which is not yet built" );
+                }
+                typeValidator = TypeValidator.buildConstructedAttributeValidator( compiledNsd, this.nsIdentification, sda.getRefersToConstructedAttribute(), console );
             }
             if( typeValidator != null ) {
                 // Up to 1.2.6, the namespace of the found TypeValidator (res.getRight()) was used here in the key (using an NsIdentificationObject)
@@ -106,42 +108,34 @@ public class ConstructedAttributeValidator extends TypeValidator {
                 subDataAttributeUnknownTypeMap.put( sda.getName(), sda.getType() );
             }
         }
-        
-        reset();
     }
 
-    /*
-     * Called before another file is validated
-     */
     @Override
-    public void reset() {
-        validatedDAType = new HashSet<>();
-        
-        subDataAttributeValidatorMap.values().stream().forEach( v -> v.reset() );
-    }
-
-    @Override
-    public boolean validateAbstractDataAttribute( AbstractDataAttribute da, DiagnosticChain diagnostics ) {
+    public boolean validateAbstractDataAttribute( AbstractDataAttribute da, NsdValidationContext context, DiagnosticChain diagnostics ) {
         @NonNull
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-        console.debug( CA_VALIDATION_NSD_CATEGORY, da.getLineNumber(),
-                       "ConstructedAttributeValidator.validateAbstractDataAttribute( ", da.getName(), " ) in namespace \"", nsIdentification, "\"" );
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( CA_VALIDATION_NSD_CATEGORY, da.getLineNumber(),
+                           "ConstructedAttributeValidator.validateAbstractDataAttribute( ", da.getName(), " ) in namespace \"", nsIdentification, "\"" );
+        }
         boolean res = true;
         
         if( da.getRefersToDAType() != null ) {
-            res = validateDAType( da.getRefersToDAType(), diagnostics ) && res;
+            res = validateDAType( da.getRefersToDAType(), context, diagnostics ) && res;
         }
         return res;
     }
 
-    private boolean validateDAType( DAType daType, DiagnosticChain diagnostics ) {
-        if( validatedDAType.contains( daType.getId() )) return true;
+    private boolean validateDAType( DAType daType, NsdValidationContext context, DiagnosticChain diagnostics ) {
+        boolean first = context.firstValidation( this, daType.getId() );
+        NsdStatistics.daTypeValidation( first );
+        if( ! first ) return true;
         @NonNull
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-        console.debug( CA_VALIDATION_NSD_CATEGORY, daType.getLineNumber(),
-                       "ConstructedAttributeValidator.validateDAType( ", daType.getId(), " ) in namespace \"", nsIdentification, "\"" );
-        validatedDAType.add( daType.getId() );
-        
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( CA_VALIDATION_NSD_CATEGORY, daType.getLineNumber(),
+                           "ConstructedAttributeValidator.validateDAType( ", daType.getId(), " ) in namespace \"", nsIdentification, "\"" );
+        }
         if( constructedAttribute.isDeprecated() ) {
             RiseClipseMessage warning = RiseClipseMessage.warning( CA_VALIDATION_NSD_CATEGORY, daType.getFilename(), daType.getLineNumber(), 
                     "DAType id = \"", daType.getId(), " refers to deprecated ConstructedAttribute \"", constructedAttribute.getName(), "\" in namespace \"", nsIdentification, "\"" );
@@ -153,19 +147,19 @@ public class ConstructedAttributeValidator extends TypeValidator {
                     new Object[] { daType, warning } ));
         }
         
-        subDataAttributePresenceConditionValidator.resetModelData();
+        GenericPresenceConditionValidator.PresentComponents< BDA > presentBDA = subDataAttributePresenceConditionValidator.newPresentComponents();
         
         daType
         .getBDA()
         .stream()
-        .forEach( bda -> subDataAttributePresenceConditionValidator.addModelData( bda, bda.getName(), diagnostics ));
+        .forEach( bda -> subDataAttributePresenceConditionValidator.addModelData( presentBDA, bda, bda.getName(), diagnostics ));
       
-        boolean res = subDataAttributePresenceConditionValidator.validate( daType, diagnostics );
+        boolean res = subDataAttributePresenceConditionValidator.validate( presentBDA, daType, diagnostics );
         
         for( BDA bda : daType.getBDA() ) {
             TypeValidator typeValidator = subDataAttributeValidatorMap.get( bda.getName() );
             if( typeValidator != null ) {
-                typeValidator.validateAbstractDataAttribute( bda, diagnostics );
+                typeValidator.validateAbstractDataAttribute( bda, context, diagnostics );
             }
             else {
                 // if BDA not allowed, error will be reported by PresenceConditionValidator
@@ -27,19 +27,19 @@ import fr.centralesupelec.edf.riseclipse.iec61850.nsd.Abbreviation;
 
 public class DONameValidator {
     
-    private static HashSet< String > abreviations = new HashSet<>();
+    private HashSet< String > abreviations = new HashSet<>();
 
-    public static void addFrom( Stream< Abbreviation > abrevStream ) {
+    public void addFrom( Stream< Abbreviation > abrevStream ) {
         abrevStream.forEach( a -> abreviations.add( a.getName() ));
     }
 
-    public static boolean validateSdoName( String name ) {
+    public boolean validateSdoName( String name ) {
         // SDO name start with a lower letter
         Character first = name.charAt( 0 );
         return validateDoName( first.toString().toUpperCase() + name.substring( 1 ));
     }
     
-    public static boolean validateDoName( String name ) {
+    public boolean validateDoName( String name ) {
         if( name.length() == 0 ) return false;
         int start = 0;
         int end = name.length();
@@ -60,5 +60,6 @@ public class DONameValidator {
         }
     }
 
-    private DONameValidator() {}
+    // Package visibility, there is one in each CompiledNsd
+    DONameValidator() {}
 }
@@ -20,7 +20,7 @@
 */
 package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
 
-import java.util.IdentityHashMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -29,6 +29,7 @@ import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.DiagnosticChain;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 
 import fr.centralesupelec.edf.riseclipse.iec61850.nsd.CDC;
@@ -40,21 +41,22 @@ import fr.centralesupelec.edf.riseclipse.iec61850.scl.DA;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.DO;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.DOType;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValidatorSCL;
+import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
-public class DataAttributePresenceConditionValidator extends GenericPresenceConditionValidator< CDC, DOType, @Nullable DA >{
+public final class DataAttributePresenceConditionValidator extends GenericPresenceConditionValidator< CDC, DOType, @Nullable DA >{
 
     private static final String DA_SETUP_NSD_CATEGORY      = NsdValidator.SETUP_NSD_CATEGORY      + "/DataAttribute";
     private static final String DA_VALIDATION_NSD_CATEGORY = NsdValidator.VALIDATION_NSD_CATEGORY + "/DataAttribute";
 
-    private static IdentityHashMap< NsIdentificationName, DataAttributePresenceConditionValidator > validators = new IdentityHashMap<>();
-    
-    public static DataAttributePresenceConditionValidator get( NsIdentification nsIdentification, CDC cdc ) {
+    public static DataAttributePresenceConditionValidator get( CompiledNsd compiledNsd, NsIdentification nsIdentification, CDC cdc ) {
         // TODO: do we need to use dependsOn links?
-        if( ! validators.containsKey( NsIdentificationName.of( nsIdentification, cdc.getName() ))) {
-            validators.put( NsIdentificationName.of( nsIdentification, cdc.getName() ), new DataAttributePresenceConditionValidator( nsIdentification, cdc ));
+        if( ! compiledNsd.dataAttributePresenceConditionValidators.containsKey( NsIdentificationName.of( nsIdentification, cdc.getName() ))) {
+            compiledNsd.dataAttributePresenceConditionValidators.put( NsIdentificationName.of( nsIdentification, cdc.getName() ), new DataAttributePresenceConditionValidator( nsIdentification, cdc ));
         }
-        return validators.get( NsIdentificationName.of( nsIdentification, cdc.getName() ));
+        return compiledNsd.dataAttributePresenceConditionValidators.get( NsIdentificationName.of( nsIdentification, cdc.getName() ));
     }
     
     private Set< String > analogueValues;
@@ -62,9 +64,13 @@ public class DataAttributePresenceConditionValidator extends GenericPresenceCond
 
     public DataAttributePresenceConditionValidator( NsIdentification nsIdentification, CDC cdc ) {
         super( nsIdentification, cdc );
+        @NonNull
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
         
-        console.debug( DA_SETUP_NSD_CATEGORY, cdc.getFilename(), cdc.getLineNumber(),
-                "DataAttributePresenceConditionValidator( \"", cdc.getName(), "\" in namespace \"", nsIdentification, "\" )");
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( DA_SETUP_NSD_CATEGORY, cdc.getFilename(), cdc.getLineNumber(),
+                    "DataAttributePresenceConditionValidator( \"", cdc.getName(), "\" in namespace \"", nsIdentification, "\" )");
+        }
         
         analogueValues = new HashSet<>();
         vectors        = new HashSet<>();
@@ -135,7 +141,7 @@ public class DataAttributePresenceConditionValidator extends GenericPresenceCond
     }
 
     @Override
-    protected boolean validateMFln0( DOType doType, DiagnosticChain diagnostics ) {
+    protected boolean validateMFln0( HashMap< String, DA > presentSclComponent, DOType doType, DiagnosticChain diagnostics ) {
         boolean res = true;
         EList< AbstractDataObject > adoList = doType.getReferredByAbstractDataObject();
         for( AbstractDataObject ado : adoList ) {
@@ -167,7 +173,7 @@ public class DataAttributePresenceConditionValidator extends GenericPresenceCond
     }
 
     @Override
-    protected boolean validateMOln0( DOType doType, DiagnosticChain diagnostics ) {
+    protected boolean validateMOln0( HashMap< String, DA > presentSclComponent, DOType doType, DiagnosticChain diagnostics ) {
         boolean res = true;
         EList< AbstractDataObject > adoList = doType.getReferredByAbstractDataObject();
         for( AbstractDataObject ado : adoList ) {
@@ -217,7 +223,7 @@ public class DataAttributePresenceConditionValidator extends GenericPresenceCond
     }
 
     @Override
-    protected boolean validateOMSynPh( DOType doType, DiagnosticChain diagnostics ) {
+    protected boolean validateOMSynPh( HashMap< String, DA > presentSclComponent, DOType doType, DiagnosticChain diagnostics ) {
         for( String name : optionalIfPhsRefIsSynchrophasorElseMandatory ) {
             if( presentSclComponent.get( name ) != null ) {
                 RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, doType.getFilename(), doType.getLineNumber(), 
@@ -236,7 +242,7 @@ public class DataAttributePresenceConditionValidator extends GenericPresenceCond
     }
 
     @Override
-    protected boolean validateMFscaledAV( DOType doType, DiagnosticChain diagnostics ) {
+    protected boolean validateMFscaledAV( HashMap< String, DA > presentSclComponent, DOType doType, DiagnosticChain diagnostics ) {
         boolean res = true;
         // Element is mandatory* if any sibling elements of type AnalogueValue include 'i' as a child, otherwise forbidden.
         // *Even though devices without floating point capability cannot exchange floating point values through ACSI services,
@@ -287,20 +293,20 @@ public class DataAttributePresenceConditionValidator extends GenericPresenceCond
     }
     
     @Override
-    protected boolean validateMFscaledMagV( DOType doType, DiagnosticChain diagnostics ) {
+    protected boolean validateMFscaledMagV( HashMap< String, DA > presentSclComponent, DOType doType, DiagnosticChain diagnostics ) {
         // Element is mandatory* if any sibling elements of type Vector include 'i' as a child of their 'mag' attribute, otherwise forbidden.
         // *See MFscaledAV
-        return validateMFscaledMagOrAngV( doType, "mag", mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden, diagnostics );
+        return validateMFscaledMagOrAngV( presentSclComponent, doType, "mag", mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden, diagnostics );
     }
 
     @Override
-    protected boolean validateMFscaledAngV( DOType doType, DiagnosticChain diagnostics ) {
+    protected boolean validateMFscaledAngV( HashMap< String, DA > presentSclComponent, DOType doType, DiagnosticChain diagnostics ) {
         // Element is mandatory* if any sibling elements of type Vector include 'i' as a child of their 'ang' attribute, otherwise forbidden.
         // *See MFscaledAV
-        return validateMFscaledMagOrAngV( doType, "ang", mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden, diagnostics );
+        return validateMFscaledMagOrAngV( presentSclComponent, doType, "ang", mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden, diagnostics );
     }
 
-    private boolean validateMFscaledMagOrAngV( DOType doType, String magOrAng, Set< String> toTest, DiagnosticChain diagnostics ) {
+    private boolean validateMFscaledMagOrAngV( HashMap< String, DA > presentSclComponent, DOType doType, String magOrAng, Set< String> toTest, DiagnosticChain diagnostics ) {
         boolean res = true;
         boolean iIsPresent = false;
         for( DA da : doType.getDA() ) {
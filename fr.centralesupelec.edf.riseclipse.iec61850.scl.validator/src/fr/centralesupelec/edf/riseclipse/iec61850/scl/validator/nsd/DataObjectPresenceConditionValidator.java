@@ -21,7 +21,6 @@
 package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
 
 import java.util.HashMap;
-import java.util.IdentityHashMap;
 import java.util.HashSet;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -47,8 +46,9 @@ import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValida
 import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
-public class DataObjectPresenceConditionValidator {
+public final class DataObjectPresenceConditionValidator {
     
     private static final String DO_SETUP_NSD_CATEGORY      = NsdValidator.SETUP_NSD_CATEGORY      + "/DataObject";
     private static final String DO_VALIDATION_NSD_CATEGORY = NsdValidator.VALIDATION_NSD_CATEGORY + "/DataObject";
@@ -57,20 +57,19 @@ public class DataObjectPresenceConditionValidator {
     // But the first digit of the number must not be part of the name (issue #194)
     private static final Pattern NAME_PATTERN = Pattern.compile( "([a-zA-Z0-9]+[a-zA-Z])(\\d+)" ); 
     
-    private static IdentityHashMap< NsIdentificationName, DataObjectPresenceConditionValidator > notStatisticalValidators = new IdentityHashMap<>();
-    private static IdentityHashMap< NsIdentificationName, DataObjectPresenceConditionValidator > statisticalValidators = new IdentityHashMap<>();
-    
-    public static DataObjectPresenceConditionValidator get( NsIdentification nsIdentification, AnyLNClass anyLNClass, boolean isStatistic ) {
-        var validators = isStatistic ? statisticalValidators : notStatisticalValidators;
+    public static DataObjectPresenceConditionValidator get( CompiledNsd compiledNsd, NsIdentification nsIdentification, AnyLNClass anyLNClass, boolean isStatistic ) {
+        var validators = isStatistic
+                ? compiledNsd.statisticalDataObjectPresenceConditionValidators
+                : compiledNsd.notStatisticalDataObjectPresenceConditionValidators;
         // TODO: do we need to use dependsOn links?
         if( ! validators.containsKey( NsIdentificationName.of( nsIdentification, anyLNClass.getName() ))) {
-            validators.put( NsIdentificationName.of( nsIdentification, anyLNClass.getName() ), new DataObjectPresenceConditionValidator( nsIdentification, anyLNClass, isStatistic ));
+            validators.put( NsIdentificationName.of( nsIdentification, anyLNClass.getName() ), new DataObjectPresenceConditionValidator( compiledNsd, nsIdentification, anyLNClass, isStatistic ));
         }
         return validators.get( NsIdentificationName.of( nsIdentification, anyLNClass.getName() ));
     }
     
-    private AnyLNClass anyLNClass;
-    private DataObjectPresenceConditionValidator base;
+    private final AnyLNClass anyLNClass;
+    private final DataObjectPresenceConditionValidator base;
     
     private static class SingleOrMultiDO {
     }
@@ -90,8 +89,24 @@ public class DataObjectPresenceConditionValidator {
         }
     }
         
-    // Name of the DataObject/DO, DO
-    private HashMap< String, SingleOrMultiDO > presentDO = new HashMap<>();
+    /*
+     * The DOs found in one LNodeType, with those found for the base LNClass.
+     * The validator is built once from the NSD files and shared by all validations (and all threads),
+     * it is never modified after its construction: what is found in the LNodeType is kept here,
+     * a new instance is created by the caller for each LNodeType.
+     */
+    public static final class PresentDOs {
+        // Name of the DataObject/DO, DO
+        private final HashMap< String, SingleOrMultiDO > presentDO = new HashMap<>();
+        private final PresentDOs base;
+        
+        private PresentDOs( PresentDOs base ) {
+            this.base = base;
+        }
+    }
+    
+    // Names of the DataObjects
+    private final HashSet< String > dataObjectNames = new HashSet<>();
     
     private HashSet< String > mandatory;
     private HashSet< String > optional;
@@ -99,11 +114,11 @@ public class DataObjectPresenceConditionValidator {
     private HashSet< String > notApplicable;
     private HashSet< String > mandatoryMulti;
     private HashSet< String > optionalMulti;
-    private HashMap< Integer, HashSet< String > > atLeastOne;
-    private HashSet< String > atMostOne;
-    private HashMap< Integer, HashSet< String > > allOrNonePerGroup;
-    private HashMap< Integer, HashSet< String > > allOnlyOneGroup;
-    private HashMap< Integer, HashSet< String > > allAtLeastOneGroup;
+    private final HashMap< Integer, HashSet< String > > atLeastOne;
+    private final HashSet< String > atMostOne;
+    private final HashMap< Integer, HashSet< String > > allOrNonePerGroup;
+    private final HashMap< Integer, HashSet< String > > allOnlyOneGroup;
+    private final HashMap< Integer, HashSet< String > > allAtLeastOneGroup;
     private HashMap< String, String > mandatoryIfSiblingPresentElseForbidden;
     private HashMap< String, String > mandatoryIfSiblingPresentElseOptional;
     private HashMap< String, String > optionalIfSiblingPresentElseMandatory;
@@ -136,15 +151,18 @@ public class DataObjectPresenceConditionValidator {
     private HashSet< String > mOsboNormal;
     private HashSet< String > mOsboEnhanced;
     
-    private final IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-    private NsIdentification nsIdentification;
-    private boolean isStatistic;
-    private HashSet< String > deprecatedDOs = new HashSet<>();
+    private final NsIdentification nsIdentification;
+    private final boolean isStatistic;
+    private final HashSet< String > deprecatedDOs = new HashSet<>();
     
     @SuppressWarnings( "unchecked" )        // cast of HashMap.clone() result
-    private DataObjectPresenceConditionValidator( NsIdentification nsIdentification, AnyLNClass anyLNClass, boolean isStatistic ) {
-        console.debug( DO_SETUP_NSD_CATEGORY, anyLNClass.getFilename(), anyLNClass.getLineNumber(),
-                "DataObjectPresenceConditionValidator( \"", anyLNClass.getName(), "\" in namespace \"", nsIdentification, "\" )");
+    private DataObjectPresenceConditionValidator( CompiledNsd compiledNsd, NsIdentification nsIdentification, AnyLNClass anyLNClass, boolean isStatistic ) {
+        @NonNull
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( DO_SETUP_NSD_CATEGORY, anyLNClass.getFilename(), anyLNClass.getLineNumber(),
+                    "DataObjectPresenceConditionValidator( \"", anyLNClass.getName(), "\" in namespace \"", nsIdentification, "\" )");
+        }
         
         this.nsIdentification = nsIdentification;
         this.anyLNClass = anyLNClass;
@@ -152,9 +170,7 @@ public class DataObjectPresenceConditionValidator {
         
         // Build validator for parent first, because it is needed (atLeastOne for example)
         AnyLNClass parent = anyLNClass.getRefersToAbstractLNClass();
-        if( parent != null ) {
-            base = get( nsIdentification, parent, isStatistic );
-        }
+        base = ( parent != null ) ? get( compiledNsd, nsIdentification, parent, isStatistic ) : null;
         
         // Some presence condition must be checked at the lowest LNClass (in the inheritance
         // hierarchy) having this specification (AtLeastOne for example, see other changes 
@@ -173,24 +189,24 @@ public class DataObjectPresenceConditionValidator {
         }
         else {
             atLeastOne = ( HashMap< Integer, HashSet< String > > ) base.atLeastOne.clone();
-            // We also need to add corresponding keys in presentDO
+            // We also need to add corresponding names in dataObjectNames
             for( Integer group : atLeastOne.keySet() ) {
                 atLeastOne.put( group, ( HashSet< String > ) base.atLeastOne.get( group ).clone() );
                 for( String name : atLeastOne.get( group )) {
-                    presentDO.put( name, null );
+                    dataObjectNames.add( name );
                 }
             }
             
             atMostOne = ( HashSet< String > ) base.atMostOne.clone();
             for( String name : atMostOne ) {
-                presentDO.put( name, null );
+                dataObjectNames.add( name );
             }
 
             allOrNonePerGroup = ( HashMap< Integer, HashSet< String > > ) base.allOrNonePerGroup.clone();
             for( Integer group : allOrNonePerGroup.keySet() ) {
                 allOrNonePerGroup.put( group, ( HashSet< String > ) base.allOrNonePerGroup.get( group ).clone() );
                 for( String name : allOrNonePerGroup.get( group )) {
-                    presentDO.put( name, null );
+                    dataObjectNames.add( name );
                 }
             }
             
@@ -198,7 +214,7 @@ public class DataObjectPresenceConditionValidator {
             for( Integer group : allOnlyOneGroup.keySet() ) {
                 allOnlyOneGroup.put( group, ( HashSet< String > ) base.allOnlyOneGroup.get( group ).clone() );
                 for( String name : allOnlyOneGroup.get( group )) {
-                    presentDO.put( name, null );
+                    dataObjectNames.add( name );
                 }
             }
             
@@ -206,7 +222,7 @@ public class DataObjectPresenceConditionValidator {
             for( Integer group : allAtLeastOneGroup.keySet() ) {
                 allAtLeastOneGroup.put( group, ( HashSet< String > ) base.allAtLeastOneGroup.get( group ).clone() );
                 for( String name : allAtLeastOneGroup.get( group )) {
-                    presentDO.put( name, null );
+                    dataObjectNames.add( name );
                 }
             }
         }
@@ -230,21 +246,15 @@ public class DataObjectPresenceConditionValidator {
         checkSpecification();
     }
     
-    public void reset() {
-        for( String do_ : presentDO.keySet() ) {
-            presentDO.put( do_, null );
-        }
-        
-        if( base != null ) base.reset();
-    }
-    
     private void addSpecification( String name, String presCond, String presCondArgs, int lineNumber, String filename ) {
-        if( presentDO.containsKey( name )) {
+        @NonNull
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
+        if( dataObjectNames.contains( name )) {
             console.warning( DO_SETUP_NSD_CATEGORY, filename, lineNumber,
                              name, " has already been added to DataObjectPresenceConditionValidator" );
             return;
         }
-        presentDO.put( name, null );
+        dataObjectNames.add( name );
 
         switch( presCond ) {
         case "M" :
@@ -267,8 +277,10 @@ public class DataObjectPresenceConditionValidator {
             // TODO: what does it mean ? what do we have to check ?
             // DONE: if used by statistics presence condition, no need to display message
             if( ! isStatistic ) {
-                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"na\" in non statistic PresenceCondition" );
+                if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                    console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"na\" in non statistic PresenceCondition" );
+                }
             }
             if( notApplicable == null ) notApplicable = new HashSet<>();
             notApplicable.add( name );
@@ -516,8 +528,10 @@ public class DataObjectPresenceConditionValidator {
         case "MFsubst" :
             // Element is mandatory if substitution is supported (for substitution, see IEC 61850-7-3), otherwise forbidden
             // TODO: how do we know if substitution is supported ?
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MFsubst\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MFsubst\" in PresenceCondition" );
+            }
             if( mandatoryIfSubstitutionElseForbidden == null ) mandatoryIfSubstitutionElseForbidden = new HashSet<>();
             mandatoryIfSubstitutionElseForbidden.add( name );
             break;
@@ -534,16 +548,20 @@ public class DataObjectPresenceConditionValidator {
         case "MOlnNs" :
             // Element is mandatory if the name space of its logical node deviates from the name space of the containing
             // logical device, otherwise optional. See IEC 61850-7-1 for use of name space
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOlnNs\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOlnNs\" in PresenceCondition" );
+            }
             if( mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional == null ) mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional = new HashSet<>();
             mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional.add( name );
             break;
         case "MOdataNs" :
             // Element is mandatory if the name space of its data object deviates from the name space of its logical node,
             // otherwise optional. See IEC 61850-7-1 for use of name space
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOdataNs\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOdataNs\" in PresenceCondition" );
+            }
             if( mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional == null ) mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional = new HashSet<>();
             mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional.add( name );
             break;
@@ -551,32 +569,40 @@ public class DataObjectPresenceConditionValidator {
             // Element is mandatory* if any sibling elements of type AnalogueValue include 'i' as a child, otherwise forbidden.
             // *Even though devices without floating point capability cannot exchange floating point values through ACSI services,
             // the description of scaling remains mandatory for their (SCL) configuration
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MFscaledAV\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MFscaledAV\" in PresenceCondition" );
+            }
             if( mandatoryIfAnalogValueIncludesIElseForbidden == null ) mandatoryIfAnalogValueIncludesIElseForbidden = new HashSet<>();
             mandatoryIfAnalogValueIncludesIElseForbidden.add( name );
             break;
         case "MFscaledMagV" :
             // Element is mandatory* if any sibling elements of type Vector include 'i' as a child of their 'mag' attribute, otherwise forbidden.
             // *See MFscaledAV
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MFscaledMagV\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MFscaledMagV\" in PresenceCondition" );
+            }
             if( mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden == null ) mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden = new HashSet<>();
             mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden.add( name );
             break;
         case "MFscaledAngV" :
             // Element is mandatory* if any sibling elements of type Vector include 'i' as a child of their 'ang' attribute, otherwise forbidden.
             // *See MFscaledAV
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MFscaledAngV\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MFscaledAngV\" in PresenceCondition" );
+            }
             if( mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden == null ) mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden = new HashSet<>();
             mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden.add( name );
             break;
         case "MOrms" :
             // Element is mandatory if the harmonic values in the context are calculated as a ratio to RMS value
             // (value of data attribute 'hvRef' is 'rms'), optional otherwise
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOrms\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOrms\" in PresenceCondition" );
+            }
             if( mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional == null ) mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional = new HashSet<>();
             mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional.add( name );
             break;
@@ -587,32 +613,40 @@ public class DataObjectPresenceConditionValidator {
             break;
         case "MOoperTm" :
             // Element is mandatory if at least one controlled object on the IED supports time activation service; otherwise it is optional
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOoperTm\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOoperTm\" in PresenceCondition" );
+            }
             if( mandatoryIfControlSupportsTimeElseOptional == null ) mandatoryIfControlSupportsTimeElseOptional = new HashSet<>();
             mandatoryIfControlSupportsTimeElseOptional.add( name );
             break;
         case "MmultiF" :
             // Parameter sibling: sibling element name.
             // One or more elements must be present if sibling element is present, otherwise forbidden
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MmultiF\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MmultiF\" in PresenceCondition" );
+            }
             if( oneOrMoreIfSiblingPresentElseForbidden == null ) oneOrMoreIfSiblingPresentElseForbidden = new HashMap<>();
             oneOrMoreIfSiblingPresentElseForbidden.put( name, presCondArgs );
             break;
         case "MOsbo" :
             // Element is mandatory if declared control model supports 'sbo-with-normal-security' or 'sbo-with-enhanced-security',
             // otherwise optional and value is of no impact
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOsbo\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOsbo\" in PresenceCondition" );
+            }
             if( mandatoryIfControlSupportsSecurity1ElseOptional == null ) mandatoryIfControlSupportsSecurity1ElseOptional = new HashSet<>();
             mandatoryIfControlSupportsSecurity1ElseOptional.add( name );
             break;
         case "MOenhanced" :
             // Element is mandatory if declared control model supports 'direct-with-enhanced-security' or 'sbo-with-enhanced-security',
             // otherwise optional and value is of no impact
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOenhanced\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MOenhanced\" in PresenceCondition" );
+            }
             if( mandatoryIfControlSupportsSecurity2ElseOptional == null ) mandatoryIfControlSupportsSecurity2ElseOptional = new HashSet<>();
             mandatoryIfControlSupportsSecurity2ElseOptional.add( name );
             break;
@@ -632,15 +666,19 @@ public class DataObjectPresenceConditionValidator {
         case "MORange" :
             // Element is mandatory if the measured value associated (amplitude respectively angle) exposes the range eventing
             // (with the attribute range respectively rangeAng)
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MORange\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"MORange\" in PresenceCondition" );
+            }
             if( mandatoryIfMeasuredValueExposesRange == null ) mandatoryIfMeasuredValueExposesRange = new HashSet<>();
             mandatoryIfMeasuredValueExposesRange.add( name );
             break;
         case "OMSynPh" :
             // This attribute is optional if value of 'phsRef'' is Synchrophasor otherwise Mandatory]]></Doc>
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"OMSynPh\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: DataObject \"", name, "\" declared as \"OMSynPh\" in PresenceCondition" );
+            }
             if( optionalIfPhsRefIsSynchrophasorElseMandatory == null ) optionalIfPhsRefIsSynchrophasorElseMandatory = new HashSet<>();
             optionalIfPhsRefIsSynchrophasorElseMandatory.add( name );
             break;
@@ -683,10 +721,12 @@ public class DataObjectPresenceConditionValidator {
     }
     
     private void checkSpecification() {
+        @NonNull
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
         // TODO: do we have to check the presence of the sibling in inherited AbstractLNClass ?
         if( mandatoryIfSiblingPresentElseForbidden != null ) {
             for( Entry< String, String > e : mandatoryIfSiblingPresentElseForbidden.entrySet() ) {
-                if( ! presentDO.containsKey( e.getValue() )) {
+                if( ! dataObjectNames.contains( e.getValue() )) {
                     console.warning( DO_SETUP_NSD_CATEGORY, 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of DataObject ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -694,7 +734,7 @@ public class DataObjectPresenceConditionValidator {
         }
         if( mandatoryIfSiblingPresentElseOptional != null ) {
             for( Entry< String, String > e : mandatoryIfSiblingPresentElseOptional.entrySet() ) {
-                if( ! presentDO.containsKey( e.getValue() )) {
+                if( ! dataObjectNames.contains( e.getValue() )) {
                     console.warning( DO_SETUP_NSD_CATEGORY, 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of DataObject ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -702,7 +742,7 @@ public class DataObjectPresenceConditionValidator {
         }
         if( optionalIfSiblingPresentElseMandatory != null ) {
             for( Entry< String, String > e : optionalIfSiblingPresentElseMandatory.entrySet() ) {
-                if( ! presentDO.containsKey( e.getValue() )) {
+                if( ! dataObjectNames.contains( e.getValue() )) {
                     console.warning( DO_SETUP_NSD_CATEGORY, 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of DataObject ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -710,7 +750,7 @@ public class DataObjectPresenceConditionValidator {
         }
         if( forbiddenIfSiblingPresentElseMandatory != null ) {
             for( Entry< String, String > e : forbiddenIfSiblingPresentElseMandatory.entrySet() ) {
-                if( ! presentDO.containsKey( e.getValue() )) {
+                if( ! dataObjectNames.contains( e.getValue() )) {
                     console.warning( DO_SETUP_NSD_CATEGORY, 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of DataObject ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -718,7 +758,7 @@ public class DataObjectPresenceConditionValidator {
         }
         if( oneOrMoreIfSiblingPresentElseForbidden != null ) {
             for( Entry< String, String > e : oneOrMoreIfSiblingPresentElseForbidden.entrySet() ) {
-                if( ! presentDO.containsKey( e.getValue() )) {
+                if( ! dataObjectNames.contains( e.getValue() )) {
                     console.warning( DO_SETUP_NSD_CATEGORY, 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of DataObject ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -726,7 +766,7 @@ public class DataObjectPresenceConditionValidator {
         }
         if( optionalIfSiblingPresentElseForbidden != null ) {
             for( Entry< String, String > e : optionalIfSiblingPresentElseForbidden.entrySet() ) {
-                if( ! presentDO.containsKey( e.getValue() )) {
+                if( ! dataObjectNames.contains( e.getValue() )) {
                     console.warning( DO_SETUP_NSD_CATEGORY, 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of DataObject ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -734,27 +774,32 @@ public class DataObjectPresenceConditionValidator {
         }
     }
 
-    public boolean addDO( DO do_, DiagnosticChain diagnostics ) {
-        return addDO( do_, anyLNClass.getName(), diagnostics );
+    public PresentDOs newPresentDOs() {
+        return new PresentDOs( ( base != null ) ? base.newPresentDOs() : null );
+    }
+    
+    public boolean addDO( PresentDOs present, DO do_, DiagnosticChain diagnostics ) {
+        return addDO( present, do_, anyLNClass.getName(), diagnostics );
     }
     
-    private boolean addDO( DO do_, String anyLNClassName, DiagnosticChain diagnostics ) {
+    private boolean addDO( PresentDOs present, DO do_, String anyLNClassName, DiagnosticChain diagnostics ) {
+        HashMap< String, SingleOrMultiDO > presentDO = present.presentDO;
         // An instance number may be set as a suffix
         // but a number at the end of the name is not always an instance number !
         // Therefore, we first look for with the full name, then with the name without the suffix
         
         String name = do_.getName();
         int number = 0;
-        if( ! presentDO.containsKey( name )) {
+        if( ! dataObjectNames.contains( name )) {
             Matcher matcher = NAME_PATTERN.matcher( name );
             if( matcher.matches() ) {
                 name = matcher.group( 1 );
                 number = Integer.valueOf( matcher.group( 2 ));
             }
         }
-        if( ! presentDO.containsKey( name )) {
+        if( ! dataObjectNames.contains( name )) {
             if( base != null ) {
-                return base.addDO( do_, anyLNClassName, diagnostics );
+                return base.addDO( present.base, do_, anyLNClassName, diagnostics );
             }
             RiseClipseMessage error = RiseClipseMessage.error( DO_VALIDATION_NSD_CATEGORY, do_.getParentLNodeType().getFilename(), do_.getParentLNodeType().getLineNumber(), 
                                       "DO \"", do_.getName(), "\" in LNodeType id \"", do_.getParentLNodeType().getId(), "\" not found in LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
@@ -826,15 +871,20 @@ public class DataObjectPresenceConditionValidator {
         }
     }
     
-    public boolean validate( LNodeType lNodeType, DiagnosticChain diagnostics ) {
+    public boolean validate( PresentDOs present, LNodeType lNodeType, DiagnosticChain diagnostics ) {
         @NonNull
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-        console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                       "DataObjectPresenceConditionValidator.validate( ", lNodeType.getId(), " ) in namespace \"", nsIdentification, "\"" );
-        return validate( lNodeType, anyLNClass.getName(), false, diagnostics );
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                           "DataObjectPresenceConditionValidator.validate( ", lNodeType.getId(), " ) in namespace \"", nsIdentification, "\"" );
+        }
+        return validate( present, lNodeType, anyLNClass.getName(), false, diagnostics );
     }
     
-    private boolean validate( LNodeType lNodeType, String anyLNClassName, boolean asSuperclass, DiagnosticChain diagnostics ) {
+    private boolean validate( PresentDOs present, LNodeType lNodeType, String anyLNClassName, boolean asSuperclass, DiagnosticChain diagnostics ) {
+        @NonNull
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
+        HashMap< String, SingleOrMultiDO > presentDO = present.presentDO;
         boolean res = true;
         
         if( anyLNClass.isDeprecated() ) {
@@ -853,21 +903,24 @@ public class DataObjectPresenceConditionValidator {
         // so only the final LNClass can do the check.
         // The argument asSuperclass is used for that.
         if( base != null ) {
-            res = base.validate( lNodeType, anyLNClassName, true, diagnostics );
+            res = base.validate( present.base, lNodeType, anyLNClassName, true, diagnostics );
         }
         
         // presCond: "M"
         // Element is mandatory
         // Usage in standard NSD files (version 2007B): DataObject and DataAttribute and SubDataAttribute
         if( mandatory != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "M", mandatory.size() );
             for( String name : this.mandatory ) {
                 if( deprecatedDOs.contains( name )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"M\" for DO \"", name, "\" in LNodeType id=\"", lNodeType.getId(),
-                        "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"M\" for DO \"", name, "\" in LNodeType id=\"", lNodeType.getId(),
+                            "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) == null ) {
                     RiseClipseMessage error = RiseClipseMessage.error( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                               "DO \"", name, "\" is mandatory in LNodeType id=\"", lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
@@ -897,10 +950,13 @@ public class DataObjectPresenceConditionValidator {
         // Element is optional
         // Usage in standard NSD files (version 2007B): DataObject and DataAttribute and SubDataAttribute
         if( optional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "O", optional.size() );
             for( String name : this.optional ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"O\" for DO \"", name, "\" in LNodeType id=\"", lNodeType.getId(),
-                        "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"O\" for DO \"", name, "\" in LNodeType id=\"", lNodeType.getId(),
+                            "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) == null ) {
                 }
                 else if( presentDO.get( name ) instanceof MultiDO ) {
@@ -921,14 +977,17 @@ public class DataObjectPresenceConditionValidator {
         // Element is forbidden
         // Usage in standard NSD files (version 2007B): DataObject
         if( forbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "F", forbidden.size() );
             for( String name : this.forbidden ) {
                 if( deprecatedDOs.contains( name )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"F\" for DO \"", name, "\" in LNodeType id=\"", lNodeType.getId(),
-                        "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"F\" for DO \"", name, "\" in LNodeType id=\"", lNodeType.getId(),
+                            "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage error = RiseClipseMessage.error( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                               "DO \"", name, "\" is forbidden in LNodeType id=\"", lNodeType.getId(), "\" with LNClass \"",
@@ -961,10 +1020,13 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): only for dsPresCond
         // -> TODO: what does it mean ? what do we have to check ?
         if( notApplicable != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "na", notApplicable.size() );
             for( String name : notApplicable ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition naM\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition naM\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"na\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -983,10 +1045,13 @@ public class DataObjectPresenceConditionValidator {
         // At least one element shall be present; all instances have an instance number > 0
         // Usage in standard NSD files (version 2007B): DataObject
         if( mandatoryMulti != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "Mmulti", mandatoryMulti.size() );
             for( String name : this.mandatoryMulti ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"Mmulti\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"Mmulti\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) == null ) {
                     if( deprecatedDOs.contains( name )) {
                         // No errors for deprecated elements
@@ -1022,10 +1087,13 @@ public class DataObjectPresenceConditionValidator {
         // Zero or more elements may be present; all instances have an instance number > 0
         // Usage in standard NSD files (version 2007B): DataObject
         if( optionalMulti != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "Omulti", optionalMulti.size() );
             for( String name : this.optionalMulti ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"Omulti\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"Omulti\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) == null ) {
                 }
                 else if( presentDO.get( name ) instanceof SingleDO ) {
@@ -1049,10 +1117,13 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataObject and SubDataObject and DataAttribute and SubDataAttribute
         //if( atLeastOne != null ) {
         if( ! asSuperclass ) {
+            NsdStatistics.presenceConditionsEvaluated( "AtLeastOne", atLeastOne.size() );
             for( Entry< Integer, HashSet< String > > e1 : atLeastOne.entrySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"AtLeastOne\" for group ", e1.getKey(), " in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"AtLeastOne\" for group ", e1.getKey(), " in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 boolean groupOK = false;
                 String atLeastOneOf = " (at least one of:";
                 for( String member : e1.getValue() ) {
@@ -1083,9 +1154,12 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataObject
         //if( atMostOne != null ) {
         if( ! asSuperclass ) {
-            console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                    "validation of presence condition \"AtMostOne\" in LNodeType id = \"",
-                    lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+            NsdStatistics.presenceConditionsEvaluated( "AtMostOne", atMostOne.size() );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                        "validation of presence condition \"AtMostOne\" in LNodeType id = \"",
+                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+            }
             int count = 0;
             String atMostOneOf = " (at most one of:";
             for( String s : atMostOne ) {
@@ -1115,10 +1189,13 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataAttribute
         //if( allOrNonePerGroup != null ) {
         if( ! asSuperclass ) {
+            NsdStatistics.presenceConditionsEvaluated( "AllOrNonePerGroup", allOrNonePerGroup.size() );
             for( Entry< Integer, HashSet< String > > e1 : allOrNonePerGroup.entrySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"AllOrNonePerGroup\" for group ", e1.getKey(), " in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"AllOrNonePerGroup\" for group ", e1.getKey(), " in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 int groupCount = 0;
                 String expectedMembers = " (expected members:";
                 for( String member : e1.getValue() ) {
@@ -1149,11 +1226,14 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataObject and SubDataAttribute
         //if( allOnlyOneGroup != null ) {
         if(( ! asSuperclass ) && ( allOnlyOneGroup.size() != 0 )) {         // groupNumber == 0 not an error if empty
+            NsdStatistics.presenceConditionsEvaluated( "AllOnlyOneGroup", allOnlyOneGroup.size() );
             int groupNumber = 0;
             for( Entry< Integer, HashSet< String > > e1 : allOnlyOneGroup.entrySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"AllOnlyOneGroup\" for group ", e1.getKey(), " in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"AllOnlyOneGroup\" for group ", e1.getKey(), " in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 int groupCount = 0;
                 String expectedMembers = " (expected members:";
                 for( String member : e1.getValue() ) {
@@ -1214,11 +1294,14 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataAttribute
         //if( allAtLeastOneGroup != null ) {
         if(( ! asSuperclass ) && ( allAtLeastOneGroup.size() != 0 )) {         // groupNumber == 0 not an error if empty
+            NsdStatistics.presenceConditionsEvaluated( "AllAtLeastOneGroup", allAtLeastOneGroup.size() );
             int groupNumber = 0;
             for( Entry< Integer, HashSet< String > > e1 : allAtLeastOneGroup.entrySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"AllAtLeastOneGroup\" for group ", e1.getKey(), " in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"AllAtLeastOneGroup\" for group ", e1.getKey(), " in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 int groupCount = 0;
                 for( String member : e1.getValue() ) {
                     if( presentDO.get( member ) != null ) {
@@ -1248,14 +1331,17 @@ public class DataObjectPresenceConditionValidator {
         // Mandatory if sibling element is present, otherwise forbidden
         // Usage in standard NSD files (version 2007B): DataObject
         if( mandatoryIfSiblingPresentElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MF", mandatoryIfSiblingPresentElseForbidden.size() );
             for( Entry< String, String > entry : mandatoryIfSiblingPresentElseForbidden.entrySet() ) {
                 if( deprecatedDOs.contains( entry.getKey() )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MF\" for DO \"", entry.getKey(), "\" sibling \"", entry.getValue(), "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MF\" for DO \"", entry.getKey(), "\" sibling \"", entry.getValue(), "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( entry.getValue() ) != null ) {
                     if( presentDO.get( entry.getKey() ) == null ) {
                         RiseClipseMessage error = RiseClipseMessage.error( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
@@ -1292,15 +1378,18 @@ public class DataObjectPresenceConditionValidator {
         // Mandatory if sibling element is present, otherwise optional
         // Usage in standard NSD files (version 2007B): DataAttribute
         if( mandatoryIfSiblingPresentElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MO", mandatoryIfSiblingPresentElseOptional.size() );
             for( Entry< String, String > entry : mandatoryIfSiblingPresentElseOptional.entrySet() ) {
                 if( deprecatedDOs.contains( entry.getKey() )) {
                     // No errors for deprecated elements
                     continue;
                 }
                 if( presentDO.get( entry.getValue() ) != null ) {
-                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                            "validation of presence condition \"MO\" for DO \"", entry.getKey(), "\" sibling \"", entry.getValue(), "\" in LNodeType id = \"",
-                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                    if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                        console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                                "validation of presence condition \"MO\" for DO \"", entry.getKey(), "\" sibling \"", entry.getValue(), "\" in LNodeType id = \"",
+                                lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                    }
                     if( presentDO.get( entry.getKey() ) == null ) {
                         RiseClipseMessage error = RiseClipseMessage.error( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                   "DO \"", entry.getKey(), "\" is mandatory in LNodeType id=\"", lNodeType.getId(), "\" with LNClass \"",
@@ -1322,14 +1411,17 @@ public class DataObjectPresenceConditionValidator {
         // Optional if sibling element is present, otherwise mandatory
         // Usage in standard NSD files (version 2007B): None
         if( optionalIfSiblingPresentElseMandatory != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "OM", optionalIfSiblingPresentElseMandatory.size() );
             for( Entry< String, String > entry : optionalIfSiblingPresentElseMandatory.entrySet() ) {
                 if( deprecatedDOs.contains( entry.getKey() )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"OM\" for DO \"", entry.getKey(), "\" sibling \"", entry.getValue(), "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"OM\" for DO \"", entry.getKey(), "\" sibling \"", entry.getValue(), "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( entry.getValue() ) == null ) {
                     if( presentDO.get( entry.getKey() ) == null ) {
                         RiseClipseMessage error = RiseClipseMessage.error( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
@@ -1352,14 +1444,17 @@ public class DataObjectPresenceConditionValidator {
         // Forbidden if sibling element is present, otherwise mandatory
         // Usage in standard NSD files (version 2007B): None
         if( forbiddenIfSiblingPresentElseMandatory != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "FM", forbiddenIfSiblingPresentElseMandatory.size() );
             for( Entry< String, String > entry : forbiddenIfSiblingPresentElseMandatory.entrySet() ) {
                 if( deprecatedDOs.contains( entry.getKey() )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"FM\" for DO \"", entry.getKey(), "\" sibling \"", entry.getValue(), "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"FM\" for DO \"", entry.getKey(), "\" sibling \"", entry.getValue(), "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( entry.getValue() ) != null ) {
                     if( presentDO.get( entry.getKey() ) != null ) {
                         RiseClipseMessage error = RiseClipseMessage.error( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
@@ -1397,10 +1492,13 @@ public class DataObjectPresenceConditionValidator {
         // If satisfied, the element is mandatory, otherwise optional
         // Usage in standard NSD files (version 2007B): DataObject
         if( mandatoryIfTextConditionElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOcond", mandatoryIfTextConditionElseOptional.size() );
             for( Entry< String, String > entry : mandatoryIfTextConditionElseOptional.entrySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOcond\" for DO \"", entry.getKey(), "\" textual condition number \"", entry.getValue(), "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOcond\" for DO \"", entry.getKey(), "\" textual condition number \"", entry.getValue(), "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 String doc = anyLNClass
                         .getDataObject()
                         .stream()
@@ -1434,10 +1532,13 @@ public class DataObjectPresenceConditionValidator {
         // If satisfied, the element is mandatory, otherwise forbidden
         // Usage in standard NSD files (version 2007B): DataObject
         if( mandatoryIfTextConditionElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MFcond", mandatoryIfTextConditionElseForbidden.size() );
             for( Entry< String, String > entry : mandatoryIfTextConditionElseForbidden.entrySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MFcond\" for DO \"", entry.getKey(), "\" textual condition number \"", entry.getValue(), "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MFcond\" for DO \"", entry.getKey(), "\" textual condition number \"", entry.getValue(), "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 String doc = anyLNClass
                         .getDataObject()
                         .stream()
@@ -1471,10 +1572,13 @@ public class DataObjectPresenceConditionValidator {
         // If satisfied, the element is optional, otherwise forbidden
         // Usage in standard NSD files (version 2007B): DataObject
         if( optionalIfTextConditionElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "OFcond", optionalIfTextConditionElseForbidden.size() );
             for( Entry< String, String > entry : optionalIfTextConditionElseForbidden.entrySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"OFcond\" for DO \"", entry.getKey(), "\" textual condition number \"", entry.getValue(), "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"OFcond\" for DO \"", entry.getKey(), "\" textual condition number \"", entry.getValue(), "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 String doc = anyLNClass
                         .getDataObject()
                         .stream()
@@ -1507,10 +1611,13 @@ public class DataObjectPresenceConditionValidator {
         // One or more elements shall be present; all instances have an instance number within range [min, max] (see IEC 61850-7-1)
         // Usage in standard NSD files (version 2007B): None
         if( mandatoryMultiRange != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MmultiRange", mandatoryMultiRange.size() );
             for( String name : this.mandatoryMultiRange.keySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MmultiRange\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MmultiRange\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) == null ) {
                     if( deprecatedDOs.contains( name )) {
                         // No errors for deprecated elements
@@ -1566,10 +1673,13 @@ public class DataObjectPresenceConditionValidator {
         // Zero or more elements may be present; all instances have an instance number within range [min, max] (see IEC 61850-7-1)
         // Usage in standard NSD files (version 2007B): DataObject
         if( optionalMultiRange != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "OmultiRange", optionalMultiRange.size() );
             for( String name : this.optionalMultiRange.keySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"OmultiRange\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"OmultiRange\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) == null ) {
                 }
                 else if( presentDO.get( name ) instanceof SingleDO ) {
@@ -1611,10 +1721,13 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfSubstitutionElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MFsubst", mandatoryIfSubstitutionElseForbidden.size() );
             for( String name : mandatoryIfSubstitutionElseForbidden ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MFsubst\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MFsubst\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MFsubst\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1633,10 +1746,13 @@ public class DataObjectPresenceConditionValidator {
         // Element is mandatory in the context of LLN0; otherwise optional
         // Usage in standard NSD files (version 2007B): DataAttribute
         if( mandatoryInLLN0ElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOln0", mandatoryInLLN0ElseOptional.size() );
             for( String name : mandatoryInLLN0ElseOptional ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOln0\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOln0\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) == null ) {
                     for( AnyLN anyLN : lNodeType.getReferredByAnyLN() ) {
                         if( anyLN instanceof LN0 ) {
@@ -1660,10 +1776,13 @@ public class DataObjectPresenceConditionValidator {
         // Element is mandatory in the context of LLN0; otherwise forbidden
         // Usage in standard NSD files (version 2007B): DataAttribute
         if( mandatoryInLLN0ElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MFln0", mandatoryInLLN0ElseForbidden.size() );
             for( String name : mandatoryInLLN0ElseForbidden ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MFln0\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MFln0\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 for( AnyLN anyLN : lNodeType.getReferredByAnyLN() ) {
                     if( presentDO.get( name ) == null ) {
                         if( anyLN instanceof LN0 ) {
@@ -1703,10 +1822,13 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO: The meaning is not clear.
         if( mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOlnNs", mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional.size() );
             for( String name : mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOlnNs\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOlnNs\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOlnNs\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1727,10 +1849,13 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO: The meaning is not clear.
         if( mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOdataNs", mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional.size() );
             for( String name : mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOdataNs\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOdataNs\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOdataNs\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1752,10 +1877,13 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfAnalogValueIncludesIElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MFscaledAV", mandatoryIfAnalogValueIncludesIElseForbidden.size() );
             for( String name : mandatoryIfAnalogValueIncludesIElseForbidden ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MFscaledAV\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MFscaledAV\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MFscaledAV\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1776,10 +1904,13 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MFscaledMagV", mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden.size() );
             for( String name : mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MFscaledMagV\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MFscaledMagV\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MFscaledMagV\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1800,10 +1931,13 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MFscaledAngV", mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden.size() );
             for( String name : mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MFscaledAngV\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MFscaledAngV\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MFscaledAngV\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1824,10 +1958,13 @@ public class DataObjectPresenceConditionValidator {
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOrms", mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional.size() );
             for( String name : mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOrms\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOrms\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOrms\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1846,10 +1983,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // Element is mandatory in the context of a root logical device; otherwise it is optional
         // Usage in standard NSD files (version 2007B): DataObject
         if( mandatoryInRootLogicalDeviceElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOrootLD", mandatoryInRootLogicalDeviceElseOptional.size() );
             for( String name : mandatoryInRootLogicalDeviceElseOptional ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOrootLD\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOrootLD\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 for( AnyLN anyLN : lNodeType.getReferredByAnyLN() ) {
                     Optional< DOI > grRef =
                             anyLN
@@ -1882,10 +2022,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfControlSupportsTimeElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOoperTm", mandatoryIfControlSupportsTimeElseOptional.size() );
             for( String name : mandatoryIfControlSupportsTimeElseOptional ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOoperTm\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOoperTm\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOoperTm\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1906,10 +2049,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // Usage in standard NSD files (version 2007B): DataObject
         // TODO: One or more elements ? Is there an instance number ?
         if( oneOrMoreIfSiblingPresentElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MmultiF", oneOrMoreIfSiblingPresentElseForbidden.size() );
             for( String name : oneOrMoreIfSiblingPresentElseForbidden.keySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MmultiF\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MmultiF\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MmultiF\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1930,10 +2076,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfControlSupportsSecurity1ElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOsbo", mandatoryIfControlSupportsSecurity1ElseOptional.size() );
             for( String name : mandatoryIfControlSupportsSecurity1ElseOptional ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOsbo\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOsbo\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOsbo\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1954,10 +2103,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfControlSupportsSecurity2ElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOenhanced", mandatoryIfControlSupportsSecurity2ElseOptional.size() );
             for( String name : mandatoryIfControlSupportsSecurity2ElseOptional ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOenhanced\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOenhanced\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                  "verification of PresenceCondition \"MOenhanced\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -1978,8 +2130,11 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // Usage in standard NSD files (version 2007B): DataObject
         // TODO: same as "MOlnNs" ?
         if( mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional2 != null ) {
-            console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                           "validation of presence condition \"MONamPlt\" on LNodeType id=\"", lNodeType.getId(), "\" in namespace \"", nsIdentification, "\"" );
+            NsdStatistics.presenceConditionsEvaluated( "MONamPlt", mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional2.size() );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                               "validation of presence condition \"MONamPlt\" on LNodeType id=\"", lNodeType.getId(), "\" in namespace \"", nsIdentification, "\"" );
+            }
             
             for( AnyLN ln : lNodeType.getReferredByAnyLN() ) {
                 String lnNs = ln.getNamespace();
@@ -1995,9 +2150,11 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
                 }
                 if( ! lnNs.equals( ldNs )) {
                     for( String name : mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional2 ) {
-                        console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                                "validation of presence condition \"MONamPlt\" for DO \"", name, "\" in LNodeType id = \"",
-                                lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                            console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                                    "validation of presence condition \"MONamPlt\" for DO \"", name, "\" in LNodeType id = \"",
+                                    lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                        }
                         if( presentDO.get( name ) == null ) {
                             RiseClipseMessage error = RiseClipseMessage.error( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                       "DO \"", name, "\" is mandatory in LNodeType id=\"", lNodeType.getId(), "\" with LNClass \"", anyLNClassName,
@@ -2022,10 +2179,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // Optional if sibling element is present, otherwise forbidden
         // Usage in standard NSD files (version 2007B): DataObject and DataAttribute
         if( optionalIfSiblingPresentElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "OF", optionalIfSiblingPresentElseForbidden.size() );
             for( Entry< String, String > entry : optionalIfSiblingPresentElseForbidden.entrySet() ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"OF\" for DO \"", entry.getKey(), "\" sibling \"", entry.getValue(), "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"OF\" for DO \"", entry.getKey(), "\" sibling \"", entry.getValue(), "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( entry.getValue() ) == null ) {
                     if( presentDO.get( entry.getKey() ) != null ) {
                         RiseClipseMessage error = RiseClipseMessage.error( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
@@ -2049,10 +2209,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // Usage in standard NSD files (version 2007B): SubDataAttribute
         // TODO
         if( mandatoryIfMeasuredValueExposesRange != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MORange", mandatoryIfMeasuredValueExposesRange.size() );
             for( String name : mandatoryIfMeasuredValueExposesRange ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOrange\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOrange\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MORange\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -2072,10 +2235,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // Usage in standard NSD files (version 2007B): SubDataObject
         // TODO
         if( optionalIfPhsRefIsSynchrophasorElseMandatory != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "OMSynPh", optionalIfPhsRefIsSynchrophasorElseMandatory.size() );
             for( String name : optionalIfPhsRefIsSynchrophasorElseMandatory ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"OMSynPh\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"OMSynPh\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"OMSynPh\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -2093,10 +2259,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // presCond: "MAllOrNonePerGroup" :
         // TODO
         if( mAllOrNonePerGroup != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MAllOrNonePerGroup", mAllOrNonePerGroup.size() );
             for( String name : mAllOrNonePerGroup ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MAllOrNonePerGroup\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MAllOrNonePerGroup\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MAllOrNonePerGroup\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -2114,10 +2283,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // presCond: "MOctrl" :
         // TODO
         if( mOctrl != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOctrl", mOctrl.size() );
             for( String name : mOctrl ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOctrl\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOctrl\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOctrl\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -2135,10 +2307,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // presCond: "MOsboNormal" :
         // TODO
         if( mOsboNormal != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOsboNormal", mOsboNormal.size() );
             for( String name : mOsboNormal ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOsboNormal\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOsboNormal\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOsboNormal\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
@@ -2156,10 +2331,13 @@ lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", n
         // presCond: "MOsboEnhanced" :
         // TODO
         if( mOsboEnhanced != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOsboEnhanced", mOsboEnhanced.size() );
             for( String name : mOsboEnhanced ) {
-                console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                        "validation of presence condition \"MOsboEnhanced\" for DO \"", name, "\" in LNodeType id = \"",
-                        lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                            "validation of presence condition \"MOsboEnhanced\" for DO \"", name, "\" in LNodeType id = \"",
+                            lNodeType.getId(), "\" with LNClass \"", anyLNClassName, "\" in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentDO.get( name ) != null ) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( DO_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOsboEnhanced\" for DO \"", name, "\" is not implemented in LNodeType id=\"",
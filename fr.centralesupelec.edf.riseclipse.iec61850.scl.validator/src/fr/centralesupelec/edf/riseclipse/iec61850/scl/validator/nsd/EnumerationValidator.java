@@ -43,14 +43,13 @@ import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValida
 import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
 public class EnumerationValidator extends TypeValidator {
     
     static final String ENUMERATION_SETUP_NSD_CATEGORY      = NsdValidator.SETUP_NSD_CATEGORY      + "/Enumeration";
     static final String ENUMERATION_VALIDATION_NSD_CATEGORY = NsdValidator.VALIDATION_NSD_CATEGORY + "/Enumeration";
 
-    private HashSet< String > validatedEnumType = new HashSet<>();
-
     // Name of EnumVal may be empty, so we use LiteralVal as key
     private HashMap< Integer, String > literals = new HashMap<>();
     private Enumeration enumeration;
@@ -58,16 +57,18 @@ public class EnumerationValidator extends TypeValidator {
     private NsIdentification nsIdentification;
     private HashSet< String > deprecatedLiterals = new HashSet<>();
 
-    public EnumerationValidator( Enumeration enumeration, NsIdentification nsIdentification, IRiseClipseConsole console ) {
-        console.debug( ENUMERATION_SETUP_NSD_CATEGORY, enumeration.getFilename(), enumeration.getLineNumber(),
-                "EnumerationValidator( ", enumeration.getName(), " )in namespace\"", nsIdentification, "\"" );
+    public EnumerationValidator( CompiledNsd compiledNsd, Enumeration enumeration, NsIdentification nsIdentification, IRiseClipseConsole console ) {
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( ENUMERATION_SETUP_NSD_CATEGORY, enumeration.getFilename(), enumeration.getLineNumber(),
+                    "EnumerationValidator( ", enumeration.getName(), " )in namespace\"", nsIdentification, "\"" );
+        }
 
         this.enumeration = enumeration;
         this.nsIdentification = nsIdentification;
         String inheritedFromName = enumeration.getInheritedFrom();
         
         if(( inheritedFromName != null ) && ( ! inheritedFromName.isEmpty() )) {
-            Pair< TypeValidator, NsIdentification > res = TypeValidator.getByName( nsIdentification, inheritedFromName );
+            Pair< TypeValidator, NsIdentification > res = TypeValidator.getByName( compiledNsd, nsIdentification, inheritedFromName );
             TypeValidator inheritedValidator = res.getLeft();
             if(( inheritedValidator != null ) && ( inheritedValidator instanceof EnumerationValidator )) {
                 EnumerationValidator inheritedFrom = ( EnumerationValidator ) inheritedValidator;
@@ -91,8 +92,6 @@ public class EnumerationValidator extends TypeValidator {
         // the positive range of values is reserved for standardized value of enumerations,
         // except for the IEC 61850-7-3 multiplierKind that standardizes also values in the negative range,
         isMultiplierKind = "multiplierKind".equals( getName() );
-        
-        reset();
     }
     
     @Override
@@ -100,20 +99,14 @@ public class EnumerationValidator extends TypeValidator {
         return enumeration.getName();
     }
     
-    /*
-     * Called before another file is validated
-     */
     @Override
-    public void reset() {
-        validatedEnumType = new HashSet<>();
-    }
-
-    @Override
-    public boolean validateAbstractDataAttribute( AbstractDataAttribute ada, DiagnosticChain diagnostics ) {
+    public boolean validateAbstractDataAttribute( AbstractDataAttribute ada, NsdValidationContext context, DiagnosticChain diagnostics ) {
         @NonNull
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-        console.debug( ENUMERATION_VALIDATION_NSD_CATEGORY, ada.getFilename(), ada.getLineNumber(),
-                       "EnumerationValidator.validateAbstractDataAttribute( ", ada.getName(), " )" );
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( ENUMERATION_VALIDATION_NSD_CATEGORY, ada.getFilename(), ada.getLineNumber(),
+                           "EnumerationValidator.validateAbstractDataAttribute( ", ada.getName(), " )" );
+        }
         
         boolean res = true;
         if( ! "Enum".equals(  ada.getBType() )) {
@@ -140,7 +133,7 @@ public class EnumerationValidator extends TypeValidator {
 //        }
 
         if( ada.getRefersToEnumType() != null ) {
-            res = validateEnumType( ada.getRefersToEnumType(), diagnostics ) && res;
+            res = validateEnumType( ada.getRefersToEnumType(), context, diagnostics ) && res;
             
             // Values must be validated against EnumType, not Enumeration
             for( Val val : ada.getVal() ) {
@@ -187,14 +180,16 @@ public class EnumerationValidator extends TypeValidator {
         return res;
     }
 
-    public boolean validateEnumType( EnumType enumType, DiagnosticChain diagnostics ) {
-        if( validatedEnumType.contains( enumType.getId() )) return true;
+    public boolean validateEnumType( EnumType enumType, NsdValidationContext context, DiagnosticChain diagnostics ) {
+        boolean first = context.firstValidation( this, enumType.getId() );
+        NsdStatistics.enumTypeValidation( first );
+        if( ! first ) return true;
         @NonNull
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-        console.debug( ENUMERATION_VALIDATION_NSD_CATEGORY, enumType.getFilename(), enumType.getLineNumber(),
-                       "EnumerationValidator.validateEnumType( ", enumType.getId(), " ) in namespace \"", nsIdentification, "\"" );
-        validatedEnumType.add( enumType.getId() );
-        
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( ENUMERATION_VALIDATION_NSD_CATEGORY, enumType.getFilename(), enumType.getLineNumber(),
+                           "EnumerationValidator.validateEnumType( ", enumType.getId(), " ) in namespace \"", nsIdentification, "\"" );
+        }
         boolean res = true;
         
         // The name of the enumeration type is not a standardized name that shall be used by the implementation
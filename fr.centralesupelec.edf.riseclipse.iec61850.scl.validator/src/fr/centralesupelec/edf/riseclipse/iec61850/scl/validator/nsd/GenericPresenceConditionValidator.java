@@ -41,11 +41,26 @@ import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValida
 import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
 public abstract class GenericPresenceConditionValidator< NsdModel extends DocumentedClass, SclModel extends IDNaming, @Nullable SclComponent extends SclObject > {
     
-    // Name of the NsdComponent/SclComponent, SclComponent
-    protected HashMap< String, SclComponent > presentSclComponent = new HashMap<>();
+    /*
+     * The SCL components found in one SCL model.
+     * The validator is built once from the NSD files and shared by all validations (and all threads),
+     * it is never modified after its construction: what is found in the SCL model is kept here,
+     * a new instance is created by the caller for each SCL model.
+     */
+    public static final class PresentComponents< C > {
+        // Name of the NsdComponent/SclComponent, SclComponent
+        private final HashMap< String, C > presentSclComponent = new HashMap<>();
+        
+        private PresentComponents() {
+        }
+    }
+
+    // Names of the NsdComponents
+    protected final HashSet< String > sclComponentNames = new HashSet<>();
     
     protected HashSet< String > mandatory;
     protected HashSet< String > optional;
@@ -94,12 +109,10 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
     protected HashSet< String > mOsboNormal;
     protected HashSet< String > mOsboEnhanced;
     
-    protected final IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-
-    protected NsIdentification nsIdentification;
-    protected NsdModel nsdModel;
+    protected final NsIdentification nsIdentification;
+    protected final NsdModel nsdModel;
     
-    protected HashSet< String > deprecated = new HashSet<>();
+    protected final HashSet< String > deprecated = new HashSet<>();
 
     protected GenericPresenceConditionValidator( NsIdentification nsIdentification, NsdModel nsdModel ) {
         this.nsIdentification = nsIdentification;
@@ -129,14 +142,18 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
     protected abstract String getSclComponentClassName();
 
     protected void addSpecification( String name, String presCond, String presCondArgs, Doc doc, int lineNumber, String filename ) {
-        if( presentSclComponent.containsKey( name )) {
+        @NonNull
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
+        if( sclComponentNames.contains( name )) {
             console.warning( getSetupMessageCategory(), filename, lineNumber,
                              name, " has already been added to ", getPresenceConditionValidatorName() );
             return;
         }
-        console.debug( getSetupMessageCategory(), filename, lineNumber,
-                "adding ", getSclComponentClassName(), " \"", name, "\" to ", getNsdModelClassName(), " \"", getNsdModelName(), "\"" );
-        presentSclComponent.put( name, null );
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( getSetupMessageCategory(), filename, lineNumber,
+                    "adding ", getSclComponentClassName(), " \"", name, "\" to ", getNsdModelClassName(), " \"", getNsdModelName(), "\"" );
+        }
+        sclComponentNames.add( name );
 
         switch( presCond ) {
         case "M" :
@@ -157,24 +174,30 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         case "na" :
             // Element is not applicable
             // -> TODO: what does it mean ? what do we have to check ?
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"na\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"na\" in PresenceCondition" );
+            }
 //            if( notApplicable == null ) notApplicable = new HashSet<>();
 //            notApplicable.add( name );
             break;
         case "Mmulti" :
             // At least one element shall be present; all instances have an instance number > 0
             // -> TODO: not sure what is the instance number, it is assumed to be the suffix of DO name
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"Mmulti\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"Mmulti\" in PresenceCondition" );
+            }
 //            if( mandatoryMulti == null ) mandatoryMulti = new HashSet<>();
 //            mandatoryMulti.add( name );
             break;
         case "Omulti" :
             // Zero or more elements may be present; all instances have an instance number > 0
             // -> TODO: not sure what is the instance number, it is assumed to be the suffix of DO name
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"Omulti\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"Omulti\" in PresenceCondition" );
+            }
 //            if( optionalMulti == null ) optionalMulti = new HashSet<>();
 //            optionalMulti.add( name );
             break;
@@ -366,8 +389,10 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
             // Parameters min, max: limits for instance number (> 0).
             // One or more elements shall be present; all instances have an instance number within range [min, max] (see IEC 61850-7-1)
             // -> TODO: not sure what is the instance number, it is assumed to be the suffix of DO name
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MmultiRange\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MmultiRange\" in PresenceCondition" );
+            }
             if( mandatoryMultiRange == null ) mandatoryMultiRange = new HashMap<>();
             String[] limits1 = presCondArgs.split( "[ ,]+" );
             if( limits1.length != 2 ) {
@@ -393,8 +418,10 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
             // Parameters min, max: limits for instance number (> 0).
             // Zero or more elements may be present; all instances have an instance number within range [min, max] (see IEC 61850-7-1)
             // -> TODO: not sure what is the instance number, it is assumed to be the suffix of DO name
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"OmultiRange\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"OmultiRange\" in PresenceCondition" );
+            }
             if( optionalMultiRange == null ) optionalMultiRange = new HashMap<>();
             String[] limits2 = presCondArgs.split( "[ ,]+" );
             if( limits2.length != 2 ) {
@@ -419,8 +446,10 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         case "MFsubst" :
             // Element is mandatory if substitution is supported (for substitution, see IEC 61850-7-3), otherwise forbidden
             // TODO: how do we know if substitution is supported ?
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MFsubst\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MFsubst\" in PresenceCondition" );
+            }
 //            if( mandatoryIfSubstitutionElseForbidden == null ) mandatoryIfSubstitutionElseForbidden = new HashSet<>();
 //            mandatoryIfSubstitutionElseForbidden.add( name );
             break;
@@ -437,8 +466,10 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         case "MOlnNs" :
             // Element is mandatory if the name space of its logical node deviates from the name space of the containing
             // logical device, otherwise optional. See IEC 61850-7-1 for use of name space
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOlnNs\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOlnNs\" in PresenceCondition" );
+            }
 //            if( mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional == null ) mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional = new HashSet<>();
 //            mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional.add( name );
             break;
@@ -446,16 +477,20 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
             // Seen in IEC_61850-7-2_2007A2 and IEC_61850-7-2_2007A3, its significance is based on MOlnNs and MOdataNs
             // Element is mandatory if the name space of its data class deviates from the name space of its logical node,
             // otherwise optional. See IEC 61850-7-1 for use of name space
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOcdcNs\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOcdcNs\" in PresenceCondition" );
+            }
 //            if( mandatoryIfNameSpaceOfDataClassDeviatesElseOptional == null ) mandatoryIfNameSpaceOfDataClassDeviatesElseOptional = new HashSet<>();
 //            mandatoryIfNameSpaceOfDataClassDeviatesElseOptional.add( name );
             break;
         case "MOdataNs" :
             // Element is mandatory if the name space of its data object deviates from the name space of its logical node,
             // otherwise optional. See IEC 61850-7-1 for use of name space
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOdataNs\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOdataNs\" in PresenceCondition" );
+            }
 //            if( mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional == null ) mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional = new HashSet<>();
 //            mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional.add( name );
             break;
@@ -481,46 +516,58 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         case "MOrms" :
             // Element is mandatory if the harmonic values in the context are calculated as a ratio to RMS value
             // (value of data attribute 'hvRef' is 'rms'), optional otherwise
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOrms\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOrms\" in PresenceCondition" );
+            }
 //            if( mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional == null ) mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional = new HashSet<>();
 //            mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional.add( name );
             break;
         case "MOrootLD" :
             // Element is mandatory in the context of a root logical device; otherwise it is optional
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOrootLD\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOrootLD\" in PresenceCondition" );
+            }
 //            if( mandatoryInRootLogicalDeviceElseOptional == null ) mandatoryInRootLogicalDeviceElseOptional = new HashSet<>();
 //            mandatoryInRootLogicalDeviceElseOptional.add( name );
             break;
         case "MOoperTm" :
             // Element is mandatory if at least one controlled object on the IED supports time activation service; otherwise it is optional
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOoperTm\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOoperTm\" in PresenceCondition" );
+            }
 //            if( mandatoryIfControlSupportsTimeElseOptional == null ) mandatoryIfControlSupportsTimeElseOptional = new HashSet<>();
 //            mandatoryIfControlSupportsTimeElseOptional.add( name );
             break;
         case "MmultiF" :
             // Parameter sibling: sibling element name.
             // One or more elements must be present if sibling element is present, otherwise forbidden
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOoperTm\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOoperTm\" in PresenceCondition" );
+            }
 //            if( oneOrMoreIfSiblingPresentElseForbidden == null ) oneOrMoreIfSiblingPresentElseForbidden = new HashMap<>();
 //            oneOrMoreIfSiblingPresentElseForbidden.put( name, presCondArgs );
             break;
         case "MOsbo" :
             // Element is mandatory if declared control model supports 'sbo-with-normal-security' or 'sbo-with-enhanced-security',
             // otherwise optional and value is of no impact
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOsbo\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOsbo\" in PresenceCondition" );
+            }
 //            if( mandatoryIfControlSupportsSecurity1ElseOptional == null ) mandatoryIfControlSupportsSecurity1ElseOptional = new HashSet<>();
 //            mandatoryIfControlSupportsSecurity1ElseOptional.add( name );
             break;
         case "MOenhanced" :
             // Element is mandatory if declared control model supports 'direct-with-enhanced-security' or 'sbo-with-enhanced-security',
             // otherwise optional and value is of no impact
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOenhanced\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOenhanced\" in PresenceCondition" );
+            }
 //            if( mandatoryIfControlSupportsSecurity2ElseOptional == null ) mandatoryIfControlSupportsSecurity2ElseOptional = new HashSet<>();
 //            mandatoryIfControlSupportsSecurity2ElseOptional.add( name );
             break;
@@ -528,8 +575,10 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
             // Element is mandatory if the name space of its logical node deviates from the name space of the containing
             // logical device, otherwise optional. See IEC 61850-7-1 for use of name space
             // TODO: same as "MOlnNs" ?
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MONamPlt\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MONamPlt\" in PresenceCondition" );
+            }
 //            if( mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional2 == null ) mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional2 = new HashSet<>();
 //            mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional2.add( name );
             break;
@@ -542,15 +591,19 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         case "MORange" :
             // Element is mandatory if the measured value associated (amplitude respectively angle) exposes the range eventing
             // (with the attribute range respectively rangeAng)
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MORange\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MORange\" in PresenceCondition" );
+            }
 //            if( mandatoryIfMeasuredValueExposesRange == null ) mandatoryIfMeasuredValueExposesRange = new HashSet<>();
 //            mandatoryIfMeasuredValueExposesRange.add( name );
             break;
         case "OMSynPh" :
             // This attribute is optional if value of 'phsRef'' is Synchrophasor otherwise Mandatory]]></Doc>
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"OMSynPh\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"OMSynPh\" in PresenceCondition" );
+            }
 //            if( optionalIfPhsRefIsSynchrophasorElseMandatory == null ) optionalIfPhsRefIsSynchrophasorElseMandatory = new HashSet<>();
 //            optionalIfPhsRefIsSynchrophasorElseMandatory.add( name );
             break;
@@ -558,29 +611,37 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
             // Parameter n: group number (> 0).
             // Element is mandatory if declared control model supports 'direct-with-enhanced- security'
             // or 'sbo-with-enhanced-security', otherwise all or none of the elements of a group n shall be present.
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MAllOrNonePerGroup\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MAllOrNonePerGroup\" in PresenceCondition" );
+            }
 //            if( mAllOrNonePerGroup == null ) mAllOrNonePerGroup = new HashSet<>();
 //            mAllOrNonePerGroup.add( name );
             break;
         case "MOctrl" :
             // Seen in IEC_61850-8-1_2003A2.snsd
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOctrl\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOctrl\" in PresenceCondition" );
+            }
 //            if( mOctrl == null ) mOctrl = new HashSet<>();
 //            mOctrl.add( name );
             break;
         case "MOsboNormal" :
             // Seen in IEC_61850-8-1_2003A2.snsd
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOsboNormal\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOsboNormal\" in PresenceCondition" );
+            }
 //            if( mOsboNormal == null ) mOsboNormal = new HashSet<>();
 //            mOsboNormal.add( name );
             break;
         case "MOsboEnhanced" :
             // Seen in IEC_61850-8-1_2003A2.snsd
-            console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
-                             "NOT IMPLEMENTED: " + getNsdComponentClassName(), " \"", name, "\" declared as \"MOsboEnhanced\" in PresenceCondition" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, filename, lineNumber,
+                                 "NOT IMPLEMENTED: ", getNsdComponentClassName(), " \"", name, "\" declared as \"MOsboEnhanced\" in PresenceCondition" );
+            }
 //            if( mOsboEnhanced == null ) mOsboEnhanced = new HashSet<>();
 //            mOsboEnhanced.add( name );
             break;
@@ -593,10 +654,12 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
     }
     
     protected void checkSpecification() {
+        @NonNull
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
         // TODO: do we have to check the presence of the sibling in inherited AbstractLNClass ?
         if( mandatoryIfSiblingPresentElseForbidden != null ) {
             for( Entry< String, String > e : mandatoryIfSiblingPresentElseForbidden.entrySet() ) {
-                if( ! presentSclComponent.containsKey( e.getValue() )) {
+                if( ! sclComponentNames.contains( e.getValue() )) {
                     console.warning( getSetupMessageCategory(), 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of ", getNsdComponentClassName(), " ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -604,7 +667,7 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         }
         if( mandatoryIfSiblingPresentElseOptional != null ) {
             for( Entry< String, String > e : mandatoryIfSiblingPresentElseOptional.entrySet() ) {
-                if( ! presentSclComponent.containsKey( e.getValue() )) {
+                if( ! sclComponentNames.contains( e.getValue() )) {
                     console.warning( getSetupMessageCategory(), 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of ", getNsdComponentClassName(), " ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -612,7 +675,7 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         }
         if( optionalIfSiblingPresentElseMandatory != null ) {
             for( Entry< String, String > e : optionalIfSiblingPresentElseMandatory.entrySet() ) {
-                if( ! presentSclComponent.containsKey( e.getValue() )) {
+                if( ! sclComponentNames.contains( e.getValue() )) {
                     console.warning( getSetupMessageCategory(), 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of ", getNsdComponentClassName(), " ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -620,7 +683,7 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         }
         if( forbiddenIfSiblingPresentElseMandatory != null ) {
             for( Entry< String, String > e : forbiddenIfSiblingPresentElseMandatory.entrySet() ) {
-                if( ! presentSclComponent.containsKey( e.getValue() )) {
+                if( ! sclComponentNames.contains( e.getValue() )) {
                     console.warning( getSetupMessageCategory(), 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of ", getNsdComponentClassName(), " ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -628,7 +691,7 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         }
         if( oneOrMoreIfSiblingPresentElseForbidden != null ) {
             for( Entry< String, String > e : oneOrMoreIfSiblingPresentElseForbidden.entrySet() ) {
-                if( ! presentSclComponent.containsKey( e.getValue() )) {
+                if( ! sclComponentNames.contains( e.getValue() )) {
                     console.warning( getSetupMessageCategory(), 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of ", getNsdComponentClassName(), " ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -636,7 +699,7 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         }
         if( optionalIfSiblingPresentElseForbidden != null ) {
             for( Entry< String, String > e : optionalIfSiblingPresentElseForbidden.entrySet() ) {
-                if( ! presentSclComponent.containsKey( e.getValue() )) {
+                if( ! sclComponentNames.contains( e.getValue() )) {
                     console.warning( getSetupMessageCategory(), 0,
                                      "the sibling of ", e.getKey(), " in PresenceCondition of ", getNsdComponentClassName(), " ", e.getKey(), " is unknown in namespace \"", nsIdentification, "\"" );
                 }
@@ -644,14 +707,13 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         }
     }
 
-    public void resetModelData() {
-        for( String sclComponent : presentSclComponent.keySet() ) {
-            presentSclComponent.put( sclComponent, null );
-        }
+    public PresentComponents< SclComponent > newPresentComponents() {
+        return new PresentComponents<>();
     }
     
-    public boolean addModelData( @NonNull SclComponent sclComponent, String sclComponentName, DiagnosticChain diagnostics ) {
-        if( ! presentSclComponent.containsKey( sclComponentName )) {
+    public boolean addModelData( PresentComponents< SclComponent > present, @NonNull SclComponent sclComponent, String sclComponentName, DiagnosticChain diagnostics ) {
+        HashMap< String, SclComponent > presentSclComponent = present.presentSclComponent;
+        if( ! sclComponentNames.contains( sclComponentName )) {
             RiseClipseMessage error = RiseClipseMessage.error( getValidationMessageCategory(), sclComponent.getFilename(), sclComponent.getLineNumber(), 
                                       getSclComponentClassName(), " \"", sclComponentName, "\" not expected in ", getNsdModelClassName(), " \"", getNsdModelName(),
                                       " in namespace \"", nsIdentification, "\"" );
@@ -680,9 +742,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         return true;
     }
     
-    public boolean validate( @NonNull SclModel sclModel, DiagnosticChain diagnostics ) {
-        console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                getPresenceConditionValidatorName(), ".validate( ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" ) in namespace \"", nsIdentification, "\"" );
+    public boolean validate( PresentComponents< SclComponent > present, @NonNull SclModel sclModel, DiagnosticChain diagnostics ) {
+        @NonNull
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
+        HashMap< String, SclComponent > presentSclComponent = present.presentSclComponent;
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                    getPresenceConditionValidatorName(), ".validate( ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" ) in namespace \"", nsIdentification, "\"" );
+        }
 
         boolean res = true;
         
@@ -701,15 +768,18 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Element is mandatory
         // Usage in standard NSD files (version 2007B): DataObject and DataAttribute and SubDataAttribute
         if( mandatory != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "M", mandatory.size() );
             for( String name : this.mandatory ) {
                 if( deprecated.contains( name )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"M\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"M\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) == null ) {
                     RiseClipseMessage error = RiseClipseMessage.error( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(), 
                                               getSclComponentClassName(), " \"", name, "\" is mandatory in ", getSclModelClassName(), " id = \"",
@@ -729,11 +799,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Element is optional
         // Usage in standard NSD files (version 2007B): DataObject and DataAttribute and SubDataAttribute
         if( optional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "O", optional.size() );
             for( String name : this.optional ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"O\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"O\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) == null ) {
                     // Nothing
                 }
@@ -744,15 +817,18 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Element is forbidden
         // Usage in standard NSD files (version 2007B): DataObject
         if( forbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "F", forbidden.size() );
             for( String name : this.forbidden ) {
                 if( deprecated.contains( name )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"F\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"F\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage error = RiseClipseMessage.error( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(), 
                             getSclComponentClassName(), " \"", name, "\" is forbidden in ", getSclModelClassName(), " id = \"",
@@ -773,11 +849,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): only for dsPresCond
         // -> TODO: what does it mean ? what do we have to check ?
         if( notApplicable != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "na", notApplicable.size() );
             for( String name : notApplicable ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"na\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"na\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"na\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -798,11 +877,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // At least one element shall be present; all instances have an instance number > 0
         // Usage in standard NSD files (version 2007B): DataObject
         if( mandatoryMulti != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "Mmulti", mandatoryMulti.size() );
             for( String name : mandatoryMulti ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"Mmulti\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"Mmulti\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"Mmulti\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -823,11 +905,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Zero or more elements may be present; all instances have an instance number > 0
         // Usage in standard NSD files (version 2007B): DataObject
         if( optionalMulti != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "Omulti", optionalMulti.size() );
             for( String name : optionalMulti ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"Omulti\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"Omulti\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"Mmulti\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -849,11 +934,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // At least one of marked elements of a group n shall be present
         // Usage in standard NSD files (version 2007B): DataObject and SubDataObject and DataAttribute and SubDataAttribute
         if( atLeastOne != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "AtLeastOne", atLeastOne.size() );
             for( Entry< Integer, HashSet< String > > e1 : atLeastOne.entrySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"AtLeastOne\" for ", getSclComponentClassName(), " group ", e1.getKey(), " in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"AtLeastOne\" for ", getSclComponentClassName(), " group ", e1.getKey(), " in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 boolean groupOK = false;
                 String atLeastOneOf = " (at least one of:";
                 for( String member : e1.getValue() ) {
@@ -884,10 +972,13 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // At most one of marked elements shall be present
         // Usage in standard NSD files (version 2007B): DataObject
         if( atMostOne != null ) {
-            console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                    "validation of presence condition \"AtMostOne\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
-                    sclModel.getId(), "\" with ", getNsdModelClassName(),
-                    " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+            NsdStatistics.presenceConditionsEvaluated( "AtMostOne", atMostOne.size() );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                        "validation of presence condition \"AtMostOne\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
+                        sclModel.getId(), "\" with ", getNsdModelClassName(),
+                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+            }
             int count = 0;
             String atMostOneOf = " (at most one of:";
             for( String s : atMostOne ) {
@@ -917,11 +1008,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // All or none of the elements of a group n shall be present
         // Usage in standard NSD files (version 2007B): DataAttribute
         if( allOrNonePerGroup != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "AllOrNonePerGroup", allOrNonePerGroup.size() );
             for( Entry< Integer, HashSet< String > > e1 : allOrNonePerGroup.entrySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"AllOrNonePerGroup\" for ", getSclComponentClassName(), " group ", e1.getKey(), " in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"AllOrNonePerGroup\" for ", getSclComponentClassName(), " group ", e1.getKey(), " in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 int groupCount = 0;
                 String expectedMembers = " (expected members:";
                 for( String member : e1.getValue() ) {
@@ -953,12 +1047,15 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // All elements of only one group n shall be present
         // Usage in standard NSD files (version 2007B): DataObject and SubDataAttribute
         if( allOnlyOneGroup != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "AllOnlyOneGroup", allOnlyOneGroup.size() );
             int groupNumber = 0;
             for( Entry< Integer, HashSet< String > > e1 : allOnlyOneGroup.entrySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"AllOnlyOneGroup\" for ", getSclComponentClassName(), " group ", e1.getKey(), " in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"AllOnlyOneGroup\" for ", getSclComponentClassName(), " group ", e1.getKey(), " in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 int groupCount = 0;
                 String expectedMembers = " (expected members:";
                 for( String member : e1.getValue() ) {
@@ -1021,12 +1118,15 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // All elements of at least one group n shall be present
         // Usage in standard NSD files (version 2007B): DataAttribute
         if( allAtLeastOneGroup != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "AllAtLeastOneGroup", allAtLeastOneGroup.size() );
             int groupNumber = 0;
             for( Entry< Integer, HashSet< String > > e1 : allAtLeastOneGroup.entrySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"AllAtLeastOneGroup\" for ", getSclComponentClassName(), " group ", e1.getKey(), " in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"AllAtLeastOneGroup\" for ", getSclComponentClassName(), " group ", e1.getKey(), " in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 int groupCount = 0;
                 for( String member : e1.getValue() ) {
                     if( presentSclComponent.get( member ) != null ) {
@@ -1057,15 +1157,18 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Mandatory if sibling element is present, otherwise forbidden
         // Usage in standard NSD files (version 2007B): DataObject
         if( mandatoryIfSiblingPresentElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MF", mandatoryIfSiblingPresentElseForbidden.size() );
             for( Entry< String, String > entry : mandatoryIfSiblingPresentElseForbidden.entrySet() ) {
                 if( deprecated.contains( entry.getKey() )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MF\" for ", getSclComponentClassName(), " element \"", entry.getKey(), "\" sibling \"", entry.getValue(),
-                        "\" in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MF\" for ", getSclComponentClassName(), " element \"", entry.getKey(), "\" sibling \"", entry.getValue(),
+                            "\" in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( entry.getValue() ) != null ) {
                     if( presentSclComponent.get( entry.getKey() ) == null ) {
                         RiseClipseMessage error = RiseClipseMessage.error( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -1106,15 +1209,18 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Mandatory if sibling element is present, otherwise optional
         // Usage in standard NSD files (version 2007B): DataAttribute
         if( mandatoryIfSiblingPresentElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MO", mandatoryIfSiblingPresentElseOptional.size() );
             for( Entry< String, String > entry : mandatoryIfSiblingPresentElseOptional.entrySet() ) {
                 if( deprecated.contains( entry.getKey() )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                 console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MO\" for ", getSclComponentClassName(), " element \"", entry.getKey(), "\" sibling \"", entry.getValue(),
-                        "\" in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                 if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                     console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MO\" for ", getSclComponentClassName(), " element \"", entry.getKey(), "\" sibling \"", entry.getValue(),
+                            "\" in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                 }
                 if( presentSclComponent.get( entry.getValue() ) != null ) {
                     if( presentSclComponent.get( entry.getKey() ) == null ) {
                         RiseClipseMessage error = RiseClipseMessage.error( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -1139,15 +1245,18 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Optional if sibling element is present, otherwise mandatory
         // Usage in standard NSD files (version 2007B): None
         if( optionalIfSiblingPresentElseMandatory != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "OM", optionalIfSiblingPresentElseMandatory.size() );
             for( Entry< String, String > entry : optionalIfSiblingPresentElseMandatory.entrySet() ) {
                 if( deprecated.contains( entry.getKey() )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                 console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"OM\" for ", getSclComponentClassName(), " element \"", entry.getKey(), "\" sibling \"", entry.getValue(),
-                        "\" in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                 if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                     console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"OM\" for ", getSclComponentClassName(), " element \"", entry.getKey(), "\" sibling \"", entry.getValue(),
+                            "\" in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                 }
                 if( presentSclComponent.get( entry.getValue() ) == null ) {
                     if( presentSclComponent.get( entry.getKey() ) == null ) {
                         RiseClipseMessage error = RiseClipseMessage.error( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -1172,15 +1281,18 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Forbidden if sibling element is present, otherwise mandatory
         // Usage in standard NSD files (version 2007B): None
         if( forbiddenIfSiblingPresentElseMandatory != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "FM", forbiddenIfSiblingPresentElseMandatory.size() );
             for( Entry< String, String > entry : forbiddenIfSiblingPresentElseMandatory.entrySet() ) {
                 if( deprecated.contains( entry.getKey() )) {
                     // No errors for deprecated elements
                     continue;
                 }
-                 console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"FM\" for ", getSclComponentClassName(), " element \"", entry.getKey(), "\" sibling \"", entry.getValue(),
-                        "\" in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                 if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                     console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"FM\" for ", getSclComponentClassName(), " element \"", entry.getKey(), "\" sibling \"", entry.getValue(),
+                            "\" in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                 }
                 if( presentSclComponent.get( entry.getValue() ) != null ) {
                     if( presentSclComponent.get( entry.getKey() ) != null ) {
                         RiseClipseMessage error = RiseClipseMessage.error( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -1222,11 +1334,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // If satisfied, the element is mandatory, otherwise optional
         // Usage in standard NSD files (version 2007B): DataObject
         if( mandatoryIfTextConditionElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOcond", mandatoryIfTextConditionElseOptional.size() );
             for( Entry< String, String > entry : mandatoryIfTextConditionElseOptional.entrySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOcond\" for ", getSclComponentClassName(), " ", entry.getKey(), " textual condition number ", entry.getValue(),
-                        " in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOcond\" for ", getSclComponentClassName(), " ", entry.getKey(), " textual condition number ", entry.getValue(),
+                            " in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 String doc = mandatoryIfTextConditionElseOptionalDoc.get( entry.getKey() );
 
                 RiseClipseMessage notice = RiseClipseMessage.notice( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -1250,11 +1365,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // If satisfied, the element is mandatory, otherwise forbidden
         // Usage in standard NSD files (version 2007B): DataObject
         if( mandatoryIfTextConditionElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MFcond", mandatoryIfTextConditionElseForbidden.size() );
             for( Entry< String, String > entry : mandatoryIfTextConditionElseForbidden.entrySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MFcond\" for ", getSclComponentClassName(), entry.getKey(), " textual condition number ", entry.getValue(),
-                        " in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MFcond\" for ", getSclComponentClassName(), entry.getKey(), " textual condition number ", entry.getValue(),
+                            " in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 String doc = mandatoryIfTextConditionElseForbiddenDoc.get( entry.getKey() );
 
                 RiseClipseMessage notice = RiseClipseMessage.notice( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -1278,11 +1396,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // If satisfied, the element is optional, otherwise forbidden
         // Usage in standard NSD files (version 2007B): DataObject
         if( optionalIfTextConditionElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "OFcond", optionalIfTextConditionElseForbidden.size() );
             for( Entry< String, String > entry : optionalIfTextConditionElseForbidden.entrySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"OFcond\" for ", getSclComponentClassName(), entry.getKey(), " textual condition number ", entry.getValue(),
-                        " in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"OFcond\" for ", getSclComponentClassName(), entry.getKey(), " textual condition number ", entry.getValue(),
+                            " in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 String doc = optionalIfTextConditionElseForbiddenDoc.get( entry.getKey() );
 
                 RiseClipseMessage notice = RiseClipseMessage.notice( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -1305,11 +1426,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // One or more elements shall be present; all instances have an instance number within range [min, max] (see IEC 61850-7-1)
         // Usage in standard NSD files (version 2007B): None
         if( mandatoryMultiRange != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MmultiRange", mandatoryMultiRange.size() );
             for( String name : mandatoryMultiRange.keySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MmultiRange\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MmultiRange\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MmultiRange\" for ", getSclComponentClassName(), " ", name,
@@ -1331,11 +1455,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Zero or more elements may be present; all instances have an instance number within range [min, max] (see IEC 61850-7-1)
         // Usage in standard NSD files (version 2007B): DataObject
         if( optionalMultiRange != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "OmultiRange", optionalMultiRange.size() );
             for( String name : optionalMultiRange.keySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"OmultiRange\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"OmultiRange\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"OmultiRange\" for ", getSclComponentClassName(), " ", name,
@@ -1357,11 +1484,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfSubstitutionElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MFsubst", mandatoryIfSubstitutionElseForbidden.size() );
             for( String name : mandatoryIfSubstitutionElseForbidden ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MFsubst\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MFsubst\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MFsubst\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1382,22 +1512,28 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Element is mandatory in the context of LLN0; otherwise optional
         // Usage in standard NSD files (version 2007B): DataAttribute
         if( mandatoryInLLN0ElseOptional != null ) {
-            console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                    "validation of presence condition \"MOln0\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
-                    sclModel.getId(), "\" with ", getNsdModelClassName(),
-                    " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
-            res = validateMOln0( sclModel, diagnostics ) && res;
+            NsdStatistics.presenceConditionsEvaluated( "MOln0", mandatoryInLLN0ElseOptional.size() );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                        "validation of presence condition \"MOln0\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
+                        sclModel.getId(), "\" with ", getNsdModelClassName(),
+                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+            }
+            res = validateMOln0( presentSclComponent, sclModel, diagnostics ) && res;
         }
         
         // presCond: "MFln0" :
         // Element is mandatory in the context of LLN0; otherwise forbidden
         // Usage in standard NSD files (version 2007B): DataAttribute
         if( mandatoryInLLN0ElseForbidden != null ) {
-            console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                    "validation of presence condition \"MFln0\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
-                    sclModel.getId(), "\" with ", getNsdModelClassName(),
-                    " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
-            res = validateMFln0( sclModel, diagnostics ) && res;
+            NsdStatistics.presenceConditionsEvaluated( "MFln0", mandatoryInLLN0ElseForbidden.size() );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                        "validation of presence condition \"MFln0\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
+                        sclModel.getId(), "\" with ", getNsdModelClassName(),
+                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+            }
+            res = validateMFln0( presentSclComponent, sclModel, diagnostics ) && res;
         }
 
         // presCond: "MOlnNs" :
@@ -1406,11 +1542,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO: The meaning is not clear.
         if( mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOlnNs", mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional.size() );
             for( String name : mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOlnNs\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOlnNs\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOlnNs\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1433,11 +1572,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007A2/A3): DataAttribute
         // TODO: The meaning is not clear.
         if( mandatoryIfNameSpaceOfDataClassDeviatesElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOcdcNs", mandatoryIfNameSpaceOfDataClassDeviatesElseOptional.size() );
             for( String name : mandatoryIfNameSpaceOfDataClassDeviatesElseOptional ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOcdcNs\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOcdcNs\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                             "verification of PresenceCondition \"MOcdcNs\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ", getSclModelClassName(),
@@ -1459,11 +1601,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO: The meaning is not clear.
         if( mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOdataNs", mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional.size() );
             for( String name : mandatoryIfNameSpaceOfDataObjectDeviatesElseOptional ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOdataNs\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOdataNs\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOdataNs\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1487,11 +1632,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfAnalogValueIncludesIElseForbidden != null ) {
-            console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                    "validation of presence condition \"MFscaledAV\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
-                    sclModel.getId(), "\" with ", getNsdModelClassName(),
-                    " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
-            res = validateMFscaledAV( sclModel, diagnostics ) && res;
+            NsdStatistics.presenceConditionsEvaluated( "MFscaledAV", mandatoryIfAnalogValueIncludesIElseForbidden.size() );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                        "validation of presence condition \"MFscaledAV\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
+                        sclModel.getId(), "\" with ", getNsdModelClassName(),
+                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+            }
+            res = validateMFscaledAV( presentSclComponent, sclModel, diagnostics ) && res;
         }
 
         // presCond: "MFscaledMagV" :
@@ -1500,11 +1648,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden != null ) {
-            console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                    "validation of presence condition \"MFscaledMagV\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
-                    sclModel.getId(), "\" with ", getNsdModelClassName(),
-                    " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
-            res = validateMFscaledMagV( sclModel, diagnostics ) && res;
+            NsdStatistics.presenceConditionsEvaluated( "MFscaledMagV", mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden.size() );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                        "validation of presence condition \"MFscaledMagV\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
+                        sclModel.getId(), "\" with ", getNsdModelClassName(),
+                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+            }
+            res = validateMFscaledMagV( presentSclComponent, sclModel, diagnostics ) && res;
         }
 
         // presCond: "MFscaledAngV" :
@@ -1513,11 +1664,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden != null ) {
-            console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                    "validation of presence condition \"MFscaledAngV\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
-                    sclModel.getId(), "\" with ", getNsdModelClassName(),
-                    " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
-            res = validateMFscaledAngV( sclModel, diagnostics ) && res;
+            NsdStatistics.presenceConditionsEvaluated( "MFscaledAngV", mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden.size() );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                        "validation of presence condition \"MFscaledAngV\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
+                        sclModel.getId(), "\" with ", getNsdModelClassName(),
+                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+            }
+            res = validateMFscaledAngV( presentSclComponent, sclModel, diagnostics ) && res;
         }
 
         // presCond: "MOrms" :
@@ -1526,11 +1680,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOrms", mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional.size() );
             for( String name : mandatoryIfHarmonicValuesCalculatedAsRatioElseOptional ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOrms\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOrms\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOrms\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1551,11 +1708,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Element is mandatory in the context of a root logical device; otherwise it is optional
         // Usage in standard NSD files (version 2007B): DataObject
         if( mandatoryInRootLogicalDeviceElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOrootLD", mandatoryInRootLogicalDeviceElseOptional.size() );
             for( String name : mandatoryInRootLogicalDeviceElseOptional ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOrootLD\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOrootLD\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOrootLD\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1577,11 +1737,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfControlSupportsTimeElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOoperTm", mandatoryIfControlSupportsTimeElseOptional.size() );
             for( String name : mandatoryIfControlSupportsTimeElseOptional ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOoperTm\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOoperTm\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOoperTm\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1604,11 +1767,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataObject
         // TODO: One or more elements ? Is there an instance number ?
         if( oneOrMoreIfSiblingPresentElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MmultiF", oneOrMoreIfSiblingPresentElseForbidden.size() );
             for( String name : oneOrMoreIfSiblingPresentElseForbidden.keySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MmultiF\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MmultiF\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MmultiF\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1631,11 +1797,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfControlSupportsSecurity1ElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOsbo", mandatoryIfControlSupportsSecurity1ElseOptional.size() );
             for( String name : mandatoryIfControlSupportsSecurity1ElseOptional ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOsbo\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOsbo\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOsbo\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1658,11 +1827,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataAttribute
         // TODO
         if( mandatoryIfControlSupportsSecurity2ElseOptional != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOenhanced", mandatoryIfControlSupportsSecurity2ElseOptional.size() );
             for( String name : mandatoryIfControlSupportsSecurity2ElseOptional ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOenhanced\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOenhanced\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MOenhanced\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1685,11 +1857,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): DataObject
         // TODO: same as "MOlnNs" ?
         if( mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional2 != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MONamPlt", mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional2.size() );
             for( String name : mandatoryIfNameSpaceOfLogicalNodeDeviatesElseOptional2 ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MONamPlt\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MONamPlt\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MONamPlt\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1711,11 +1886,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Optional if sibling element is present, otherwise forbidden
         // Usage in standard NSD files (version 2007B): DataObject and DataAttribute
         if( optionalIfSiblingPresentElseForbidden != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "OF", optionalIfSiblingPresentElseForbidden.size() );
             for( Entry< String, String > entry : optionalIfSiblingPresentElseForbidden.entrySet() ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"OF\" for ", getSclComponentClassName(), " element ", entry.getKey(), " sibling ", entry.getValue(),
-                        " in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"OF\" for ", getSclComponentClassName(), " element ", entry.getKey(), " sibling ", entry.getValue(),
+                            " in ", getSclModelClassName(), " id = \"", sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( entry.getValue() ) == null ) {
                     if( presentSclComponent.get( entry.getKey() ) != null ) {
                         RiseClipseMessage error = RiseClipseMessage.error( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -1741,11 +1919,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): SubDataAttribute
         // TODO
         if( mandatoryIfMeasuredValueExposesRange != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MORange", mandatoryIfMeasuredValueExposesRange.size() );
             for( String name : mandatoryIfMeasuredValueExposesRange ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MORange\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MORange\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                                                 "verification of PresenceCondition \"MORange\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1767,21 +1948,27 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // Usage in standard NSD files (version 2007B): SubDataObject
         // TODO
         if( optionalIfPhsRefIsSynchrophasorElseMandatory != null ) {
-            console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                    "validation of presence condition \"OMSynPh\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
-                    sclModel.getId(), "\" with ", getNsdModelClassName(),
-                    " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
-            res = validateOMSynPh( sclModel, diagnostics ) && res;
+            NsdStatistics.presenceConditionsEvaluated( "OMSynPh", optionalIfPhsRefIsSynchrophasorElseMandatory.size() );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                        "validation of presence condition \"OMSynPh\" for ", getSclComponentClassName(), " in ", getSclModelClassName(), " id = \"",
+                        sclModel.getId(), "\" with ", getNsdModelClassName(),
+                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+            }
+            res = validateOMSynPh( presentSclComponent, sclModel, diagnostics ) && res;
         }
 
         // presCond: "MAllOrNonePerGroup" :
         // TODO
         if( mAllOrNonePerGroup != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MAllOrNonePerGroup", mAllOrNonePerGroup.size() );
             for( String name : mAllOrNonePerGroup ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MAllOrNonePerGroup\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MAllOrNonePerGroup\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                             "verification of PresenceCondition \"MAllOrNonePerGroup\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ",
@@ -1801,11 +1988,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // presCond: "MOctrl" :
         // TODO
         if( mOctrl != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOctrl", mOctrl.size() );
             for( String name : mOctrl ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOctrl\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOctrl\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                             "verification of PresenceCondition \"MOctrl\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ", getSclModelClassName(),
@@ -1824,11 +2014,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // presCond: "MOsboNormal" :
         // TODO
         if( mOsboNormal != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOsboNormal", mOsboNormal.size() );
             for( String name : mOsboNormal ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOsboNormal\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOsboNormal\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                             "verification of PresenceCondition \"MOsboNormal\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ", getSclModelClassName(),
@@ -1847,11 +2040,14 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         // presCond: "MOsboEnhanced" :
         // TODO
         if( mOsboEnhanced != null ) {
+            NsdStatistics.presenceConditionsEvaluated( "MOsboEnhanced", mOsboEnhanced.size() );
             for( String name : mOsboEnhanced ) {
-                console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
-                        "validation of presence condition \"MOsboEnhanced\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
-                        sclModel.getId(), "\" with ", getNsdModelClassName(),
-                        " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( getValidationMessageCategory(), sclModel.getFilename(), sclModel.getLineNumber(),
+                            "validation of presence condition \"MOsboEnhanced\" for ", getSclComponentClassName(), " \"", name, "\" in ", getSclModelClassName(), " id = \"",
+                            sclModel.getId(), "\" with ", getNsdModelClassName(),
+                            " \"", getNsdModelName(), "\" at line ", getNsdModelLineNumber(), " in namespace \"", nsIdentification, "\"" );
+                }
                 if( presentSclComponent.get( name ) != null ) {
                     RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
                             "verification of PresenceCondition \"MOsboEnhanced\" for ", getSclComponentClassName(), " \"", name, "\" is not implemented in ", getSclModelClassName(),
@@ -1870,13 +2066,13 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         return res;
     }
 
-    protected abstract boolean validateMFln0( SclModel sclModel, DiagnosticChain diagnostics );
+    protected abstract boolean validateMFln0( HashMap< String, SclComponent > presentSclComponent, SclModel sclModel, DiagnosticChain diagnostics );
 
-    protected abstract boolean validateMOln0( SclModel sclModel, DiagnosticChain diagnostics );
+    protected abstract boolean validateMOln0( HashMap< String, SclComponent > presentSclComponent, SclModel sclModel, DiagnosticChain diagnostics );
 
-    protected abstract boolean validateOMSynPh( SclModel sclModel, DiagnosticChain diagnostics );
+    protected abstract boolean validateOMSynPh( HashMap< String, SclComponent > presentSclComponent, SclModel sclModel, DiagnosticChain diagnostics );
     
-    protected boolean validateMFscaledAV( SclModel sclModel, DiagnosticChain diagnostics ) {
+    protected boolean validateMFscaledAV( HashMap< String, SclComponent > presentSclComponent, SclModel sclModel, DiagnosticChain diagnostics ) {
         for( String name : mandatoryIfAnalogValueIncludesIElseForbidden ) {
             if( presentSclComponent.get( name ) != null ) {
                 RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -1895,7 +2091,7 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         return true;
     }
     
-    protected boolean validateMFscaledMagV( SclModel sclModel, DiagnosticChain diagnostics ) {
+    protected boolean validateMFscaledMagV( HashMap< String, SclComponent > presentSclComponent, SclModel sclModel, DiagnosticChain diagnostics ) {
         for( String name : mandatoryIfVectorSiblingIncludesIAsChildMagElseForbidden ) {
             if( presentSclComponent.get( name ) != null ) {
                 RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -1914,7 +2110,7 @@ public abstract class GenericPresenceConditionValidator< NsdModel extends Docume
         return true;
     }
     
-    protected boolean validateMFscaledAngV( SclModel sclModel, DiagnosticChain diagnostics ) {
+    protected boolean validateMFscaledAngV( HashMap< String, SclComponent > presentSclComponent, SclModel sclModel, DiagnosticChain diagnostics ) {
         for( String name : mandatoryIfVectorSiblingIncludesIAsChildAngElseForbidden ) {
             if( presentSclComponent.get( name ) != null ) {
                 RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -20,7 +20,6 @@
 */
 package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
 
-import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -45,6 +44,7 @@ import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValida
 import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
 public class LNClassValidator {
     
@@ -52,35 +52,22 @@ public class LNClassValidator {
     private static final String LNCLASS_VALIDATION_NSD_CATEGORY = NsdValidator.VALIDATION_NSD_CATEGORY + "/LNClass";
 
     // The name of an LNClass in a namespace is unique
-    private static IdentityHashMap< NsIdentificationName, LNClassValidator > validators = new IdentityHashMap<>();
-    
-    public static Pair< LNClassValidator, NsIdentification > get( NsIdentification nsIdentification, String lnClassName ) {
+    public static Pair< LNClassValidator, NsIdentification > get( CompiledNsd compiledNsd, NsIdentification nsIdentification, String lnClassName ) {
         NsIdentification nsId = nsIdentification;
         LNClassValidator lnClassValidator = null;
         while(( lnClassValidator == null ) && ( nsId != null )) {
-            lnClassValidator = validators.get( NsIdentificationName.of( nsId, lnClassName ));
+            lnClassValidator = compiledNsd.lnClassValidators.get( NsIdentificationName.of( nsId, lnClassName ));
             nsIdentification = nsId;
             nsId = nsId.getDependsOn();
         }
         return Pair.of( lnClassValidator, nsIdentification );
     }
     
-    public static void buildValidators( NsIdentification nsIdentification, Stream< LNClass > stream, IRiseClipseConsole console ) {
+    public static void buildValidators( CompiledNsd compiledNsd, NsIdentification nsIdentification, Stream< LNClass > stream, IRiseClipseConsole console ) {
         stream
-        .forEach( lnClass -> validators.put(
+        .forEach( lnClass -> compiledNsd.lnClassValidators.put(
                 NsIdentificationName.of( nsIdentification, lnClass.getName() ),
-                new LNClassValidator( nsIdentification, lnClass, console )));
-    }
-
-    /*
-     * Called before another file is validated
-     */
-    public static void resetValidators() {
-        validators.values().stream().forEach( v -> v.reset() );
-    }
-
-    private void reset() {
-        dataObjectValidatorMap.values().stream().forEach( v -> v.reset() );
+                new LNClassValidator( compiledNsd, nsIdentification, lnClass, console )));
     }
 
     private NsIdentification nsIdentification;
@@ -110,13 +97,15 @@ public class LNClassValidator {
     private HashMap< String, CDCValidator > dataObjectValidatorMap = new HashMap<>();
     private HashSet< String > doWithInstanceNumber = new HashSet<>();
 
-    private LNClassValidator( NsIdentification nsIdentification, AnyLNClass anyLNClass, IRiseClipseConsole console ) {
-        console.debug( LNCLASS_SETUP_NSD_CATEGORY, anyLNClass.getFilename(), anyLNClass.getLineNumber(),
-                       "LNClassValidator( ", anyLNClass.getName(), " ) in namespace \"", nsIdentification, "\"" );
+    private LNClassValidator( CompiledNsd compiledNsd, NsIdentification nsIdentification, AnyLNClass anyLNClass, IRiseClipseConsole console ) {
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( LNCLASS_SETUP_NSD_CATEGORY, anyLNClass.getFilename(), anyLNClass.getLineNumber(),
+                           "LNClassValidator( ", anyLNClass.getName(), " ) in namespace \"", nsIdentification, "\"" );
+        }
         
         this.nsIdentification = nsIdentification;
-        notStatisticalDataObjectPresenceConditionValidator = DataObjectPresenceConditionValidator.get( nsIdentification, anyLNClass, false );
-        statisticalDataObjectPresenceConditionValidator = DataObjectPresenceConditionValidator.get( nsIdentification, anyLNClass, true );
+        notStatisticalDataObjectPresenceConditionValidator = DataObjectPresenceConditionValidator.get( compiledNsd, nsIdentification, anyLNClass, false );
+        statisticalDataObjectPresenceConditionValidator = DataObjectPresenceConditionValidator.get( compiledNsd, nsIdentification, anyLNClass, true );
         
         AnyLNClass lnClass = anyLNClass;
         while( lnClass != null ) {
@@ -129,12 +118,14 @@ public class LNClassValidator {
                     continue;
                 }
                 
-                Pair< CDCValidator, NsIdentification > res = CDCValidator.get( this.nsIdentification, cdc );
+                Pair< CDCValidator, NsIdentification > res = CDCValidator.get( compiledNsd, this.nsIdentification, cdc );
                 CDCValidator cdcValidator = res.getLeft();
                 if( cdcValidator != null ) {
                     dataObjectValidatorMap.put( do_.getName(), cdcValidator );
-                    console.info( LNCLASS_SETUP_NSD_CATEGORY, do_.getFilename(), do_.getLineNumber(),
-                                    "CDC for DataObject \"", do_.getName(), "\" found with type ", do_.getType() );
+                    if( NsdValidator.isEnabled( console, Severity.INFO )) {
+                        console.info( LNCLASS_SETUP_NSD_CATEGORY, do_.getFilename(), do_.getLineNumber(),
+                                        "CDC for DataObject \"", do_.getName(), "\" found with type ", do_.getType() );
+                    }
                 }
                 else {
                     console.warning( LNCLASS_SETUP_NSD_CATEGORY, do_.getFilename(), do_.getLineNumber(),
@@ -148,15 +139,15 @@ public class LNClassValidator {
 
             lnClass = lnClass.getRefersToAbstractLNClass();
         }
-        
-        reset();
     }
     
-    public boolean validateLNodeType( LNodeType lNodeType, Map< String, String > doNamespaces, DiagnosticChain diagnostics ) {
+    public boolean validateLNodeType( LNodeType lNodeType, Map< String, String > doNamespaces, NsdValidationContext context, DiagnosticChain diagnostics ) {
         @NonNull
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-        console.debug( LNCLASS_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                       "LNClassValidator.validateLNodeType( ", lNodeType.getId(), " in namespace \"", this.nsIdentification, "\"" );
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( LNCLASS_VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                           "LNClassValidator.validateLNodeType( ", lNodeType.getId(), " in namespace \"", this.nsIdentification, "\"" );
+        }
         
         boolean isStatistic = lNodeType
                 .getDO()
@@ -166,20 +157,20 @@ public class LNClassValidator {
                 isStatistic
                     ? statisticalDataObjectPresenceConditionValidator
                     : notStatisticalDataObjectPresenceConditionValidator;
+        DataObjectPresenceConditionValidator.PresentDOs presentDOs = dataObjectPresenceConditionValidator.newPresentDOs();
         
         boolean res = true;
 
         // Each DO of an LNodeType must satisfy the presence condition of the corresponding DataObject (same name)
-        dataObjectPresenceConditionValidator.reset();
         lNodeType
         .getDO()
         .stream()
         .filter( do_ -> nsIdentification.dependsOn( NsIdentification.of( doNamespaces.get( do_.getName() ))))
         .forEach( do_ -> {
-            dataObjectPresenceConditionValidator.addDO( do_, diagnostics );
+            dataObjectPresenceConditionValidator.addDO( presentDOs, do_, diagnostics );
         });
       
-        res = dataObjectPresenceConditionValidator.validate( lNodeType, diagnostics ) && res;
+        res = dataObjectPresenceConditionValidator.validate( presentDOs, lNodeType, diagnostics ) && res;
         
         // The type of each DO must conform to the CDC of the corresponding DataObject
         for( DO do_ : lNodeType.getDO() ) {
@@ -234,7 +225,7 @@ public class LNClassValidator {
                             warning.getMessage(),
                             new Object[] { do_, warning } ));
                 }
-                res = cdcValidator.validateDO( do_, diagnostics ) && res;
+                res = cdcValidator.validateDO( do_, context, diagnostics ) && res;
             }
             else {
                 RiseClipseMessage warning = RiseClipseMessage.warning( LNCLASS_VALIDATION_NSD_CATEGORY, do_.getFilename(), do_.getLineNumber(), 
@@ -42,10 +42,13 @@ import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValida
 import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
 public class NsdEObjectValidator implements EValidator {
 
     private NsdResourceSetImpl nsdResourceSet;
+    // Not modified after the constructor, so it can be used by several validations at the same time
+    private CompiledNsd compiledNsd = new CompiledNsd();
 
     public NsdEObjectValidator( NsdResourceSetImpl nsdResourceSet, IRiseClipseConsole console ) {
         // We keep it to improve some error messages
@@ -60,34 +63,47 @@ public class NsdEObjectValidator implements EValidator {
         // validator for "BehaviourModeKind" is not yet built and therefore not found
         // This is why there are several loops
         for( NsIdentification nsIdentification : nsdResourceSet.getNsIdentificationOrderedList( console )) {
-            console.debug( NsdValidator.SETUP_NSD_CATEGORY, 0, "Building basic and enumeration validators in namespace \"", nsIdentification, "\"" );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( NsdValidator.SETUP_NSD_CATEGORY, 0, "Building basic and enumeration validators in namespace \"", nsIdentification, "\"" );
+            }
             // Order is important !
             TypeValidator.buildBasicTypeValidators(
+                    compiledNsd,
                     nsIdentification,
                     nsdResourceSet.getBasicTypeStream( nsIdentification, false ),
                     console );
             TypeValidator.builEnumerationdValidators(
+                    compiledNsd,
                     nsIdentification,
                     nsdResourceSet.getEnumerationStream( nsIdentification, false ),
                     console );
         }
         for( NsIdentification nsIdentification : nsdResourceSet.getNsIdentificationOrderedList( console )) {
-            console.debug( NsdValidator.SETUP_NSD_CATEGORY, 0, "Building constructed attributes validators in namespace \"", nsIdentification, "\"" );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( NsdValidator.SETUP_NSD_CATEGORY, 0, "Building constructed attributes validators in namespace \"", nsIdentification, "\"" );
+            }
             TypeValidator.buildConstructedAttributeValidators(
+                    compiledNsd,
                     nsIdentification,
                     nsdResourceSet.getConstructedAttributeStream( nsIdentification, false ),
                     console );
         }
         for( NsIdentification nsIdentification : nsdResourceSet.getNsIdentificationOrderedList( console )) {
-            console.debug( NsdValidator.SETUP_NSD_CATEGORY, 0, "Building CDC validators in namespace \"", nsIdentification, "\"" );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( NsdValidator.SETUP_NSD_CATEGORY, 0, "Building CDC validators in namespace \"", nsIdentification, "\"" );
+            }
             CDCValidator.buildValidators(
+                    compiledNsd,
                     nsIdentification,
                     nsdResourceSet.getCDCStream( nsIdentification, false ),
                     console );
         }
         for( NsIdentification nsIdentification : nsdResourceSet.getNsIdentificationOrderedList( console )) {
-            console.debug( NsdValidator.SETUP_NSD_CATEGORY, 0, "Building LNClass validators in namespace \"", nsIdentification, "\"" );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( NsdValidator.SETUP_NSD_CATEGORY, 0, "Building LNClass validators in namespace \"", nsIdentification, "\"" );
+            }
             LNClassValidator.buildValidators(
+                    compiledNsd,
                     nsIdentification,
                     nsdResourceSet.getLNClassStream( nsIdentification, false ),
                     console );
@@ -97,9 +113,9 @@ public class NsdEObjectValidator implements EValidator {
         // DO/SDO names should be composed of standardised abbreviations listed in IEC 61850-7-4
         // No need to look for the namespace to find the correct version of 7-4 to apply : just use the latest one available
         
-        // We take all abbreviations of all namespaces, and use a singleton validator implemented with static 
+        // We take all abbreviations of all namespaces, and use a single validator
         for( NsIdentification nsIdentification : nsdResourceSet.getNsIdentificationOrderedList( console )) {
-            DONameValidator.addFrom( nsdResourceSet.getAbbreviationStream( nsIdentification, false ));
+            compiledNsd.doNameValidator.addFrom( nsdResourceSet.getAbbreviationStream( nsIdentification, false ));
         }
         
         // Issue https://github.com/riseclipse/riseclipse-validator-scl2003/issues/161
@@ -107,20 +123,11 @@ public class NsdEObjectValidator implements EValidator {
         for( NsIdentification nsIdentification : nsdResourceSet.getNsIdentificationOrderedList( console )) {
             // TODO: what is a standard namespace?
             if( nsIdentification.getId().startsWith( "IEC" )) {
-                StandardDOValidator.addFrom( nsdResourceSet.getLNClassStream( nsIdentification, false ));
+                compiledNsd.standardDOValidator.addFrom( nsdResourceSet.getLNClassStream( nsIdentification, false ));
             }
         }
     }
 
-    /*
-     * Called before another file is validated
-     */
-    public void reset() {
-        TypeValidator.resetValidators();
-        CDCValidator.resetValidators();
-        LNClassValidator.resetValidators();
-    }
-
     @Override
     public boolean validate( EObject eObject, DiagnosticChain diagnostics, Map< Object, Object > context ) {
         return validate( eObject.eClass(), eObject, diagnostics, context );
@@ -181,7 +188,16 @@ public class NsdEObjectValidator implements EValidator {
                     do_ -> doiNamespaces.putIfAbsent( do_.getName(), do_.getNamespace() == null ? anyLN.getNamespace() : do_.getNamespace() )
                 );
 
-                return validateLNodeType( anyLN.getRefersToLNodeType(), nsId, doiNamespaces, diagnostics );
+                // Messages of a previous validation of the same LNodeType in the same namespaces would be the same,
+                // they are already in diagnostics
+                NsdValidationContext nsdContext = NsdValidationContext.of( context );
+                Boolean previous = nsdContext.previousLNodeTypeValidation( anyLN.getRefersToLNodeType(), nsId, doiNamespaces );
+                if( previous != null ) return previous;
+                NsdTypeEvent event = NsdTypeEvent.start();
+                boolean result = validateLNodeType( anyLN.getRefersToLNodeType(), nsId, doiNamespaces, nsdContext, diagnostics );
+                event.finish( "LNodeType", anyLN.getRefersToLNodeType().getId(), anyLN.getRefersToLNodeType().getFilename(), nsId );
+                nsdContext.lNodeTypeValidated( anyLN.getRefersToLNodeType(), nsId, doiNamespaces, result );
+                return result;
             }
 
             @Override
@@ -195,10 +211,12 @@ public class NsdEObjectValidator implements EValidator {
         return sw.doSwitch( eObject );
     }
 
-    protected boolean validateLNodeType( LNodeType lNodeType, NsIdentification nsIdentification, Map< String, String > doNamespaces, DiagnosticChain diagnostics ) {
+    protected boolean validateLNodeType( LNodeType lNodeType, NsIdentification nsIdentification, Map< String, String > doNamespaces, NsdValidationContext context, DiagnosticChain diagnostics ) {
         IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
-        console.debug( NsdValidator.VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                "NsdEObjectValidator.validateLNodeType( ", lNodeType.getId(), ")" );
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( NsdValidator.VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                    "NsdEObjectValidator.validateLNodeType( ", lNodeType.getId(), ")" );
+        }
         
         // Part of validation that can be done even if the LNClass is unknown
         lNodeType
@@ -207,7 +225,7 @@ public class NsdEObjectValidator implements EValidator {
         .forEach( do_ -> {
             // DO.Name shall be a combination of the abbreviations listed in 7-4 NSD file
             // This must be verified even for an unknown namespace
-            if( ! DONameValidator.validateDoName( do_.getName() )) {
+            if( ! compiledNsd.doNameValidator.validateDoName( do_.getName() )) {
                 RiseClipseMessage warning = RiseClipseMessage.warning( NsdValidator.VALIDATION_NSD_CATEGORY, do_.getFilename(), do_.getLineNumber(), 
                         "DO \"", do_.getName(), "\" is not composed using standardised abbreviations" );
                 diagnostics.add( new BasicDiagnostic(
@@ -220,12 +238,12 @@ public class NsdEObjectValidator implements EValidator {
             
             // If the DO use a standard name, it must use the same CDC and respect the multi presence condition
             // The check should be OK for standard namespace, so let's do it for all
-            if( StandardDOValidator.isStandardDoName( do_.getName() )) {
+            if( compiledNsd.standardDOValidator.isStandardDoName( do_.getName() )) {
                 if( do_.getRefersToDOType() != null ) {
-                    if( ! StandardDOValidator.validateCdcOfExtendedDO( do_.getName(), do_.getRefersToDOType().getCdc() )) {
+                    if( ! compiledNsd.standardDOValidator.validateCdcOfExtendedDO( do_.getName(), do_.getRefersToDOType().getCdc() )) {
                         RiseClipseMessage warning = RiseClipseMessage.warning( NsdValidator.VALIDATION_NSD_CATEGORY, do_.getFilename(), do_.getLineNumber(), 
                                 "DO \"", do_.getName(), "\" use a standard name, but not the standard CDC, it is \"", do_.getRefersToDOType().getCdc(),
-                                "\", it should be \"", StandardDOValidator.getStandardCdcOfDataObject( do_.getName() ), "\"");
+                                "\", it should be \"", compiledNsd.standardDOValidator.getStandardCdcOfDataObject( do_.getName() ), "\"");
                         diagnostics.add( new BasicDiagnostic(
                                 Diagnostic.WARNING,
                                 RiseClipseValidatorSCL.DIAGNOSTIC_SOURCE,
@@ -235,7 +253,7 @@ public class NsdEObjectValidator implements EValidator {
                     }
                 }
                 
-                if( ! StandardDOValidator.isStandardDoMulti( do_.getName() ) && do_.getName().matches( "[a-zA-Z]+\\d+" )) {
+                if( ! compiledNsd.standardDOValidator.isStandardDoMulti( do_.getName() ) && do_.getName().matches( "[a-zA-Z]+\\d+" )) {
                     RiseClipseMessage warning = RiseClipseMessage.warning( NsdValidator.VALIDATION_NSD_CATEGORY, do_.getFilename(), do_.getLineNumber(), 
                             "DO \"", do_.getName(), "\" use a standard name, but is instantiated while the standard one is not" );
                     diagnostics.add( new BasicDiagnostic(
@@ -250,7 +268,7 @@ public class NsdEObjectValidator implements EValidator {
         
         if( nsIdentification == null ) return false;
         
-        Pair< LNClassValidator, NsIdentification > lnClassValidator = LNClassValidator.get( nsIdentification, lNodeType.getLnClass() );
+        Pair< LNClassValidator, NsIdentification > lnClassValidator = LNClassValidator.get( compiledNsd, nsIdentification, lNodeType.getLnClass() );
         
         if( lnClassValidator.getLeft() == null ) {
             // Message already displayed for unknown namespaces
@@ -267,10 +285,12 @@ public class NsdEObjectValidator implements EValidator {
             return false;
         }
 
-        console.info( NsdValidator.VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
-                           "LNClassValidator \"", lNodeType.getLnClass(), "\" found for LNodeType \"", lNodeType.getId(), "\" in namespace \"" + lnClassValidator.getRight() + "\"" );
+        if( NsdValidator.isEnabled( console, Severity.INFO )) {
+            console.info( NsdValidator.VALIDATION_NSD_CATEGORY, lNodeType.getFilename(), lNodeType.getLineNumber(),
+                               "LNClassValidator \"", lNodeType.getLnClass(), "\" found for LNodeType \"", lNodeType.getId(), "\" in namespace \"" + lnClassValidator.getRight() + "\"" );
+        }
 
-        return lnClassValidator.getLeft().validateLNodeType( lNodeType, doNamespaces, diagnostics );
+        return lnClassValidator.getLeft().validateLNodeType( lNodeType, doNamespaces, context, diagnostics );
     }
 
     @Override
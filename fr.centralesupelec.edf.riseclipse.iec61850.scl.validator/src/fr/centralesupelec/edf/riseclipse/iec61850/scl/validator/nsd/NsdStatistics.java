@@ -0,0 +1,193 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+
+/*
+ * Counters of the work done by NSD validators, for all validated files since the start or the last reset.
+ * They are shared by all threads, LongAdder keeps their update cheap.
+ * A DOType, DAType or EnumType is validated once per file: the next validations of the same type are cache hits.
+ */
+public final class NsdStatistics implements NsdStatisticsMXBean {
+
+    public static final String OBJECT_NAME = "fr.centralesupelec.edf.riseclipse.iec61850.scl.validator:type=NsdStatistics";
+
+    private static final NsdStatistics INSTANCE = new NsdStatistics();
+
+    private final LongAdder doTypeValidations = new LongAdder();
+    private final LongAdder doTypeCacheHits = new LongAdder();
+    private final LongAdder daTypeValidations = new LongAdder();
+    private final LongAdder daTypeCacheHits = new LongAdder();
+    private final LongAdder enumTypeValidations = new LongAdder();
+    private final LongAdder enumTypeCacheHits = new LongAdder();
+    private final ConcurrentHashMap< String, LongAdder > presenceConditions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap< String, LongAdder > valValues = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap< String, LongAdder > daiValues = new ConcurrentHashMap<>();
+
+    private NsdStatistics() {}
+
+    public static @NonNull NsdStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /*
+     * Does nothing if already registered
+     */
+    public static void register( @NonNull IRiseClipseConsole console ) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName( OBJECT_NAME );
+            if( ! server.isRegistered( name )) {
+                server.registerMBean( INSTANCE, name );
+            }
+        }
+        catch( JMException e ) {
+            console.info( NsdValidator.VALIDATION_NSD_CATEGORY, 0, "NSD statistics are not available through JMX: ", e.getMessage() );
+        }
+    }
+
+    // Package visibility, used by validators
+
+    static void doTypeValidation( boolean first ) {
+        ( first ? INSTANCE.doTypeValidations : INSTANCE.doTypeCacheHits ).increment();
+    }
+
+    static void daTypeValidation( boolean first ) {
+        ( first ? INSTANCE.daTypeValidations : INSTANCE.daTypeCacheHits ).increment();
+    }
+
+    static void enumTypeValidation( boolean first ) {
+        ( first ? INSTANCE.enumTypeValidations : INSTANCE.enumTypeCacheHits ).increment();
+    }
+
+    static void presenceConditionsEvaluated( @NonNull String kind, int count ) {
+        if( count == 0 ) return;
+        INSTANCE.presenceConditions.computeIfAbsent( kind, k -> new LongAdder() ).add( count );
+    }
+
+    static void valuesChecked( @NonNull String basicType, int vals, int daiVals ) {
+        if( vals > 0 ) INSTANCE.valValues.computeIfAbsent( basicType, k -> new LongAdder() ).add( vals );
+        if( daiVals > 0 ) INSTANCE.daiValues.computeIfAbsent( basicType, k -> new LongAdder() ).add( daiVals );
+    }
+
+    @Override
+    public long getDOTypeValidations() {
+        return doTypeValidations.sum();
+    }
+
+    @Override
+    public long getDOTypeCacheHits() {
+        return doTypeCacheHits.sum();
+    }
+
+    @Override
+    public long getDATypeValidations() {
+        return daTypeValidations.sum();
+    }
+
+    @Override
+    public long getDATypeCacheHits() {
+        return daTypeCacheHits.sum();
+    }
+
+    @Override
+    public long getEnumTypeValidations() {
+        return enumTypeValidations.sum();
+    }
+
+    @Override
+    public long getEnumTypeCacheHits() {
+        return enumTypeCacheHits.sum();
+    }
+
+    @Override
+    public Map< String, Long > getPresenceConditions() {
+        return sums( presenceConditions );
+    }
+
+    @Override
+    public Map< String, Long > getValValues() {
+        return sums( valValues );
+    }
+
+    @Override
+    public Map< String, Long > getDaiValues() {
+        return sums( daiValues );
+    }
+
+    private static Map< String, Long > sums( Map< String, LongAdder > counters ) {
+        TreeMap< String, Long > sums = new TreeMap<>();
+        counters.forEach( ( k, v ) -> sums.put( k, v.sum() ));
+        return sums;
+    }
+
+    @Override
+    public void reset() {
+        doTypeValidations.reset();
+        doTypeCacheHits.reset();
+        daTypeValidations.reset();
+        daTypeCacheHits.reset();
+        enumTypeValidations.reset();
+        enumTypeCacheHits.reset();
+        presenceConditions.clear();
+        valValues.clear();
+        daiValues.clear();
+    }
+
+    public void display( @NonNull IRiseClipseConsole console, @NonNull String category ) {
+        console.info( category, 0, "NSD validation statistics" );
+        displayHits( console, category, "DOType", getDOTypeValidations(), getDOTypeCacheHits() );
+        displayHits( console, category, "DAType", getDATypeValidations(), getDATypeCacheHits() );
+        displayHits( console, category, "EnumType", getEnumTypeValidations(), getEnumTypeCacheHits() );
+        getPresenceConditions().forEach( ( kind, count ) ->
+            console.info( category, 0, "\tpresence condition ", kind, " evaluated for ", count, " elements" ));
+        Map< String, Long > val = getValValues();
+        Map< String, Long > dai = getDaiValues();
+        TreeSet< String > types = new TreeSet<>( val.keySet() );
+        types.addAll( dai.keySet() );
+        for( String type : types ) {
+            console.info( category, 0, "\t", type, " values checked: ", val.getOrDefault( type, 0L ), " in DA/BDA, ",
+                          dai.getOrDefault( type, 0L ), " in DAI" );
+        }
+    }
+
+    private static void displayHits( IRiseClipseConsole console, String category, String type, long validations, long hits ) {
+        long total = validations + hits;
+        console.info( category, 0, "\t", type, ": ", validations, " validations, ", hits, " cache hits",
+                      ( total == 0 ) ? "" : String.format( Locale.ROOT, " (%.1f%% hit rate)", 100.0 * hits / total ));
+    }
+
+}
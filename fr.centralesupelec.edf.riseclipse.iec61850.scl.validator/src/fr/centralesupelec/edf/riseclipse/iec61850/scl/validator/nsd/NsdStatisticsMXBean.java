@@ -0,0 +1,46 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
+
+import java.util.Map;
+
+/*
+ * What NsdStatistics exposes through JMX
+ */
+public interface NsdStatisticsMXBean {
+
+    long getDOTypeValidations();
+    long getDOTypeCacheHits();
+    long getDATypeValidations();
+    long getDATypeCacheHits();
+    long getEnumTypeValidations();
+    long getEnumTypeCacheHits();
+
+    // Key is the presence condition, value is the number of elements it has been evaluated for
+    Map< String, Long > getPresenceConditions();
+
+    // Key is the basic type, value is the number of checked values
+    Map< String, Long > getValValues();
+    Map< String, Long > getDaiValues();
+
+    void reset();
+
+}
@@ -0,0 +1,74 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+**
+**  This file is part of the RiseClipse tool
+**
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/*
+ * Java Flight Recorder event for the NSD validation of one SCL type (LNodeType, DOType).
+ * Only slow validations are recorded, the threshold can be changed in the JFR settings.
+ * Fields are only set when the event is recorded.
+ */
+@Name( "fr.centralesupelec.edf.riseclipse.NsdTypeValidation" )
+@Label( "NSD Type Validation" )
+@Description( "NSD validation of an SCL LNodeType or DOType" )
+@Category( { "RiseClipse", "SCL Validator", "NSD" } )
+@StackTrace( false )
+@Threshold( "1 ms" )
+class NsdTypeEvent extends Event {
+
+    @Label( "File" )
+    String file;
+
+    @Label( "Type" )
+    String type;
+
+    @Label( "Id" )
+    String id;
+
+    @Label( "Namespace" )
+    String namespace;
+
+    static NsdTypeEvent start() {
+        NsdTypeEvent event = new NsdTypeEvent();
+        event.begin();
+        return event;
+    }
+
+    void finish( String type, String id, String file, Object namespace ) {
+        end();
+        if( shouldCommit() ) {
+            this.type = type;
+            this.id = id;
+            this.file = file;
+            this.namespace = String.valueOf( namespace );
+            commit();
+        }
+    }
+
+}
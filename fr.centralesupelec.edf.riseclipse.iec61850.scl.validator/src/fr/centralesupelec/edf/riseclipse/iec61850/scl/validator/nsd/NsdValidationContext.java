@@ -0,0 +1,71 @@
+/*
+*************************************************************************
+**  Copyright (c) 2026 CentraleSupélec & EDF.
+**  All rights reserved. This program and the accompanying materials
+**  are made available under the terms of the Eclipse Public License v2.0
+**  which accompanies this distribution, and is available at
+**  https://www.eclipse.org/legal/epl-v20.html
+** 
+**  This file is part of the RiseClipse tool
+**  
+**  Contributors:
+**      Computer Science Department, CentraleSupélec
+**      EDF R&D
+**  Contacts:
+**      dominique.marcadet@centralesupelec.fr
+**      aurelie.dehouck-neveu@edf.fr
+**  Web site:
+**      https://riseclipse.github.io/
+*************************************************************************
+*/
+package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.centralesupelec.edf.riseclipse.iec61850.nsd.util.NsIdentification;
+import fr.centralesupelec.edf.riseclipse.iec61850.scl.LNodeType;
+
+/*
+ * What is specific to the validation of one SCL file by the validators of a CompiledNsd.
+ * It is kept in the context map given by the Diagnostician, so a new one is used for each file.
+ * The components found in a DOType, DAType or LNodeType are not kept here, they are only needed while
+ * it is validated (see GenericPresenceConditionValidator.PresentComponents and DataObjectPresenceConditionValidator.PresentDOs).
+ */
+public class NsdValidationContext {
+
+    // Key is the validator, value is the set of ids (DOType, DAType, EnumType) it has already validated
+    private IdentityHashMap< Object, HashSet< String > > validatedIds = new IdentityHashMap<>();
+    // Key is ( LNodeType, NsIdentification, namespaces of its DO ), value is the result of its validation
+    private HashMap< List< Object >, Boolean > validatedLNodeTypes = new HashMap<>();
+
+    public static NsdValidationContext of( Map< Object, Object > context ) {
+        if( context == null ) return new NsdValidationContext();
+        return ( NsdValidationContext ) context.computeIfAbsent( NsdValidationContext.class, k -> new NsdValidationContext() );
+    }
+
+    /*
+     * Returns true if the element with the given id has not already been validated by the validator,
+     * and remembers that it is now.
+     */
+    boolean firstValidation( Object validator, String id ) {
+        return validatedIds.computeIfAbsent( validator, k -> new HashSet<>() ).add( id );
+    }
+
+    /*
+     * Many LN share the same LNodeType, its validation only depends on the namespace of the LN and on those of its DOI.
+     * Returns null if the LNodeType has not already been validated with these namespaces.
+     */
+    Boolean previousLNodeTypeValidation( LNodeType lNodeType, NsIdentification nsIdentification, Map< String, String > doNamespaces ) {
+        return validatedLNodeTypes.get( Arrays.asList( lNodeType, nsIdentification, doNamespaces ));
+    }
+
+    void lNodeTypeValidated( LNodeType lNodeType, NsIdentification nsIdentification, Map< String, String > doNamespaces, boolean result ) {
+        validatedLNodeTypes.put( Arrays.asList( lNodeType, nsIdentification, new HashMap<>( doNamespaces )), result );
+    }
+
+}
@@ -40,6 +40,13 @@ public class NsdValidator  implements EValidator {
     static final String     VALIDATION_NSD_CATEGORY = "NSD/Validation";
     static final String NOTIMPLEMENTED_NSD_CATEGORY = "NSD/NotImplemented";
     
+    // Package visibility
+    // Debug, info and notice messages are guarded by this test: their arguments are neither
+    // boxed nor put in an array when the console would discard them
+    static boolean isEnabled( @NonNull IRiseClipseConsole console, @NonNull Severity severity ) {
+        return severity.compareTo( console.getLevel() ) <= 0;
+    }
+
     private @NonNull NsdModelLoader nsdLoader;
     private @NonNull NsdEObjectValidator nsdEObjectValidator;
 
@@ -67,10 +74,6 @@ public class NsdValidator  implements EValidator {
         return nsdLoader;
     }
 
-    public void reset() {
-        nsdEObjectValidator.reset();
-    }
-
     @Override
     public boolean validate( EObject eObject, DiagnosticChain diagnostics, Map< Object, Object > context ) {
         return nsdEObjectValidator.validate( eObject, diagnostics, context );
@@ -28,10 +28,10 @@ import fr.centralesupelec.edf.riseclipse.iec61850.nsd.LNClass;
 
 public class StandardDOValidator {
     
-    private static HashMap< String, String > cdcOfDataObject = new HashMap<>();
-    private static HashSet< String > multiDataObject = new HashSet<>();
+    private HashMap< String, String > cdcOfDataObject = new HashMap<>();
+    private HashSet< String > multiDataObject = new HashSet<>();
 
-    public static void addFrom( Stream< LNClass > stream ) {
+    public void addFrom( Stream< LNClass > stream ) {
         stream.forEach( lnClass -> lnClass.getDataObject().stream().forEach( do_ -> {
             cdcOfDataObject.put( do_.getName(), do_.getType() );
             if( do_.getPresCond().contains( "multi" )) {
@@ -40,22 +40,23 @@ public class StandardDOValidator {
         }));
     }
 
-    public static boolean isStandardDoName( String doName ) {
+    public boolean isStandardDoName( String doName ) {
         return cdcOfDataObject.containsKey( doName );
     }
     
-    public static String getStandardCdcOfDataObject( String doName ) {
+    public String getStandardCdcOfDataObject( String doName ) {
         return cdcOfDataObject.get( doName );
     }
 
-    public static boolean validateCdcOfExtendedDO( String doName, String cdcName ) {
+    public boolean validateCdcOfExtendedDO( String doName, String cdcName ) {
         return getStandardCdcOfDataObject( doName ).equals( cdcName );
     }
     
-    public static boolean isStandardDoMulti( String doName ) {
+    public boolean isStandardDoMulti( String doName ) {
         return multiDataObject.contains( doName );
     }
 
-    private StandardDOValidator() {}
+    // Package visibility, there is one in each CompiledNsd
+    StandardDOValidator() {}
 }
 
@@ -20,10 +20,12 @@
 */
 package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
 
-import java.util.IdentityHashMap;
+import java.util.HashMap;
+
 import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 
 import fr.centralesupelec.edf.riseclipse.iec61850.nsd.ConstructedAttribute;
@@ -32,28 +34,33 @@ import fr.centralesupelec.edf.riseclipse.iec61850.nsd.util.NsIdentificationName;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.BDA;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.DAType;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValidatorSCL;
+import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
-public class SubDataAttributePresenceConditionValidator extends GenericPresenceConditionValidator< ConstructedAttribute, DAType, @Nullable BDA >{
+public final class SubDataAttributePresenceConditionValidator extends GenericPresenceConditionValidator< ConstructedAttribute, DAType, @Nullable BDA >{
     
     private static final String SDA_SETUP_NSD_CATEGORY      = NsdValidator.SETUP_NSD_CATEGORY      + "/SubDataAttribute";
     private static final String SDA_VALIDATION_NSD_CATEGORY = NsdValidator.VALIDATION_NSD_CATEGORY + "/SubDataAttribute";
 
-    private static IdentityHashMap< NsIdentificationName, SubDataAttributePresenceConditionValidator > validators = new IdentityHashMap<>();
-    
-    public static SubDataAttributePresenceConditionValidator get( NsIdentification nsIdentification, ConstructedAttribute constructedAttribute ) {
+    public static SubDataAttributePresenceConditionValidator get( CompiledNsd compiledNsd, NsIdentification nsIdentification, ConstructedAttribute constructedAttribute ) {
         // TODO: do we need to use dependsOn links?
-        if( ! validators.containsKey( NsIdentificationName.of( nsIdentification, constructedAttribute.getName() ))) {
-            validators.put( NsIdentificationName.of( nsIdentification, constructedAttribute.getName() ), new SubDataAttributePresenceConditionValidator( nsIdentification, constructedAttribute ));
+        if( ! compiledNsd.subDataAttributePresenceConditionValidators.containsKey( NsIdentificationName.of( nsIdentification, constructedAttribute.getName() ))) {
+            compiledNsd.subDataAttributePresenceConditionValidators.put( NsIdentificationName.of( nsIdentification, constructedAttribute.getName() ), new SubDataAttributePresenceConditionValidator( nsIdentification, constructedAttribute ));
         }
-        return validators.get( NsIdentificationName.of( nsIdentification, constructedAttribute.getName() ) );
+        return compiledNsd.subDataAttributePresenceConditionValidators.get( NsIdentificationName.of( nsIdentification, constructedAttribute.getName() ) );
     }
     
     public SubDataAttributePresenceConditionValidator( NsIdentification nsIdentification, ConstructedAttribute constructedAttribute ) {
         super( nsIdentification, constructedAttribute );
+        @NonNull
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
 
-        console.debug( SDA_SETUP_NSD_CATEGORY, constructedAttribute.getFilename(), constructedAttribute.getLineNumber(),
-                "SubDataAttributePresenceConditionValidator( \"", constructedAttribute.getName(), "\" in namespace \"", nsIdentification, "\" )");
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( SDA_SETUP_NSD_CATEGORY, constructedAttribute.getFilename(), constructedAttribute.getLineNumber(),
+                    "SubDataAttributePresenceConditionValidator( \"", constructedAttribute.getName(), "\" in namespace \"", nsIdentification, "\" )");
+        }
         
         initialize();
     }
@@ -116,7 +123,7 @@ public class SubDataAttributePresenceConditionValidator extends GenericPresenceC
     }
 
     @Override
-    protected boolean validateMFln0( DAType sclModel, DiagnosticChain diagnostics ) {
+    protected boolean validateMFln0( HashMap< String, BDA > presentSclComponent, DAType sclModel, DiagnosticChain diagnostics ) {
         for( String name : mandatoryInLLN0ElseForbidden ) {
             if( presentSclComponent.get( name ) != null ) {
                 RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -135,7 +142,7 @@ public class SubDataAttributePresenceConditionValidator extends GenericPresenceC
     }
 
     @Override
-    protected boolean validateMOln0( DAType sclModel, DiagnosticChain diagnostics ) {
+    protected boolean validateMOln0( HashMap< String, BDA > presentSclComponent, DAType sclModel, DiagnosticChain diagnostics ) {
         for( String name : mandatoryInLLN0ElseOptional ) {
             if( presentSclComponent.get( name ) != null ) {
                 RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -154,7 +161,7 @@ public class SubDataAttributePresenceConditionValidator extends GenericPresenceC
     }
 
     @Override
-    protected boolean validateOMSynPh( DAType sclModel, DiagnosticChain diagnostics ) {
+    protected boolean validateOMSynPh( HashMap< String, BDA > presentSclComponent, DAType sclModel, DiagnosticChain diagnostics ) {
         for( String name : optionalIfPhsRefIsSynchrophasorElseMandatory ) {
             if( presentSclComponent.get( name ) != null ) {
                 RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
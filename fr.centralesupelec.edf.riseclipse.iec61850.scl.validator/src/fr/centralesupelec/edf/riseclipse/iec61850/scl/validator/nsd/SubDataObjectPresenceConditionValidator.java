@@ -20,13 +20,14 @@
 */
 package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
 
-import java.util.IdentityHashMap;
+import java.util.HashMap;
 import java.util.Optional;
 
 import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.DiagnosticChain;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 
 import fr.centralesupelec.edf.riseclipse.iec61850.nsd.CDC;
@@ -37,28 +38,33 @@ import fr.centralesupelec.edf.riseclipse.iec61850.scl.DOType;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.SDO;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.Val;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.RiseClipseValidatorSCL;
+import fr.centralesupelec.edf.riseclipse.util.AbstractRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
 import fr.centralesupelec.edf.riseclipse.util.RiseClipseMessage;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
-public class SubDataObjectPresenceConditionValidator extends GenericPresenceConditionValidator< CDC, DOType, @Nullable SDO >{
+public final class SubDataObjectPresenceConditionValidator extends GenericPresenceConditionValidator< CDC, DOType, @Nullable SDO >{
 
     private static final String SDO_SETUP_NSD_CATEGORY      = NsdValidator.SETUP_NSD_CATEGORY      + "/SubDataObject";
     private static final String SDO_VALIDATION_NSD_CATEGORY = NsdValidator.VALIDATION_NSD_CATEGORY + "/SubDataObject";
 
-    private static IdentityHashMap< NsIdentificationName, SubDataObjectPresenceConditionValidator > validators = new IdentityHashMap<>();
-    
-    public static SubDataObjectPresenceConditionValidator get( NsIdentification nsIdentification, CDC cdc ) {
+    public static SubDataObjectPresenceConditionValidator get( CompiledNsd compiledNsd, NsIdentification nsIdentification, CDC cdc ) {
         // TODO: do we need to use dependsOn links?
-        if( ! validators.containsKey( NsIdentificationName.of( nsIdentification, cdc.getName() ))) {
-            validators.put( NsIdentificationName.of( nsIdentification, cdc.getName() ), new SubDataObjectPresenceConditionValidator( nsIdentification, cdc ));
+        if( ! compiledNsd.subDataObjectPresenceConditionValidators.containsKey( NsIdentificationName.of( nsIdentification, cdc.getName() ))) {
+            compiledNsd.subDataObjectPresenceConditionValidators.put( NsIdentificationName.of( nsIdentification, cdc.getName() ), new SubDataObjectPresenceConditionValidator( nsIdentification, cdc ));
         }
-        return validators.get( NsIdentificationName.of( nsIdentification, cdc.getName() ) );
+        return compiledNsd.subDataObjectPresenceConditionValidators.get( NsIdentificationName.of( nsIdentification, cdc.getName() ) );
     }
     
     public SubDataObjectPresenceConditionValidator( NsIdentification nsIdentification, CDC cdc ) {
         super( nsIdentification, cdc );
+        @NonNull
+        IRiseClipseConsole console = AbstractRiseClipseConsole.getConsole();
         
-        console.debug( SDO_SETUP_NSD_CATEGORY, cdc.getFilename(), cdc.getLineNumber(),
-                "SubDataObjectPresenceConditionValidator( \"", cdc.getName(), "\" in namespace \"", nsIdentification, "\" )");
+        if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+            console.debug( SDO_SETUP_NSD_CATEGORY, cdc.getFilename(), cdc.getLineNumber(),
+                    "SubDataObjectPresenceConditionValidator( \"", cdc.getName(), "\" in namespace \"", nsIdentification, "\" )");
+        }
         
         initialize();
     }
@@ -121,7 +127,7 @@ public class SubDataObjectPresenceConditionValidator extends GenericPresenceCond
     }
 
     @Override
-    protected boolean validateMFln0( DOType sclModel, DiagnosticChain diagnostics ) {
+    protected boolean validateMFln0( HashMap< String, SDO > presentSclComponent, DOType sclModel, DiagnosticChain diagnostics ) {
         for( String name : mandatoryInLLN0ElseForbidden ) {
             if( presentSclComponent.get( name ) != null ) {
                 RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -140,7 +146,7 @@ public class SubDataObjectPresenceConditionValidator extends GenericPresenceCond
     }
 
     @Override
-    protected boolean validateMOln0( DOType sclModel, DiagnosticChain diagnostics ) {
+    protected boolean validateMOln0( HashMap< String, SDO > presentSclComponent, DOType sclModel, DiagnosticChain diagnostics ) {
         for( String name : mandatoryInLLN0ElseOptional ) {
             if( presentSclComponent.get( name ) != null ) {
                 RiseClipseMessage notice = RiseClipseMessage.notice( NsdValidator.NOTIMPLEMENTED_NSD_CATEGORY, sclModel.getFilename(), sclModel.getLineNumber(), 
@@ -159,7 +165,7 @@ public class SubDataObjectPresenceConditionValidator extends GenericPresenceCond
     }
 
     @Override
-    protected boolean validateOMSynPh( DOType doType, DiagnosticChain diagnostics ) {
+    protected boolean validateOMSynPh( HashMap< String, SDO > presentSclComponent, DOType doType, DiagnosticChain diagnostics ) {
         boolean res = true;
         
         String sdoName = optionalIfPhsRefIsSynchrophasorElseMandatory.stream().findFirst().get();
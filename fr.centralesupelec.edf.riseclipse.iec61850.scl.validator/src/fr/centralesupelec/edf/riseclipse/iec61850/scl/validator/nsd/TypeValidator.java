@@ -20,7 +20,6 @@
 */
 package fr.centralesupelec.edf.riseclipse.iec61850.scl.validator.nsd;
 
-import java.util.IdentityHashMap;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -35,29 +34,28 @@ import fr.centralesupelec.edf.riseclipse.iec61850.nsd.util.NsIdentification;
 import fr.centralesupelec.edf.riseclipse.iec61850.nsd.util.NsIdentificationObject;
 import fr.centralesupelec.edf.riseclipse.iec61850.scl.AbstractDataAttribute;
 import fr.centralesupelec.edf.riseclipse.util.IRiseClipseConsole;
+import fr.centralesupelec.edf.riseclipse.util.Severity;
 
 public abstract class TypeValidator {
 
-    // There is only one map for all TypeValidator, therefore the namespace is used in the key
+    // There is only one map for all TypeValidator (CompiledNsd.typeValidators), therefore the namespace is used in the key
     // ServiceConstructedAttribute may be parameterized, therefore the name is not an identifier
-    // private static IdentityHashMap< NsIdentificationName, TypeValidator > validators = new IdentityHashMap<>();
-    private static IdentityHashMap< NsIdentificationObject, TypeValidator > validators = new IdentityHashMap<>();
     
-    public static Pair< TypeValidator, NsIdentification > get( NsIdentification nsIdentification, NsdObject type ) {
+    public static Pair< TypeValidator, NsIdentification > get( CompiledNsd compiledNsd, NsIdentification nsIdentification, NsdObject type ) {
         NsIdentification nsId = nsIdentification;
         TypeValidator typeValidator = null;
         while(( typeValidator == null ) && ( nsId != null )) {
-            typeValidator = validators.get( NsIdentificationObject.of( nsId, type ));
+            typeValidator = compiledNsd.typeValidators.get( NsIdentificationObject.of( nsId, type ));
             nsIdentification = nsId;
             nsId = nsId.getDependsOn();
         }
         return Pair.of( typeValidator, nsIdentification );
     }
     
-    public static Pair< TypeValidator, NsIdentification > getByName( NsIdentification nsIdentification, String typeName ) {
+    public static Pair< TypeValidator, NsIdentification > getByName( CompiledNsd compiledNsd, NsIdentification nsIdentification, String typeName ) {
         NsIdentification nsId = nsIdentification;
         while( nsId != null ) {
-            for( TypeValidator validator : validators.values() ) {
+            for( TypeValidator validator : compiledNsd.typeValidators.values() ) {
                 if( validator.getName().equals( typeName ))
                     return Pair.of( validator, nsIdentification );
             }
@@ -69,19 +67,21 @@ public abstract class TypeValidator {
     
     protected abstract String getName();
 
-    public static void buildBasicTypeValidators( NsIdentification nsIdentification, Stream< BasicType > basicTypeStream, IRiseClipseConsole console ) {
+    public static void buildBasicTypeValidators( CompiledNsd compiledNsd, NsIdentification nsIdentification, Stream< BasicType > basicTypeStream, IRiseClipseConsole console ) {
         basicTypeStream
         .forEach( basicType -> {
             NsIdentificationObject nsId = NsIdentificationObject.of( nsIdentification, basicType );
-            if( validators.get( nsId ) != null ) {
+            if( compiledNsd.typeValidators.get( nsId ) != null ) {
                 console.warning( BasicTypeValidator.BASIC_TYPE_SETUP_NSD_CATEGORY, basicType.getFilename(), basicType.getLineNumber(),
                                  "BasicType ", basicType.getName(), " has already a validator in namespace \"",
                                  nsIdentification, "\", it will be overwritten" );
             }
             else {
-                console.debug( BasicTypeValidator.BASIC_TYPE_SETUP_NSD_CATEGORY, basicType.getFilename(), basicType.getLineNumber(),
-                                "Adding validator for BasicType ", basicType.getName(), " in namespace \"",
-                                nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( BasicTypeValidator.BASIC_TYPE_SETUP_NSD_CATEGORY, basicType.getFilename(), basicType.getLineNumber(),
+                                    "Adding validator for BasicType ", basicType.getName(), " in namespace \"",
+                                    nsIdentification, "\"" );
+                }
             }
             // BasicTypes are predefined
             if( BasicTypeValidator.get( basicType ) == null ) {
@@ -90,60 +90,58 @@ public abstract class TypeValidator {
                         nsIdentification, "\" not found" );
                 return;
             }
-            validators.put( nsId, BasicTypeValidator.get( basicType ));
+            compiledNsd.typeValidators.put( nsId, BasicTypeValidator.get( basicType ));
         });
     }
 
-    public static void builEnumerationdValidators( NsIdentification nsIdentification, Stream< Enumeration > enumerationStream, IRiseClipseConsole console ) {
+    public static void builEnumerationdValidators( CompiledNsd compiledNsd, NsIdentification nsIdentification, Stream< Enumeration > enumerationStream, IRiseClipseConsole console ) {
         enumerationStream
         .forEach( enumeration -> {
             NsIdentificationObject nsId = NsIdentificationObject.of( nsIdentification, enumeration );
-            if( validators.get( nsId ) != null ) {
+            if( compiledNsd.typeValidators.get( nsId ) != null ) {
                 console.warning( EnumerationValidator.ENUMERATION_SETUP_NSD_CATEGORY, enumeration.getFilename(), enumeration.getLineNumber(),
                                  "Enumeration ", enumeration.getName(), " has already a validator in namespace \"",
                                  nsIdentification, "\", it will be overwritten" );
             }
             else {
-                console.debug( EnumerationValidator.ENUMERATION_SETUP_NSD_CATEGORY, enumeration.getFilename(), enumeration.getLineNumber(),
-                                "Adding validator for Enumeration ", enumeration.getName(), " in namespace \"",
-                                nsIdentification, "\"" );
+                if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                    console.debug( EnumerationValidator.ENUMERATION_SETUP_NSD_CATEGORY, enumeration.getFilename(), enumeration.getLineNumber(),
+                                    "Adding validator for Enumeration ", enumeration.getName(), " in namespace \"",
+                                    nsIdentification, "\"" );
+                }
             }
-            validators.put( nsId, new EnumerationValidator( enumeration, nsIdentification, console ));
+            compiledNsd.typeValidators.put( nsId, new EnumerationValidator( compiledNsd, enumeration, nsIdentification, console ));
         });
     }
 
-    public static void buildConstructedAttributeValidators( NsIdentification nsIdentification, Stream< ConstructedAttribute > constructedAttributeStream, IRiseClipseConsole console ) {
+    public static void buildConstructedAttributeValidators( CompiledNsd compiledNsd, NsIdentification nsIdentification, Stream< ConstructedAttribute > constructedAttributeStream, IRiseClipseConsole console ) {
         constructedAttributeStream
-        .forEach( constructedAttribute -> buildConstructedAttributeValidator( nsIdentification, constructedAttribute, console ));
+        .forEach( constructedAttribute -> buildConstructedAttributeValidator( compiledNsd, nsIdentification, constructedAttribute, console ));
     }
 
     // A ConstructedAttribute may use another one whose validator has not yet being built
-    public static TypeValidator buildConstructedAttributeValidator( NsIdentification nsIdentification, ConstructedAttribute constructedAttribute, IRiseClipseConsole console ) {
+    public static TypeValidator buildConstructedAttributeValidator( CompiledNsd compiledNsd, NsIdentification nsIdentification, ConstructedAttribute constructedAttribute, IRiseClipseConsole console ) {
         NsIdentificationObject nsId = NsIdentificationObject.of( nsIdentification, constructedAttribute );
-        if( validators.get( nsId ) != null ) {
+        if( compiledNsd.typeValidators.get( nsId ) != null ) {
             // The usual case is when it has been built because used as the type of a SubDataAttribute
-            console.notice( ConstructedAttributeValidator.CA_SETUP_NSD_CATEGORY, constructedAttribute.getFilename(), constructedAttribute.getLineNumber(),
-                             "ConstructedAttribute ", constructedAttribute.getName(), " has already a validator in namespace \"",
-                             nsIdentification, "\", it will be overwritten" );
+            if( NsdValidator.isEnabled( console, Severity.NOTICE )) {
+                console.notice( ConstructedAttributeValidator.CA_SETUP_NSD_CATEGORY, constructedAttribute.getFilename(), constructedAttribute.getLineNumber(),
+                                 "ConstructedAttribute ", constructedAttribute.getName(), " has already a validator in namespace \"",
+                                 nsIdentification, "\", it will be overwritten" );
+            }
         }
         else {
-            console.debug( ConstructedAttributeValidator.CA_SETUP_NSD_CATEGORY, constructedAttribute.getFilename(), constructedAttribute.getLineNumber(),
-                            "Adding validator for ConstructedAttribute ", constructedAttribute.getName(), " in namespace \"",
-                            nsIdentification, "\"" );
+            if( NsdValidator.isEnabled( console, Severity.DEBUG )) {
+                console.debug( ConstructedAttributeValidator.CA_SETUP_NSD_CATEGORY, constructedAttribute.getFilename(), constructedAttribute.getLineNumber(),
+                                "Adding validator for ConstructedAttribute ", constructedAttribute.getName(), " in namespace \"",
+                                nsIdentification, "\"" );
+            }
         }
-        ConstructedAttributeValidator validator = new ConstructedAttributeValidator( nsIdentification, constructedAttribute, console );
-        validators.put( nsId, validator );
+        ConstructedAttributeValidator validator = new ConstructedAttributeValidator( compiledNsd, nsIdentification, constructedAttribute, console );
+        compiledNsd.typeValidators.put( nsId, validator );
         return validator;
     }
 
-    public abstract boolean validateAbstractDataAttribute( AbstractDataAttribute ada, DiagnosticChain diagnostics );
-
-    /*
-     * Called before another file is validated
-     */
-    public static void resetValidators() {
-        validators.values().stream().forEach( v -> v.reset() );
-    }
+    public abstract boolean validateAbstractDataAttribute( AbstractDataAttribute ada, NsdValidationContext context, DiagnosticChain diagnostics );
 
-    public abstract void reset();
 }